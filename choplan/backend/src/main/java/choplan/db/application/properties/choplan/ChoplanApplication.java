@@ -1,5 +1,7 @@
 package choplan.db.application.properties.choplan;
 
+import java.util.Map;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -9,7 +11,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class ChoplanApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ChoplanApplication.class, args);
+		SpringApplication application = new SpringApplication(ChoplanApplication.class);
+		// 기본 노출 actuator 엔드포인트 (설정 파일에서 재정의 가능)
+		application.setDefaultProperties(Map.of("management.endpoints.web.exposure.include", "health,metrics"));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,25 @@
+package choplan.db.application.properties.choplan.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 실시간 이벤트(SSE) 연결 설정
+ * - SSE 는 비동기 요청이라 유휴 연결이 요청 스레드를 점유하지 않으므로, 연결 수 상한만 구독자 규모에 맞춤
+ * - heartbeat 전송을 위해 스케줄링 활성화
+ */
+@Configuration
+@EnableScheduling
+public class EventStreamConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> sseConnectionCustomizer(
+            @Value("${choplan.events.max-connections:60000}") int maxConnections) {
+        return factory -> factory.addConnectorCustomizers(connector ->
+                connector.setProperty("maxConnections", String.valueOf(maxConnections)));
+    }
+}
@@ -0,0 +1,21 @@
+package choplan.db.application.properties.choplan.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션(Flyway) 설정
+ * - 기존에 ddl-auto 로 만들어진 DB 도 이력 테이블 없이 바로 마이그레이션할 수 있도록
+ *   버전 0 으로 baseline 후 V1(기준 스키마, IF NOT EXISTS)부터 적용
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -0,0 +1,98 @@
+package choplan.db.application.properties.choplan.config;
+
+import java.util.List;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 요청 단위 Hibernate SQL 실행 / 엔티티 로드 횟수 집계
+ * - RequestMetricsFilter 가 요청 스레드에 카운터를 열고 닫으며, 카운터가 없는 스레드(배치, 스케줄러)는 집계하지 않음
+ * - SQL 실행은 세션 이벤트 리스너, 엔티티 로드는 POST_LOAD 이벤트 리스너에서 증가
+ */
+public final class HibernateRequestMetrics {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private HibernateRequestMetrics() {
+    }
+
+    static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * hibernate.integrator_provider 설정값 (POST_LOAD 리스너 등록)
+     */
+    static IntegratorProvider integratorProvider() {
+        return () -> List.of(new LoadCountingIntegrator());
+    }
+
+    static final class Counts {
+        private long statements;
+        private long entityLoads;
+
+        long getStatements() {
+            return statements;
+        }
+
+        long getEntityLoads() {
+            return entityLoads;
+        }
+    }
+
+    /**
+     * 세션마다 생성되는 SQL 실행 횟수 리스너 (hibernate.session.events.auto)
+     */
+    public static class StatementCountingListener implements SessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.statements++;
+            }
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            jdbcExecuteStatementStart();
+        }
+    }
+
+    private static final class LoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) HibernateRequestMetrics::onPostLoad);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+
+    private static void onPostLoad(PostLoadEvent event) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+}
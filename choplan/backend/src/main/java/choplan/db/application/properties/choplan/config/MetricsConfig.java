@@ -0,0 +1,36 @@
+package choplan.db.application.properties.choplan.config;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 운영 지표 설정 (/actuator/metrics)
+ * - @Timed("choplan.service") 가 붙은 서비스의 모든 public 메서드 호출 시간 / 횟수 (class, method, exception 태그)
+ * - Hibernate 통계(hibernate.*)와 요청별 SQL / 엔티티 로드 수, 커넥션 풀(hikaricp.*) 지표
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateMetricsCustomizer() {
+        return (Map<String, Object> properties) -> {
+            properties.putIfAbsent("hibernate.generate_statistics", true);
+            // 통계 수집 시 기본으로 켜지는 세션별 INFO 로그는 끔 (지표로 대체)
+            properties.putIfAbsent("hibernate.session.events.log", false);
+            properties.putIfAbsent("hibernate.session.events.auto",
+                    HibernateRequestMetrics.StatementCountingListener.class.getName());
+            properties.putIfAbsent("hibernate.integrator_provider", HibernateRequestMetrics.integratorProvider());
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package choplan.db.application.properties.choplan.config;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청별 Hibernate SQL 실행 수 / 엔티티 로드 수를 URI 패턴별 분포 지표로 기록
+ * - hibernate.request.statements, hibernate.request.entity.loads
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        HibernateRequestMetrics.Counts counts = HibernateRequestMetrics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestMetrics.end();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, HibernateRequestMetrics.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("hibernate.request.statements")
+                .description("요청당 실행된 SQL 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+        DistributionSummary.builder("hibernate.request.entity.loads")
+                .description("요청당 로드된 엔티티 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getEntityLoads());
+    }
+}
@@ -1,7 +1,10 @@
 package choplan.db.application.properties.choplan.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -12,6 +15,8 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import choplan.db.application.properties.choplan.security.JwtAuthenticationFilter;
+import choplan.db.application.properties.choplan.security.LoginRateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -30,13 +36,32 @@ public class SecurityConfig {
 
             // 요청별 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(SSE / 스트리밍) 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 회원가입 / 로그인은 모두 접근 허용
                 .requestMatchers(
                     "/auth/admin/signup", "/auth/admin/login",
                     "/auth/customer/signup", "/auth/customer/login",
-                    "/auth/owner/signup", "/auth/owner/login"
+                    "/auth/owner/signup", "/auth/owner/login",
+                    "/auth/owner/signup/document", "/auth/owner/signup/document/*/complete",
+                    "/auth/token/refresh"
                 ).permitAll()
 
+                // 실시간 이벤트 구독은 일회용 티켓으로 인증 (EventStreamController, 티켓 발급은 인증 필요)
+                .requestMatchers(HttpMethod.GET, "/api/events/stream").permitAll()
+
+                // 로컬 저장소 직접 업로드 (URL 서명으로 검증, LocalUploadController)
+                .requestMatchers(HttpMethod.PUT, "/storage/local-upload/**").permitAll()
+
+                // 저장된 파일 (MediaController): 리뷰 이미지는 공개, 사업자등록증은 관리자 전용
+                .requestMatchers("/media/review-images/**").permitAll()
+                .requestMatchers("/media/business-docs/**").hasRole("ADMIN")
+
+                // 헬스 체크는 공개, 운영 지표는 관리자 전용
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 // 관리자(Admin) 전용
                 .requestMatchers("/admin/**", "/auth/admin/**").hasRole("ADMIN")
 
@@ -59,15 +84,34 @@ public class SecurityConfig {
             // JWT 필터 등록
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+            // 로그인 시도 제한 (DB 조회 / 비밀번호 검증 전에 거절)
+            .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class)
+
             // 기본 로그인 폼 비활성화
             .formLogin(form -> form.disable());
 
         return http.build();
     }
 
+    // 시큐리티 체인에 넣은 필터가 @Component 라서 서블릿 컨테이너에 한 번 더 등록되지 않도록 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<LoginRateLimitFilter> loginRateLimitFilterRegistration() {
+        FilterRegistrationBean<LoginRateLimitFilter> registration = new FilterRegistrationBean<>(loginRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // 해시 비용을 바꾸면 기존 해시는 로그인 시 새 비용으로 재해시됨 (PasswordService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${choplan.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,70 @@
+package choplan.db.application.properties.choplan.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 클라이언트 설정
+ * - 클라이언트는 스레드 안전하고 내부에 커넥션 풀을 가지므로 애플리케이션 전체에서 하나만 생성
+ * - 커넥션 획득 / 연결 / 소켓 / 호출 전체 타임아웃을 두어 S3 지연이 요청 스레드를 무한정 붙잡지 않게 함
+ * - 직접 업로드용 URL 서명은 네트워크 호출 없이 로컬에서 계산되므로 S3Presigner 도 하나만 생성
+ * - 액세스 키가 비어 있으면 기본 자격 증명 체인(환경 변수, 인스턴스 프로파일 등)을 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "choplan.storage.type", havingValue = "s3", matchIfMissing = true)
+public class StorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(@Value("${AWS_REGION}") String region,
+                             @Value("${AWS_ACCESS_KEY_ID:}") String accessKey,
+                             @Value("${AWS_SECRET_ACCESS_KEY:}") String secretKey,
+                             @Value("${choplan.storage.s3.max-connections:50}") int maxConnections,
+                             @Value("${choplan.storage.s3.connection-acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                             @Value("${choplan.storage.s3.connect-timeout-ms:2000}") long connectTimeoutMs,
+                             @Value("${choplan.storage.s3.socket-timeout-ms:30000}") long socketTimeoutMs,
+                             @Value("${choplan.storage.s3.api-call-timeout-ms:120000}") long apiCallTimeoutMs) {
+        return S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials(accessKey, secretKey))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMs))
+                        .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .socketTimeout(Duration.ofMillis(socketTimeoutMs)))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(@Value("${AWS_REGION}") String region,
+                                   @Value("${AWS_ACCESS_KEY_ID:}") String accessKey,
+                                   @Value("${AWS_SECRET_ACCESS_KEY:}") String secretKey) {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials(accessKey, secretKey))
+                .build();
+    }
+
+    private AwsCredentialsProvider credentials(String accessKey, String secretKey) {
+        if (accessKey.isBlank() || secretKey.isBlank()) {
+            return DefaultCredentialsProvider.create();
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+}
@@ -0,0 +1,45 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import choplan.db.application.properties.choplan.dto.ReservationImportRequest;
+import choplan.db.application.properties.choplan.dto.UserImportRequest;
+import choplan.db.application.properties.choplan.service.DataImportService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 예약 시스템 데이터 이전 (ADMIN 전용)
+ */
+@RestController
+@RequestMapping("/admin/import")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final DataImportService dataImportService;
+
+    // 회원 일괄 가져오기
+    @PostMapping("/users")
+    public ResponseEntity<?> importUsers(@RequestBody List<UserImportRequest> requests) {
+        try {
+            return ResponseEntity.ok(dataImportService.importUsers(requests));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 예약 일괄 가져오기
+    @PostMapping("/reservations")
+    public ResponseEntity<?> importReservations(@RequestBody List<ReservationImportRequest> requests) {
+        try {
+            return ResponseEntity.ok(dataImportService.importReservations(requests));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package choplan.db.application.properties.choplan.controller;
 
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
 import choplan.db.application.properties.choplan.entity.Users;
 import choplan.db.application.properties.choplan.entity.CustomerStatus;
 import choplan.db.application.properties.choplan.entity.OwnerStatus;
@@ -27,7 +28,7 @@ public class AdminManagementController {
         List<Map<String, Object>> result = customers.stream()
                 .map(user -> {
                     Map<String, Object> map = new HashMap<>();
-                    map.put("id", user.getId());
+                    map.put("id", user.getUserId());
                     map.put("email", user.getEmail());
                     map.put("realName", user.getRealName());
                     map.put("phone", user.getPhone());
@@ -47,14 +48,20 @@ public class AdminManagementController {
             @RequestParam(required = false) OwnerStatus status) {
 
         List<Users> owners = adminService.findOwners(status);
+        Map<Long, DocumentUpload> uploads = adminService.findDocumentUploads(owners);
         List<Map<String, Object>> result = owners.stream()
                 .map(user -> {
                     Map<String, Object> map = new HashMap<>();
-                    map.put("id", user.getId());
+                    map.put("id", user.getUserId());
                     map.put("email", user.getEmail());
                     map.put("realName", user.getRealName());
                     map.put("phone", user.getPhone());
                     map.put("status", user.getOwnerStatus() != null ? user.getOwnerStatus().name() : null);
+                    map.put("businessDocUrl", user.getBusinessRegistrationDoc());
+                    DocumentUpload upload = uploads.get(user.getUserId());
+                    map.put("documentUploadStatus", upload != null ? upload.getStatus().name() : null);
+                    map.put("documentUploadAttempts", upload != null ? upload.getAttempts() : null);
+                    map.put("documentUploadError", upload != null ? upload.getLastError() : null);
                     map.put("createdAt", user.getCreatedAt());
                     map.put("updatedAt", user.getUpdatedAt());
                     return map;
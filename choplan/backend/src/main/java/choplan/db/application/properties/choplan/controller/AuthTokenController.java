@@ -0,0 +1,34 @@
+package choplan.db.application.properties.choplan.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.dto.TokenRefreshRequest;
+import choplan.db.application.properties.choplan.service.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/auth/token")
+@RequiredArgsConstructor
+public class AuthTokenController {
+
+    private final AuthTokenService authTokenService;
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (모든 권한 공통)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody TokenRefreshRequest request) {
+        try {
+            return ResponseEntity.ok(authTokenService.refresh(request.getRefreshToken()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new AuthResponse(401, e.getMessage(), null));
+        }
+    }
+}
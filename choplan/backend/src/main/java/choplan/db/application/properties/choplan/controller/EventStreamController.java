@@ -0,0 +1,61 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import choplan.db.application.properties.choplan.security.CustomUserDetails;
+import choplan.db.application.properties.choplan.service.EventStreamService;
+import choplan.db.application.properties.choplan.service.EventStreamTicketService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 이벤트 구독 (SSE)
+ * - 로그인 사용자 본인의 예약 / 알림 이벤트를 받고, 관리자 / 해당 매장 점주는 restaurantId 로 매장 예약 이벤트도 구독
+ * - EventSource 는 헤더를 지정할 수 없으므로 먼저 인증된 요청으로 일회용 티켓을 받고(/ticket), ?ticket= 으로 구독
+ */
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final EventStreamService eventStreamService;
+    private final EventStreamTicketService ticketService;
+
+    @PostMapping("/ticket")
+    public ResponseEntity<?> issueTicket(@AuthenticationPrincipal CustomUserDetails principal,
+                                         @RequestParam(required = false) Long restaurantId) {
+        try {
+            String ticket = ticketService.issue(principal.getUserId(), principal.getRole(), restaurantId);
+            return ResponseEntity.ok(Map.of("ticket", ticket));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(@RequestParam(required = false) String ticket) {
+        EventStreamTicketService.Subscription subscription;
+        try {
+            subscription = ticketService.redeem(ticket);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+        try {
+            return ResponseEntity.ok(eventStreamService.subscribe(subscription.userId(), subscription.restaurantId()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+}
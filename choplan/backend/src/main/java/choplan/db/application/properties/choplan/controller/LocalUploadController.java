@@ -0,0 +1,59 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 저장소의 서명된 업로드 URL 처리 (S3 서명 URL 대역, choplan.storage.type=local 에서만 등록)
+ * - 인증 대신 URL 서명(키 / 콘텐츠 타입 / 크기 / 만료 시각)으로 검증하고 요청 본문을 그대로 디스크에 기록
+ */
+@RestController
+@RequestMapping(LocalUploadController.PATH)
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "choplan.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalUploadController {
+
+    static final String PATH = "/storage/local-upload";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @PutMapping("/**")
+    public ResponseEntity<AuthResponse> upload(HttpServletRequest request,
+                                               @RequestParam long expires,
+                                               @RequestParam String signature,
+                                               @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false)
+                                               String contentType) {
+        String prefix = request.getContextPath() + PATH + "/";
+        String key = UriUtils.decode(request.getRequestURI().substring(prefix.length()), StandardCharsets.UTF_8);
+        try (InputStream content = request.getInputStream()) {
+            localObjectStorage.putPresigned(key, contentType, request.getContentLengthLong(), expires, signature,
+                    content);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new AuthResponse(403, e.getMessage(), null));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, "업로드 실패: " + e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import choplan.db.application.properties.choplan.storage.MediaCache;
+import choplan.db.application.properties.choplan.storage.MediaCache.CachedMedia;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * 저장된 파일 제공 (로컬 저장소 URL / choplan.storage.s3.public-base-url 이 가리키는 경로)
+ * - 디스크 캐시(MediaCache)의 파일을 sendfile 로 보내 본문이 애플리케이션 메모리를 거치지 않음
+ *   (Tomcat NIO 커넥터가 지원하지 않는 환경이면 FileChannel.transferTo 로 전송)
+ * - ETag / If-None-Match(304), 단일 Range / If-Range(206, 416) 지원. 여러 구간 요청은 전체(200)로 응답
+ * - 내용 해시로 된 키는 바뀌지 않으므로 브라우저가 1년간 다시 묻지 않도록 immutable 캐시
+ */
+@Slf4j
+@RestController
+@RequestMapping(MediaController.PATH)
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class MediaController {
+
+    static final String PATH = "/media";
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "private, no-cache";
+
+    private final MediaCache mediaCache;
+
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String prefix = request.getContextPath() + PATH + "/";
+        String key = UriUtils.decode(request.getRequestURI().substring(prefix.length()), StandardCharsets.UTF_8);
+        if (key.isEmpty() || key.contains("..")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<CachedMedia> found;
+        try {
+            found = mediaCache.find(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        } catch (IOException | SdkException e) {
+            log.warn("미디어 조회 실패 key={}: {}", key, e.getMessage());
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CachedMedia media = found.get();
+
+        response.setHeader(HttpHeaders.ETAG, media.eTag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                MediaCache.contentHashOf(key) != null ? IMMUTABLE : REVALIDATE);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), media.eTag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = media.size() - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(media.eTag()))) {
+            long[] parsed = parseRange(range, media.size());
+            if (parsed != null && parsed.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + media.size());
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (parsed != null) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + media.size());
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(media.contentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (media.file() == null) {
+            try (InputStream content = mediaCache.open(key, start, length)) {
+                content.transferTo(response.getOutputStream());
+            }
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 컨테이너가 커널에서 바로 소켓으로 보냄 (end 는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, media.file().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            transfer(media, start, length, response.getOutputStream());
+        }
+    }
+
+    private static void transfer(CachedMedia media, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel file = FileChannel.open(media.file())) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("파일이 예상보다 짧습니다: " + media.key());
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
+    /**
+     * 단일 바이트 구간을 [start, end] 로 반환합니다.
+     * 형식이 잘못되었거나 여러 구간이면 null (전체 응답), 파일 범위를 벗어나면 빈 배열 (416)
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 n 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return new long[0];
+                }
+                return new long[] {Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size) {
+                return new long[0];
+            }
+            return end < start ? null : new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.security.CustomUserDetails;
+import choplan.db.application.properties.choplan.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 (NotificationBell / notificationsAPI)
+ * - 조회 응답 형식은 화면에 맞춤: 목록은 배열, 읽지 않은 수는 { count }
+ * - 경로의 userId 는 로그인 사용자 본인만 (관리자는 모든 사용자의 알림 조회 / 모두 읽음 처리 가능)
+ */
+@RestController
+@RequestMapping("/notifications")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<?> getNotifications(@AuthenticationPrincipal CustomUserDetails principal,
+                                              @PathVariable Long userId,
+                                              @RequestParam(defaultValue = "50") int size) {
+        if (!canAccess(principal, userId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(notificationService.getNotifications(userId, size));
+    }
+
+    @GetMapping("/{userId}/unread")
+    public ResponseEntity<?> getUnreadNotifications(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @PathVariable Long userId,
+                                                    @RequestParam(defaultValue = "50") int size) {
+        if (!canAccess(principal, userId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(userId, size));
+    }
+
+    @GetMapping("/{userId}/unread-count")
+    public ResponseEntity<?> getUnreadCount(@AuthenticationPrincipal CustomUserDetails principal,
+                                            @PathVariable Long userId) {
+        if (!canAccess(principal, userId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(userId)));
+    }
+
+    @PutMapping("/{notificationId}/read")
+    public ResponseEntity<AuthResponse> markAsRead(@AuthenticationPrincipal CustomUserDetails principal,
+                                                   @PathVariable Long notificationId) {
+        try {
+            notificationService.markAsRead(principal.getUserId(), notificationId);
+            return ResponseEntity.ok(new AuthResponse(200, "알림 읽음 처리", null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new AuthResponse(404, e.getMessage(), null));
+        }
+    }
+
+    @PutMapping("/{userId}/read-all")
+    public ResponseEntity<AuthResponse> markAllAsRead(@AuthenticationPrincipal CustomUserDetails principal,
+                                                      @PathVariable Long userId) {
+        if (!canAccess(principal, userId)) {
+            return forbidden();
+        }
+        int updated = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(new AuthResponse(200, "모든 알림 읽음 처리", Map.of("updated", updated)));
+    }
+
+    @DeleteMapping("/{notificationId}")
+    public ResponseEntity<AuthResponse> delete(@AuthenticationPrincipal CustomUserDetails principal,
+                                               @PathVariable Long notificationId) {
+        try {
+            notificationService.delete(principal.getUserId(), notificationId);
+            return ResponseEntity.ok(new AuthResponse(200, "알림 삭제", null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new AuthResponse(404, e.getMessage(), null));
+        }
+    }
+
+    private static boolean canAccess(CustomUserDetails principal, Long userId) {
+        return principal.getUserId().equals(userId) || principal.getRole() == UserRole.ADMIN;
+    }
+
+    private static ResponseEntity<AuthResponse> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new AuthResponse(403, "본인 알림만 접근할 수 있습니다.", null));
+    }
+}
@@ -8,13 +8,16 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.dto.OwnerDocumentIntentRequest;
 import choplan.db.application.properties.choplan.dto.SignupRequestOwner;
+import choplan.db.application.properties.choplan.dto.SignupRequestOwnerPresigned;
 import choplan.db.application.properties.choplan.entity.Users;
 import choplan.db.application.properties.choplan.service.OwnerService;
 import lombok.RequiredArgsConstructor;
@@ -37,19 +40,18 @@ public class OwnerAuthController {
             @RequestParam("businessRegistrationDoc") MultipartFile businessRegistrationDoc) {
 
         try {
-            // ✅ 파일을 그대로 전달 — OwnerService 내부에서 S3 업로드 처리함
+            // 계정은 바로 저장되고 사업자등록증은 백그라운드에서 업로드됨 (업로드 후 승인 대기 상태로 변경)
             Users savedOwner = ownerService.registerOwner(request, businessRegistrationDoc);
 
             return ResponseEntity.ok(
                     new AuthResponse(
                             200,
-                            "OWNER 회원가입 성공 (관리자 승인 대기중)",
+                            "OWNER 회원가입 성공 (사업자등록증 업로드 후 관리자 승인 대기)",
                             java.util.Map.of(
                                     "userId", savedOwner.getUserId(),
                                     "email", savedOwner.getEmail(),
                                     "role", savedOwner.getRole().name(),
-                                    "ownerStatus", savedOwner.getOwnerStatus().name(),
-                                    "businessDocUrl", savedOwner.getBusinessRegistrationDoc()
+                                    "ownerStatus", savedOwner.getOwnerStatus().name()
                             )
                     )
             );
@@ -62,6 +64,56 @@ public class OwnerAuthController {
         }
     }
 
+    /**
+     * OWNER 회원가입 (사업자등록증 직접 업로드)
+     * - JSON 으로 가입 정보와 서류 크기를 받고, 응답의 documentUpload 로 클라이언트가 저장소에 직접 PUT
+     * - 업로드 후 /signup/document/{intentId}/complete 를 호출해야 관리자 승인 대기 상태가 됨
+     */
+    @PostMapping(value = "/signup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AuthResponse> signupOwnerWithDirectUpload(@RequestBody SignupRequestOwnerPresigned request) {
+        try {
+            return ResponseEntity.ok(ownerService.registerOwnerWithDirectUpload(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthResponse(500, "서버 오류: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 사업자등록증 업로드 URL 재발급 (업로드 전에 만료된 경우, 이메일 / 비밀번호로 본인 확인)
+     */
+    @PostMapping("/signup/document")
+    public ResponseEntity<AuthResponse> reissueDocumentUpload(@RequestBody OwnerDocumentIntentRequest request) {
+        try {
+            return ResponseEntity.ok(new AuthResponse(200, "사업자등록증 업로드 URL 발급",
+                    ownerService.reissueDocumentUpload(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 사업자등록증 직접 업로드 완료 (크기 / 형식 검증 후 관리자 승인 대기 상태로 변경)
+     */
+    @PostMapping("/signup/document/{intentId}/complete")
+    public ResponseEntity<AuthResponse> completeDocumentUpload(@PathVariable String intentId) {
+        try {
+            String url = ownerService.completeDocumentUpload(intentId);
+            return ResponseEntity.ok(new AuthResponse(200, "사업자등록증 업로드 완료 (관리자 승인 대기)",
+                    java.util.Map.of("businessDocUrl", url)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, e.getMessage(), null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new AuthResponse(503, e.getMessage(), null));
+        }
+    }
+
     /**
      * OWNER 승인 (관리자 전용)
      */
@@ -1,12 +1,24 @@
 package choplan.db.application.properties.choplan.controller;
 
+import choplan.db.application.properties.choplan.dto.BulkReservationRequest;
+import choplan.db.application.properties.choplan.dto.BulkReservationResult;
+import choplan.db.application.properties.choplan.dto.CursorPage;
+import choplan.db.application.properties.choplan.dto.ReservationDetail;
 import choplan.db.application.properties.choplan.dto.ReservationRequest;
+import choplan.db.application.properties.choplan.dto.ReservationSummary;
 import choplan.db.application.properties.choplan.dto.VisitStatusRequest;
 import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.ReservationTransition;
+import choplan.db.application.properties.choplan.exception.ConflictException;
 import choplan.db.application.properties.choplan.service.ReservationService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,42 +28,79 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api/demo/reservations")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReservationController.NEXT_CURSOR_HEADER)
 @RequiredArgsConstructor
 public class ReservationController {
 
+    // 다음 페이지 커서를 전달하는 응답 헤더 (마지막 페이지면 생략)
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<?> createReservation(@RequestBody ReservationRequest request) {
         try {
             Reservation reservation = reservationService.createReservation(request);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Reservation>> getUserReservations(@PathVariable Long userId) {
-        return ResponseEntity.ok(reservationService.getUserReservations(userId));
+    public ResponseEntity<List<ReservationSummary>> getUserReservations(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return toResponse(reservationService.getUserReservations(userId, cursor, size));
     }
 
     @GetMapping("/restaurant/{restaurantId}")
-    public ResponseEntity<List<Reservation>> getRestaurantReservations(@PathVariable Long restaurantId) {
-        return ResponseEntity.ok(reservationService.getRestaurantReservations(restaurantId));
+    public ResponseEntity<List<ReservationSummary>> getRestaurantReservations(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return toResponse(reservationService.getRestaurantReservations(restaurantId, cursor, size));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<Reservation>> getAllReservations() {
-        return ResponseEntity.ok(reservationService.getAllReservations());
+    public ResponseEntity<List<ReservationSummary>> getAllReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return toResponse(reservationService.getAllReservations(cursor, size));
+    }
+
+    /**
+     * 전체 예약 스트리밍 조회 (관리자 화면용)
+     * - 커서 페이지 단위로 읽어 JSON 배열로 바로 써 내려가므로 전체 건수와 무관하게 힙 사용량이 일정함
+     */
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllReservations() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                String cursor = null;
+                do {
+                    CursorPage<ReservationSummary> page =
+                            reservationService.getAllReservations(cursor, ReservationService.MAX_PAGE_SIZE);
+                    for (ReservationSummary reservation : page.getItems()) {
+                        objectMapper.writeValue(generator, reservation);
+                    }
+                    generator.flush();
+                    cursor = page.getNextCursor();
+                } while (cursor != null);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getReservationById(@PathVariable Long id) {
         try {
-            Reservation reservation = reservationService.getReservationById(id);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(reservationService.getReservationById(id));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -61,7 +110,7 @@ public class ReservationController {
     public ResponseEntity<?> approveReservation(@PathVariable Long id) {
         try {
             Reservation reservation = reservationService.approveReservation(id);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -70,9 +119,8 @@ public class ReservationController {
     @PutMapping("/{id}/reject")
     public ResponseEntity<?> rejectReservation(@PathVariable Long id, @RequestBody Map<String, String> body) {
         try {
-            String reason = body.getOrDefault("reason", "");
-            Reservation reservation = reservationService.rejectReservation(id, reason);
-            return ResponseEntity.ok(reservation);
+            Reservation reservation = reservationService.rejectReservation(id, body.get("reason"));
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -89,7 +137,7 @@ public class ReservationController {
             }
 
             Reservation reservation = reservationService.updateReservationStatus(id, status, reason);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (RuntimeException e) {
             if (e.getMessage().contains("찾을 수 없습니다")) {
                 return ResponseEntity.status(404).body(e.getMessage());
@@ -104,7 +152,7 @@ public class ReservationController {
     public ResponseEntity<?> cancelReservation(@PathVariable Long id) {
         try {
             Reservation reservation = reservationService.cancelReservation(id);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -114,7 +162,7 @@ public class ReservationController {
     public ResponseEntity<?> approveCancellation(@PathVariable Long id) {
         try {
             Reservation reservation = reservationService.approveCancellation(id);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -125,7 +173,7 @@ public class ReservationController {
         try {
             String reason = body.getOrDefault("reason", "");
             Reservation reservation = reservationService.rejectCancellation(id, reason);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -135,25 +183,88 @@ public class ReservationController {
     public ResponseEntity<?> updateVisitStatus(@RequestBody VisitStatusRequest request) {
         try {
             Reservation reservation = reservationService.updateVisitStatus(request);
-            return ResponseEntity.ok(reservation);
+            return ResponseEntity.ok(ReservationDetail.from(reservation));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ===== 일괄 처리 (예약 ID 별 처리 결과 반환) =====
+
+    @PutMapping("/bulk/approve")
+    public ResponseEntity<?> bulkApprove(@RequestBody BulkReservationRequest request) {
+        try {
+            BulkReservationResult result = reservationService.bulkTransition(
+                    request.getIds(), ReservationTransition.APPROVE, null);
+            return ResponseEntity.ok(result);
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/bulk/reject")
+    public ResponseEntity<?> bulkReject(@RequestBody BulkReservationRequest request) {
+        try {
+            BulkReservationResult result = reservationService.bulkTransition(
+                    request.getIds(), ReservationTransition.REJECT, request.getReason());
+            return ResponseEntity.ok(result);
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/bulk/cancel/approve")
+    public ResponseEntity<?> bulkApproveCancellation(@RequestBody BulkReservationRequest request) {
+        try {
+            BulkReservationResult result = reservationService.bulkTransition(
+                    request.getIds(), ReservationTransition.APPROVE_CANCELLATION, null);
+            return ResponseEntity.ok(result);
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/bulk/visit-status")
+    public ResponseEntity<?> bulkUpdateVisitStatus(@RequestBody BulkReservationRequest request) {
+        try {
+            if (request.getVisitStatus() == null || request.getVisitStatus().isEmpty()) {
+                return ResponseEntity.badRequest().body("방문 상태를 입력해주세요.");
+            }
+            BulkReservationResult result = reservationService.bulkUpdateVisitStatus(
+                    request.getIds(), request.getVisitStatus(), request.getReason());
+            return ResponseEntity.ok(result);
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     @GetMapping("/visit-status/{status}")
-    public ResponseEntity<List<Reservation>> getReservationsByVisitStatus(@PathVariable String status) {
+    public ResponseEntity<List<ReservationSummary>> getReservationsByVisitStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        Reservation.VisitStatus visitStatus;
         try {
-            Reservation.VisitStatus visitStatus = Reservation.VisitStatus.valueOf(status.toUpperCase());
-            return ResponseEntity.ok(reservationService.getReservationsByVisitStatus(visitStatus));
+            visitStatus = Reservation.VisitStatus.valueOf(status.toUpperCase());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(null);
         }
+        return toResponse(reservationService.getReservationsByVisitStatus(visitStatus, cursor, size));
     }
 
     @GetMapping("/blacklisted")
-    public ResponseEntity<List<Reservation>> getBlacklistedReservations() {
-        return ResponseEntity.ok(reservationService.getBlacklistedReservations());
+    public ResponseEntity<List<ReservationSummary>> getBlacklistedReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return toResponse(reservationService.getBlacklistedReservations(cursor, size));
     }
 
     @PostMapping("/{id}/appeal")
@@ -174,4 +285,15 @@ public class ReservationController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    /**
+     * 페이지 목록은 본문(JSON 배열)으로, 다음 페이지 커서는 헤더로 전달합니다
+     */
+    private ResponseEntity<List<ReservationSummary>> toResponse(CursorPage<ReservationSummary> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getItems());
+    }
 }
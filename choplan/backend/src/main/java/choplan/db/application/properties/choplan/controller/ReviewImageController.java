@@ -0,0 +1,62 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.dto.ReviewImageResponse;
+import choplan.db.application.properties.choplan.security.CustomUserDetails;
+import choplan.db.application.properties.choplan.service.ReviewImageService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 사진 업로드 (데모 리뷰 작성 화면)
+ * - 응답 형식은 화면에 맞춤: 성공 { url, images }, 실패 { error }
+ * - 썸네일 / 중간 크기는 백그라운드에서 만들어지므로 images[].status 가 READY 가 된 뒤 조회
+ */
+@RestController
+@RequestMapping("/api/demo/reviews")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class ReviewImageController {
+
+    private final ReviewImageService reviewImageService;
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> upload(@AuthenticationPrincipal CustomUserDetails principal,
+                                                      @RequestParam("file") List<MultipartFile> files) {
+        try {
+            List<ReviewImageResponse> images = reviewImageService.upload(principal.getUserId(), files);
+            return ResponseEntity.ok(Map.of("url", images.get(0).url(), "images", images));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        } catch (IOException | IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "이미지 저장에 실패했습니다. 잠시 후 다시 시도해 주세요."));
+        }
+    }
+
+    @GetMapping("/images/{imageId}")
+    public ResponseEntity<AuthResponse> find(@PathVariable Long imageId) {
+        try {
+            return ResponseEntity.ok(new AuthResponse(200, "리뷰 이미지 조회", reviewImageService.find(imageId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new AuthResponse(404, e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package choplan.db.application.properties.choplan.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.dto.UploadIntentRequest;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.security.CustomUserDetails;
+import choplan.db.application.properties.choplan.service.UploadIntentService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 이미지 직접 업로드
+ * - 업로드 URL 을 받아 저장소에 바로 올리고, 완료를 알리면 검증된 이미지 URL 을 돌려줌 (리뷰 작성 시 첨부)
+ */
+@RestController
+@RequestMapping("/uploads/intents")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class UploadIntentController {
+
+    private final UploadIntentService uploadIntentService;
+
+    @PostMapping
+    public ResponseEntity<AuthResponse> issue(@AuthenticationPrincipal CustomUserDetails principal,
+                                              @RequestBody UploadIntentRequest request) {
+        try {
+            return ResponseEntity.ok(new AuthResponse(200, "업로드 URL 발급",
+                    uploadIntentService.issue(principal.getUserId(), UploadIntent.Purpose.REVIEW_IMAGE,
+                            request.getContentType(), request.getContentLength())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, e.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/{intentId}/complete")
+    public ResponseEntity<AuthResponse> complete(@AuthenticationPrincipal CustomUserDetails principal,
+                                                 @PathVariable String intentId) {
+        try {
+            String url = uploadIntentService.complete(intentId, principal.getUserId());
+            return ResponseEntity.ok(new AuthResponse(200, "업로드 완료", Map.of("url", url)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(400, e.getMessage(), null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new AuthResponse(503, e.getMessage(), null));
+        }
+    }
+}
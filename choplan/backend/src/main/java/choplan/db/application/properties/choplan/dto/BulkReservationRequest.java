@@ -0,0 +1,15 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 예약 일괄 처리 요청 DTO
+ */
+@Data
+public class BulkReservationRequest {
+    private List<Long> ids;      // 처리할 예약 ID 목록
+    private String reason;       // 거절 / 노쇼 / 블랙리스트 사유
+    private String visitStatus;  // 방문 상태 일괄 변경 시 VISITED, NO_SHOW, BLACKLISTED
+}
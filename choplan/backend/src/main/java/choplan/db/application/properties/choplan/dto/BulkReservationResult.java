@@ -0,0 +1,26 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 일괄 처리 결과 (예약 ID 별 처리 결과 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class BulkReservationResult {
+    private final int requested;
+    private final int succeeded;
+    private final List<Item> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private final Long id;
+        private final boolean success;
+        private final String status;   // 처리 후 예약 상태 (방문 상태 변경 시 방문 상태)
+        private final String message;  // 실패 사유
+    }
+}
@@ -0,0 +1,21 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
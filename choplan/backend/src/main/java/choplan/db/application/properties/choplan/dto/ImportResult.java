@@ -0,0 +1,17 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 가져오기 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ImportResult {
+    private final int requested;
+    private final int imported;
+    private final List<String> skipped; // 건너뛴 항목 (이미 등록된 이메일 등)
+}
@@ -0,0 +1,34 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 변경 이벤트 (커밋 후 사용자의 다른 탭 / 기기에 실시간 전송 → 배지 갱신)
+ * - CREATED 에만 notification 이 있고, 나머지는 notificationId(READ_ALL 은 null)만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String READ = "READ";
+    public static final String READ_ALL = "READ_ALL";
+    public static final String DELETED = "DELETED";
+
+    private final String type;
+    private final Long userId;
+    private final Long notificationId;
+    private final NotificationResponse notification;
+    private final LocalDateTime occurredAt;
+
+    public static NotificationEvent of(String type, Long userId, Long notificationId) {
+        return new NotificationEvent(type, userId, notificationId, null, LocalDateTime.now());
+    }
+
+    public static NotificationEvent created(Long userId, NotificationResponse notification) {
+        return new NotificationEvent(CREATED, userId, notification.id(), notification, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,26 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import choplan.db.application.properties.choplan.entity.Notification;
+
+/**
+ * 알림 응답 (알림 목록 / 실시간 알림 이벤트)
+ */
+public record NotificationResponse(
+        Long id,
+        String type,
+        String title,
+        String message,
+        Long reservationId,
+        @JsonProperty("isRead") boolean isRead,
+        LocalDateTime createdAt) {
+
+    public static NotificationResponse of(Notification notification) {
+        return new NotificationResponse(notification.getId(), notification.getType().name(), notification.getTitle(),
+                notification.getMessage(), notification.getReservationId(), notification.isRead(),
+                notification.getCreatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package choplan.db.application.properties.choplan.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 사업자등록증 업로드 URL 재발급 (업로드 전에 URL 이 만료된 점주)
+ * - 아직 로그인할 수 없는 상태이므로 이메일 / 비밀번호로 본인 확인
+ */
+public class OwnerDocumentIntentRequest extends LoginRequest {
+
+    @NotNull(message = "사업자등록증 파일 크기는 필수 입력값입니다.")
+    @Positive(message = "사업자등록증 파일 크기가 올바르지 않습니다.")
+    private Long documentSize;
+
+    public Long getDocumentSize() { return documentSize; }
+    public void setDocumentSize(Long documentSize) { this.documentSize = documentSize; }
+}
@@ -0,0 +1,48 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * 예약 목록 커서 토큰 변환기
+ * - (createdAt, id) 키를 "createdAt|id" 형태로 묶어 URL-safe Base64 로 인코딩
+ */
+public final class ReservationCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private ReservationCursor() {
+    }
+
+    /**
+     * 커서 토큰을 스크롤 위치로 변환합니다. 토큰이 없으면 첫 페이지 위치를 반환합니다.
+     */
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.valueOf(raw.substring(index + 1));
+            return ScrollPosition.forward(Map.of("createdAt", createdAt, "id", id));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 마지막으로 반환한 예약의 키로 다음 페이지 커서 토큰을 만듭니다.
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,50 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import choplan.db.application.properties.choplan.entity.Reservation;
+
+/**
+ * 예약 상세 응답 (단건 조회 / 상태 변경 응답)
+ * - 엔티티를 직접 직렬화하지 않고 필요한 값만 복사해 반환
+ */
+public record ReservationDetail(
+        Long id,
+        Long userId,
+        Long restaurantId,
+        String restaurantName,
+        String userName,
+        String userPhone,
+        String userEmail,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        Integer guests,
+        String specialRequests,
+        Reservation.ReservationStatus status,
+        String rejectionReason,
+        Reservation.VisitStatus visitStatus,
+        LocalDateTime visitConfirmedAt,
+        String noShowReason,
+        String blacklistReason,
+        Boolean isBlacklisted,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static ReservationDetail from(Reservation reservation) {
+        return new ReservationDetail(reservation.getId(), reservation.getUserId(), reservation.getRestaurantId(),
+                reservation.getRestaurantName(), reservation.getUserName(), reservation.getUserPhone(),
+                reservation.getUserEmail(), reservation.getReservationDate(), reservation.getReservationTime(),
+                reservation.getGuests(), reservation.getSpecialRequests(), reservation.getStatus(),
+                reservation.getRejectionReason(), reservation.getVisitStatus(), reservation.getVisitConfirmedAt(),
+                reservation.getNoShowReason(), reservation.getBlacklistReason(), reservation.getIsBlacklisted(),
+                reservation.getCreatedAt(), reservation.getUpdatedAt());
+    }
+
+    public ReservationDetail withUserName(String name) {
+        return new ReservationDetail(id, userId, restaurantId, restaurantName, name, userPhone, userEmail,
+                reservationDate, reservationTime, guests, specialRequests, status, rejectionReason, visitStatus,
+                visitConfirmedAt, noShowReason, blacklistReason, isBlacklisted, createdAt, updatedAt);
+    }
+}
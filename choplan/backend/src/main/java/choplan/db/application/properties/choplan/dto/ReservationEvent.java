@@ -0,0 +1,34 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDateTime;
+
+import choplan.db.application.properties.choplan.entity.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 변경 이벤트 (커밋 후 예약자 / 매장 구독자에게 실시간 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+    public static final String VISIT_STATUS_CHANGED = "VISIT_STATUS_CHANGED";
+
+    private final String type;
+    private final Long reservationId;
+    private final Long userId;
+    private final Long restaurantId;
+    private final String status;
+    private final String visitStatus;
+    private final LocalDateTime occurredAt;
+
+    public static ReservationEvent of(String type, Reservation reservation) {
+        return new ReservationEvent(type, reservation.getId(), reservation.getUserId(), reservation.getRestaurantId(),
+                reservation.getStatus() != null ? reservation.getStatus().name() : null,
+                reservation.getVisitStatus() != null ? reservation.getVisitStatus().name() : null,
+                LocalDateTime.now());
+    }
+}
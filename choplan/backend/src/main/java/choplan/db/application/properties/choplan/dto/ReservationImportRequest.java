@@ -0,0 +1,27 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import lombok.Data;
+
+/**
+ * 예약 일괄 가져오기 항목 (기존 예약 시스템 데이터 이전용)
+ */
+@Data
+public class ReservationImportRequest {
+    private Long userId;              // 예약자 ID
+    private Long restaurantId;        // 매장 ID
+    private String restaurantName;    // 매장 이름
+    private String userName;          // 예약자 이름
+    private String userPhone;         // 예약자 연락처
+    private String userEmail;         // 예약자 이메일
+    private LocalDate reservationDate; // 예약 날짜
+    private LocalTime reservationTime; // 예약 시간
+    private Integer guests;            // 인원 수
+    private String specialRequests;    // 요청사항
+    private String status;             // 예약 상태 (없으면 PENDING)
+    private String visitStatus;        // 방문 상태 (없으면 PENDING)
+    private LocalDateTime createdAt;   // 기존 시스템 예약 일시 (없으면 가져온 시각)
+}
@@ -0,0 +1,32 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import choplan.db.application.properties.choplan.entity.Reservation;
+
+/**
+ * 예약 목록 항목 (고객 / 점주 / 관리자 목록 화면에 표시하는 컬럼만 조회)
+ * - 요청사항, 거절 / 노쇼 / 블랙리스트 사유 등 긴 컬럼은 상세 조회(ReservationDetail)에서만 제공
+ */
+public record ReservationSummary(
+        Long id,
+        Long userId,
+        Long restaurantId,
+        String restaurantName,
+        String userName,
+        String userPhone,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        Integer guests,
+        Reservation.ReservationStatus status,
+        Reservation.VisitStatus visitStatus,
+        Boolean isBlacklisted,
+        LocalDateTime createdAt) {
+
+    public ReservationSummary withUserName(String name) {
+        return new ReservationSummary(id, userId, restaurantId, restaurantName, name, userPhone, reservationDate,
+                reservationTime, guests, status, visitStatus, isBlacklisted, createdAt);
+    }
+}
@@ -0,0 +1,16 @@
+package choplan.db.application.properties.choplan.dto;
+
+/**
+ * 리뷰 이미지 업로드 결과
+ * - url 은 원본이며 바로 사용할 수 있고, 축소본 URL 은 status 가 READY 가 된 뒤에만 채워짐
+ *   (목록에는 thumbnailUrl, 크게 볼 때는 mediumUrl 을 쓰고 없으면 url 로 대체)
+ */
+public record ReviewImageResponse(
+        Long imageId,
+        String status,
+        String url,
+        String mediumUrl,
+        String thumbnailUrl,
+        Integer width,
+        Integer height) {
+}
@@ -47,5 +47,7 @@ public class SignupRequestOwner {
     @NotBlank(message = "사업자 등록번호는 필수 입력값입니다.")
     private String businessNumber;
 
+    private Long restaurantId;  // 기존 매장을 선택한 경우 매장 ID (선택)
+
     // 사업자 등록증 파일은 MultipartFile로 따로 받음 (컨트롤러에서 처리)
 }
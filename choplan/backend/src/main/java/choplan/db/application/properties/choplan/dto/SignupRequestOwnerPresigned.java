@@ -0,0 +1,19 @@
+package choplan.db.application.properties.choplan.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * OWNER 회원가입 (사업자등록증 직접 업로드)
+ * - 파일 대신 크기만 받고, 응답의 업로드 URL 로 클라이언트가 저장소에 직접 올림
+ */
+@Getter
+@Setter
+public class SignupRequestOwnerPresigned extends SignupRequestOwner {
+
+    @NotNull(message = "사업자등록증 파일 크기는 필수 입력값입니다.")
+    @Positive(message = "사업자등록증 파일 크기가 올바르지 않습니다.")
+    private Long documentSize;
+}
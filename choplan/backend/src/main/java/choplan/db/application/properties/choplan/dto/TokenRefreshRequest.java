@@ -0,0 +1,11 @@
+package choplan.db.application.properties.choplan.dto;
+
+import lombok.Data;
+
+/**
+ * 액세스 토큰 재발급 요청
+ */
+@Data
+public class TokenRefreshRequest {
+    private String refreshToken;
+}
@@ -0,0 +1,14 @@
+package choplan.db.application.properties.choplan.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 직접 업로드 요청 (리뷰 이미지)
+ */
+@Getter
+@Setter
+public class UploadIntentRequest {
+    private String contentType;   // image/jpeg, image/png, image/webp
+    private Long contentLength;   // 바이트 단위 파일 크기
+}
@@ -0,0 +1,25 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.storage.PresignedUpload;
+
+/**
+ * 직접 업로드 요청 발급 결과
+ * - uploadUrl 로 method 와 headers 를 그대로 사용해 파일을 올린 뒤 intentId 로 완료를 알림
+ */
+public record UploadIntentResponse(
+        String intentId,
+        String objectKey,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt) {
+
+    public static UploadIntentResponse of(UploadIntent intent, PresignedUpload upload) {
+        return new UploadIntentResponse(intent.getId(), intent.getObjectKey(), upload.url(), upload.method(),
+                upload.headers(), upload.expiresAt());
+    }
+}
@@ -0,0 +1,24 @@
+package choplan.db.application.properties.choplan.dto;
+
+import choplan.db.application.properties.choplan.entity.StoreAddress;
+import lombok.Data;
+
+/**
+ * 회원 일괄 가져오기 항목 (기존 예약 시스템 데이터 이전용)
+ * - 비밀번호는 기존 시스템의 BCrypt 해시를 그대로 옮김
+ */
+@Data
+public class UserImportRequest {
+    private String email;
+    private String passwordHash;
+    private String realName;
+    private String phone;
+    private String nickname;               // CUSTOMER 전용
+    private String role;                   // CUSTOMER, OWNER
+    private String customerStatus;         // 없으면 ACTIVE
+    private String ownerStatus;            // 없으면 PENDING
+    private String storeName;              // OWNER 전용
+    private String storePhone;             // OWNER 전용
+    private StoreAddress storeAddress;     // OWNER 전용
+    private String businessRegistrationDoc; // OWNER 전용
+}
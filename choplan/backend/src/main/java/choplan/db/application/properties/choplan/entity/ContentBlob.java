@@ -0,0 +1,69 @@
+package choplan.db.application.properties.choplan.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 내용 주소 기반 저장 객체 (db/migration/V9)
+ * - 키가 내용의 SHA-256 으로 정해지므로 같은 파일은 한 번만 저장하고 refCount 로 참조 수를 관리
+ * - refCount = -1 은 가비지 컬렉션이 삭제 중인 객체
+ */
+@Entity
+@Table(name = "content_blob", indexes = {
+        @Index(name = "idx_content_blob_ref_unreferenced", columnList = "ref_count, unreferenced_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentBlob {
+
+    @Id
+    @Column(name = "object_key", length = 200)
+    private String objectKey;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "unreferenced_at")
+    private Long unreferencedAt; // epoch millis, 참조가 0 이 된 시각
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,90 @@
+package choplan.db.application.properties.choplan.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 점주 사업자등록증 업로드 작업 (트랜잭셔널 아웃박스, db/migration/V7)
+ * - 회원가입 트랜잭션에서 함께 저장되고, 백그라운드 워커가 저장소 업로드 후 DONE 으로 변경
+ * - 서류는 공유 저장소의 임시 객체(stagingKey)에 두고, 업로드가 끝나면 최종 키(objectKey)로 옮긴 뒤 삭제 (V16)
+ */
+@Entity
+@Table(name = "document_upload_outbox", indexes = {
+        @Index(name = "idx_document_upload_outbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_document_upload_outbox_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Column(name = "staging_key", length = 500)
+    private String stagingKey;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Long nextAttemptAt; // epoch millis
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING, // 업로드 대기 / 재시도 대기
+        DONE,    // 업로드 완료
+        FAILED   // 재시도 횟수 초과
+    }
+}
@@ -0,0 +1,40 @@
+package choplan.db.application.properties.choplan.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 실시간 이벤트(SSE) 일회용 구독 티켓 (db/migration/V15)
+ * - 티켓 원문은 발급 응답으로만 전달하고 DB 에는 SHA-256 해시만 저장
+ * - restaurantId 는 발급 시 구독 권한을 확인한 매장 (없으면 사용자 채널만 구독)
+ */
+@Entity
+@Table(name = "event_stream_tickets", indexes = {
+        @Index(name = "idx_event_stream_tickets_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStreamTicket {
+
+    @Id
+    @Column(name = "ticket_hash", length = 64)
+    private String ticketHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
@@ -0,0 +1,21 @@
+package choplan.db.application.properties.choplan.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 종류 (제목 / 문구)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationType {
+
+    RESERVATION_APPROVED("예약 확정", "예약이 확정되었습니다."),
+    RESERVATION_REJECTED("예약 거절", "예약이 거절되었습니다."),
+    RESERVATION_CANCELLED("예약 취소", "예약이 취소되었습니다."),
+    REVIEW_REMINDER("방문 완료", "방문은 어떠셨나요? 리뷰를 남겨주세요."),
+    RESERVATION_NO_SHOW("노쇼 처리", "예약 시간에 방문하지 않아 노쇼로 처리되었습니다.");
+
+    private final String title;
+    private final String message;
+}
@@ -5,7 +5,8 @@ public enum OwnerStatus {
     APPROVED(1), // 승인 완료, 운영중
     REJECTED(2), // 승인 거절
     SUSPENDED(3), // 계정 정지
-    DELETE(4); // 회원 탈퇴, 폐업
+    DELETE(4), // 회원 탈퇴, 폐업
+    PENDING_DOCUMENT(5); // 가입 완료, 사업자등록증 업로드 중 (업로드 후 PENDING)
 
     private final int code;
 
@@ -11,9 +11,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,15 +25,26 @@ import lombok.NoArgsConstructor;
  * 테스트용 예약 엔티티 - 데모 종료 시 제거 예정
  */
 @Entity
-@Table(name = "demo_reservations")
+@Table(name = "demo_reservations", indexes = {
+        // 조회 조건 + (created_at, id) 정렬용 인덱스 (db/migration/V2 와 동일)
+        @Index(name = "idx_reservation_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_reservation_restaurant_created", columnList = "restaurant_id, created_at, id"),
+        @Index(name = "idx_reservation_visit_status_created", columnList = "visit_status, created_at, id"),
+        @Index(name = "idx_reservation_blacklisted_created", columnList = "is_blacklisted, created_at, id"),
+        @Index(name = "idx_reservation_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_reservation_created", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Reservation {
     
+    // 50개 단위로 ID 를 미리 할당해 INSERT 를 JDBC 배치로 묶음 (db/migration/V4)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservation_id")
+    @TableGenerator(name = "reservation_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "demo_reservations", allocationSize = 50)
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -71,7 +84,7 @@ public class Reservation {
     @Column(name = "rejection_reason", length = 500)
     private String rejectionReason;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -79,7 +92,10 @@ public class Reservation {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // 일괄 가져오기 시 기존 시스템의 예약 일시를 유지
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
         updatedAt = LocalDateTime.now();
         if (status == null) {
             status = ReservationStatus.PENDING;
@@ -117,7 +133,14 @@ public class Reservation {
         REJECTED,          // 거절됨
         CANCELLED,         // 취소됨
         CANCELLED_PENDING, // 취소 요청 대기중
-        COMPLETED          // 완료됨
+        COMPLETED;         // 완료됨
+
+        /**
+         * 좌석을 점유하는 예약 상태인지 여부 (대기 / 승인 / 취소 요청 대기)
+         */
+        public boolean holdsSeats() {
+            return this == PENDING || this == APPROVED || this == CANCELLED_PENDING;
+        }
     }
     
     public enum VisitStatus {
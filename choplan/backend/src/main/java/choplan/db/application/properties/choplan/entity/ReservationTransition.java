@@ -0,0 +1,61 @@
+package choplan.db.application.properties.choplan.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import choplan.db.application.properties.choplan.entity.Reservation.ReservationStatus;
+
+/**
+ * 예약 상태 전이표
+ * - 각 전이는 "UPDATE ... WHERE id = ? AND status IN (from)" 한 번으로 적용되며,
+ *   반영된 행이 없으면 전이가 허용되지 않은 상태(또는 다른 요청이 먼저 변경한 상태)임
+ */
+public enum ReservationTransition {
+
+    APPROVE(EnumSet.of(ReservationStatus.PENDING), ReservationStatus.APPROVED, false,
+            "승인 대기 상태의 예약만 승인할 수 있습니다."),
+    REJECT(EnumSet.of(ReservationStatus.PENDING), ReservationStatus.REJECTED, true,
+            "승인 대기 상태의 예약만 거절할 수 있습니다."),
+    CANCEL(EnumSet.of(ReservationStatus.PENDING), ReservationStatus.CANCELLED, true,
+            "취소할 수 없는 예약 상태입니다."),
+    REQUEST_CANCELLATION(EnumSet.of(ReservationStatus.APPROVED), ReservationStatus.CANCELLED_PENDING, false,
+            "취소할 수 없는 예약 상태입니다."),
+    APPROVE_CANCELLATION(EnumSet.of(ReservationStatus.CANCELLED_PENDING), ReservationStatus.CANCELLED, true,
+            "취소 요청 대기 상태가 아닙니다."),
+    REJECT_CANCELLATION(EnumSet.of(ReservationStatus.CANCELLED_PENDING), ReservationStatus.APPROVED, false,
+            "취소 요청 대기 상태가 아닙니다.");
+
+    private final Set<ReservationStatus> from;
+    private final ReservationStatus to;
+    private final boolean releasesSeats;   // 전이 후 시간대 좌석 반환 여부
+    private final String rejectedMessage;  // 전이가 허용되지 않을 때 메시지
+
+    ReservationTransition(Set<ReservationStatus> from, ReservationStatus to,
+                          boolean releasesSeats, String rejectedMessage) {
+        this.from = from;
+        this.to = to;
+        this.releasesSeats = releasesSeats;
+        this.rejectedMessage = rejectedMessage;
+    }
+
+    // 현재 상태에서 이 전이가 허용되는지 여부
+    public boolean accepts(ReservationStatus current) {
+        return from.contains(current);
+    }
+
+    public Set<ReservationStatus> getFrom() {
+        return from;
+    }
+
+    public ReservationStatus getTo() {
+        return to;
+    }
+
+    public boolean releasesSeats() {
+        return releasesSeats;
+    }
+
+    public String getRejectedMessage() {
+        return rejectedMessage;
+    }
+}
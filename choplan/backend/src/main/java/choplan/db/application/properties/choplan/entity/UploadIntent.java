@@ -0,0 +1,115 @@
+package choplan.db.application.properties.choplan.entity;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 직접 업로드 요청 (db/migration/V8)
+ * - 서명된 업로드 URL 을 발급할 때 저장하고, 클라이언트가 완료를 알리면 객체를 검증한 뒤 COMPLETED 로 변경
+ */
+@Entity
+@Table(name = "upload_intent", indexes = {
+        @Index(name = "idx_upload_intent_status_expires", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadIntent {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Purpose purpose;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "content_length", nullable = false)
+    private Long contentLength;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt; // epoch millis
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        ISSUED,    // URL 발급, 업로드 / 완료 대기
+        COMPLETED, // 검증 후 연결 완료
+        EXPIRED    // 완료되지 않고 만료 (올라온 객체는 삭제)
+    }
+
+    /**
+     * 업로드 용도별 저장 위치 / 크기 제한 / 허용 콘텐츠 타입
+     */
+    public enum Purpose {
+        BUSINESS_DOC("business-docs", 10L * 1024 * 1024, Set.of("application/pdf")),
+        REVIEW_IMAGE("review-images", 5L * 1024 * 1024, Set.of("image/jpeg", "image/png", "image/webp"));
+
+        private final String keyPrefix;
+        private final long maxSize;
+        private final Set<String> contentTypes;
+
+        Purpose(String keyPrefix, long maxSize, Set<String> contentTypes) {
+            this.keyPrefix = keyPrefix;
+            this.maxSize = maxSize;
+            this.contentTypes = contentTypes;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public Set<String> getContentTypes() {
+            return contentTypes;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package choplan.db.application.properties.choplan.entity;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -15,7 +16,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,7 +28,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 회원 목록 조회용 인덱스 (db/migration/V2 와 동일)
+        @Index(name = "idx_users_role_customer_status", columnList = "role, customer_status"),
+        @Index(name = "idx_users_role_owner_status", columnList = "role, owner_status"),
+        // 로그인 조회용 (db/migration/V6)
+        @Index(name = "uk_users_email_normalized", columnList = "email_normalized", unique = true),
+        @Index(name = "idx_users_auth",
+                columnList = "email_normalized, email, password_hash, role, customer_status, owner_status")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -32,13 +45,20 @@ import lombok.Setter;
 @Builder
 public class Users {
 
+    // 50개 단위로 ID 를 미리 할당해 INSERT 를 JDBC 배치로 묶음 (db/migration/V4)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long userId;
 
     @Column(nullable = false, unique = true, length = 150)
     private String email;
 
+    // 대소문자 구분 없는 로그인 조회용 (trim + 소문자, 저장 시 email 에서 자동 설정)
+    @Column(name = "email_normalized", nullable = false, length = 150)
+    private String emailNormalized;
+
     @Column(nullable = false, length = 255)
     private String passwordHash;
 
@@ -63,6 +83,9 @@ public class Users {
     @Embedded
     private StoreAddress storeAddress; // OWNER 전용
 
+    @Column(name = "restaurant_id")
+    private Long restaurantId; // OWNER 전용 (운영 매장, 매장 이벤트 구독 권한 확인용)
+
     @Enumerated(EnumType.STRING)
     @Column(length = 20, nullable = false)
     private UserRole role; // CUSTOMER, OWNER, ADMIN
@@ -94,4 +117,25 @@ public class Users {
     public void setPasswordHash(String passwordHash) {
         this.passwordHash = passwordHash;
     }
+
+    /**
+     * 업로드가 끝난 사업자등록증을 연결하고, 서류 대기 중이었으면 관리자 승인 대기로 변경
+     * (업로드 중에 관리자가 상태를 바꿨으면(거절 등) 그대로 둠)
+     */
+    public void attachBusinessDocument(String url) {
+        this.businessRegistrationDoc = url;
+        if (this.ownerStatus == OwnerStatus.PENDING_DOCUMENT) {
+            this.ownerStatus = OwnerStatus.PENDING;
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void syncEmailNormalized() {
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
 }
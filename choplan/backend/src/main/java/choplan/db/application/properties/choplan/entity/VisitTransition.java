@@ -0,0 +1,50 @@
+package choplan.db.application.properties.choplan.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import choplan.db.application.properties.choplan.entity.Reservation.ReservationStatus;
+import choplan.db.application.properties.choplan.entity.Reservation.VisitStatus;
+
+/**
+ * 방문 상태 전이표
+ * - 승인된 예약에 대해서만 방문 상태를 기록하며, 블랙리스트는 되돌릴 수 없음
+ * - 방문 상태가 비어 있는 기존 예약은 PENDING 으로 간주
+ */
+public enum VisitTransition {
+
+    VISITED(EnumSet.of(VisitStatus.PENDING, VisitStatus.NO_SHOW)),
+    NO_SHOW(EnumSet.of(VisitStatus.PENDING)),
+    BLACKLISTED(EnumSet.of(VisitStatus.PENDING, VisitStatus.NO_SHOW));
+
+    // 방문 상태를 기록할 수 있는 예약 상태
+    public static final Set<ReservationStatus> RESERVATION_STATUSES = EnumSet.of(ReservationStatus.APPROVED);
+
+    private final Set<VisitStatus> from;
+
+    VisitTransition(Set<VisitStatus> from) {
+        this.from = from;
+    }
+
+    // 현재 예약 상태 / 방문 상태에서 이 전이가 허용되는지 여부
+    public boolean accepts(ReservationStatus status, VisitStatus current) {
+        return RESERVATION_STATUSES.contains(status) && (current == null || from.contains(current));
+    }
+
+    public Set<VisitStatus> getFrom() {
+        return from;
+    }
+
+    public VisitStatus getTo() {
+        return VisitStatus.valueOf(name());
+    }
+
+    public static VisitTransition of(VisitStatus target) {
+        for (VisitTransition transition : values()) {
+            if (transition.getTo() == target) {
+                return transition;
+            }
+        }
+        throw new IllegalArgumentException("변경할 수 없는 방문 상태입니다: " + target);
+    }
+}
@@ -0,0 +1,11 @@
+package choplan.db.application.properties.choplan.exception;
+
+/**
+ * 처리 중 다른 요청과 충돌해 변경을 반영하지 못했을 때 사용 (GlobalExceptionHandler 에서 409 로 응답, 다시 시도 가능)
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
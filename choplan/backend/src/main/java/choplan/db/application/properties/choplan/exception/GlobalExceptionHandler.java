@@ -3,6 +3,7 @@ package choplan.db.application.properties.choplan.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,10 +11,14 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * 프로젝트 전역 예외 처리 클래스
  * - DTO 유효성 검사 (@Valid)
  * - IllegalArgumentException
+ * - ServiceBusyException (503, Retry-After)
+ * - ConflictException (409)
  * - RuntimeException
  * - 기타 모든 예외
  * 
@@ -24,6 +29,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  *   "errors": { "password": "비밀번호는 최소 10자리 이상이어야 합니다." }
  * }
  */
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -45,7 +51,7 @@ public class GlobalExceptionHandler {
         body.put("message", firstErrorMessage); // 첫 번째 에러 메시지를 상단 표시용으로
         body.put("errors", fieldErrors);       // 각 필드별 에러는 errors에 JSON으로 담기
 
-        System.err.println("[VALIDATION ERROR] " + fieldErrors); // 디버깅용 로그
+        log.atWarn().addKeyValue("errors", fieldErrors).log("요청값 유효성 검사 실패");
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
@@ -60,11 +66,43 @@ public class GlobalExceptionHandler {
         body.put("message", ex.getMessage());
         body.put("errors", null);
 
-        System.err.println("[BAD REQUEST] " + ex.getMessage());
+        log.warn("잘못된 요청: {}", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    /**
+     * ServiceBusyException 처리 (로그인 폭주 등 처리 용량 초과 → 대기 없이 503)
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceBusy(ServiceBusyException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("message", ex.getMessage());
+        body.put("errors", null);
+
+        log.warn("처리 용량 초과: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    /**
+     * ConflictException 처리 (동시 변경과 충돌 → 409, 클라이언트가 다시 시도)
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(ConflictException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("message", ex.getMessage());
+        body.put("errors", null);
+
+        log.warn("동시 변경 충돌: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     /**
      * RuntimeException 처리 (예상치 못한 로직 오류)
      */
@@ -75,7 +113,7 @@ public class GlobalExceptionHandler {
         body.put("message", "서버 실행 중 오류가 발생했습니다.");
         body.put("errors", Map.of("exception", ex.getMessage()));
 
-        System.err.println("[RUNTIME ERROR] " + ex.getMessage());
+        log.error("요청 처리 중 오류", ex);
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
@@ -90,7 +128,7 @@ public class GlobalExceptionHandler {
         body.put("message", "서버에 알 수 없는 오류가 발생했습니다.");
         body.put("errors", Map.of("exception", ex.getMessage()));
 
-        System.err.println("[GLOBAL EXCEPTION] " + ex.getMessage());
+        log.error("처리되지 않은 예외", ex);
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
@@ -0,0 +1,18 @@
+package choplan.db.application.properties.choplan.exception;
+
+/**
+ * 처리 용량 초과로 요청을 즉시 거절할 때 사용 (GlobalExceptionHandler 에서 503 으로 응답)
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.ContentBlob;
+
+public interface ContentBlobRepository extends JpaRepository<ContentBlob, String> {
+
+    // 저장되어 있고 삭제 중이 아닌 객체인지 (업로드 전 중복 확인)
+    boolean existsByObjectKeyAndRefCountGreaterThanEqual(String objectKey, Integer minRefCount);
+
+    // 참조 추가 (삭제 중인 객체에는 붙지 않음)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContentBlob b SET b.refCount = b.refCount + 1, b.unreferencedAt = NULL "
+            + "WHERE b.objectKey = :key AND b.refCount >= 0")
+    int incrementReference(@Param("key") String key);
+
+    // 참조 해제, 마지막 참조였으면 가비지 컬렉션 유예 기간의 시작 시각을 기록
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContentBlob b SET b.refCount = b.refCount - 1, "
+            + "b.unreferencedAt = CASE WHEN b.refCount = 1 THEN :now ELSE b.unreferencedAt END "
+            + "WHERE b.objectKey = :key AND b.refCount > 0")
+    int decrementReference(@Param("key") String key, @Param("now") Long now);
+
+    // 유예 기간이 지난 미참조 객체
+    List<ContentBlob> findByRefCountAndUnreferencedAtLessThan(Integer refCount, Long before, Limit limit);
+
+    // 삭제 선점: 그 사이에 다시 참조되지 않았을 때만 삭제 중(-1)으로 표시
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContentBlob b SET b.refCount = -1 "
+            + "WHERE b.objectKey = :key AND b.refCount = 0 AND b.unreferencedAt < :before")
+    int markDeleting(@Param("key") String key, @Param("before") Long before);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ContentBlob b WHERE b.objectKey = :key AND b.refCount = -1")
+    int deleteMarked(@Param("key") String key);
+}
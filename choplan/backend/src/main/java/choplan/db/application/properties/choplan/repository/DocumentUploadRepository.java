@@ -0,0 +1,34 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
+
+public interface DocumentUploadRepository extends JpaRepository<DocumentUpload, Long> {
+
+    // 처리할 차례가 된 업로드 작업 (오래 기다린 순)
+    List<DocumentUpload> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            DocumentUpload.Status status, Long now, Limit limit);
+
+    // 작업 선점: 조회한 뒤 다른 워커 / 서버가 먼저 가져가지 않았을 때만 next_attempt_at 을 임대 만료 시각으로 미룸
+    // 선점한 워커가 중간에 죽으면 임대가 끝난 뒤 다시 처리 대상이 됨
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DocumentUpload d SET d.nextAttemptAt = :leaseUntil "
+            + "WHERE d.id = :id AND d.status = :status AND d.nextAttemptAt = :expected")
+    int claim(@Param("id") Long id,
+              @Param("status") DocumentUpload.Status status,
+              @Param("expected") Long expected,
+              @Param("leaseUntil") Long leaseUntil);
+
+    // 관리자 점주 목록의 서류 업로드 상태 (IN 쿼리 한 번)
+    List<DocumentUpload> findByUserIdIn(Collection<Long> userIds);
+}
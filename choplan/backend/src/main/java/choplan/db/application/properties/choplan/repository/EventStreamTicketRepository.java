@@ -0,0 +1,21 @@
+package choplan.db.application.properties.choplan.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import choplan.db.application.properties.choplan.entity.EventStreamTicket;
+
+public interface EventStreamTicketRepository extends JpaRepository<EventStreamTicket, String> {
+
+    // 티켓 사용 처리 (동시에 같은 티켓으로 구독해도 삭제 건수가 1 인 요청 하나만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventStreamTicket t WHERE t.ticketHash = :ticketHash")
+    int consume(@Param("ticketHash") String ticketHash);
+
+    // 사용되지 않고 만료된 티켓 정리
+    @Modifying
+    @Query("DELETE FROM EventStreamTicket t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") long now);
+}
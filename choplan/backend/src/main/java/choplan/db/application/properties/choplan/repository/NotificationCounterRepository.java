@@ -0,0 +1,39 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import choplan.db.application.properties.choplan.entity.NotificationCounter;
+
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    // 읽지 않은 수 (행이 없으면 알림을 받은 적 없는 사용자)
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Integer> findUnreadCount(@Param("userId") Long userId);
+
+    // 증감 (반영된 행 수: 0 이면 카운터 행이 아직 없음). 음수가 되지 않도록 0 에서 멈춤
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unreadCount = CASE WHEN c.unreadCount + :delta < 0 THEN 0 "
+            + "ELSE c.unreadCount + :delta END, c.updatedAt = LOCAL DATETIME WHERE c.userId = :userId")
+    int add(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 재계산 대상 (user_id 순 키셋 페이지)
+    @Query("SELECT c.userId FROM NotificationCounter c WHERE c.userId > :after ORDER BY c.userId")
+    List<Long> findUserIdsAfter(@Param("after") Long after, Limit limit);
+
+    // 실제 읽지 않은 알림 수와 다른 카운터만 바로잡음 (반영된 행 수 = 보정된 사용자 수)
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unreadCount = "
+            + "(SELECT COUNT(n) FROM Notification n WHERE n.userId = c.userId AND n.read = false), "
+            + "c.updatedAt = LOCAL DATETIME "
+            + "WHERE c.userId IN :userIds AND c.unreadCount <> "
+            + "(SELECT COUNT(n) FROM Notification n WHERE n.userId = c.userId AND n.read = false)")
+    int reconcile(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,35 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import choplan.db.application.properties.choplan.entity.Notification;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 최신 알림 (idx_notification_user)
+    List<Notification> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+
+    // 최신 읽지 않은 알림 (idx_notification_user_read)
+    List<Notification> findByUserIdAndReadOrderByIdDesc(Long userId, boolean read, Limit limit);
+
+    // 읽음 처리: 읽지 않은 본인 알림일 때만 반영 (1 이면 읽지 않은 수 감소)
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.userId = :userId AND n.read = false")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 모두 읽음 처리 (한 번의 UPDATE, 반영된 행 수만큼 읽지 않은 수 감소)
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    // 알림 삭제 (read 로 읽지 않은 알림인지 함께 확인 → 읽지 않은 알림을 지웠으면 개수 감소)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.userId = :userId AND n.read = :read")
+    int deleteOwned(@Param("id") Long id, @Param("userId") Long userId, @Param("read") boolean read);
+}
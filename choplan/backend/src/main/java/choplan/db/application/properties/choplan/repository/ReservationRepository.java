@@ -1,11 +1,22 @@
 package choplan.db.application.properties.choplan.repository;
 
+import choplan.db.application.properties.choplan.dto.ReservationDetail;
+import choplan.db.application.properties.choplan.dto.ReservationSummary;
 import choplan.db.application.properties.choplan.entity.Reservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -40,4 +51,79 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // 사용자 ID로 예약 내역 직접 쿼리 조회
     @Query("SELECT r FROM Reservation r WHERE r.userId = :userId ORDER BY r.createdAt DESC")
     List<Reservation> findUserReservationsWithQuery(@Param("userId") Long userId);
+
+    // ===== 커서(keyset) 페이지 조회: (createdAt, id) 내림차순, 목록 컬럼만 조회 =====
+
+    // 사용자 예약 내역 페이지 조회
+    Window<ReservationSummary> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, ScrollPosition position, Limit limit);
+
+    // 매장 예약 내역 페이지 조회
+    Window<ReservationSummary> findByRestaurantIdOrderByCreatedAtDescIdDesc(Long restaurantId, ScrollPosition position, Limit limit);
+
+    // 방문 상태별 페이지 조회
+    Window<ReservationSummary> findByVisitStatusOrderByCreatedAtDescIdDesc(Reservation.VisitStatus visitStatus, ScrollPosition position, Limit limit);
+
+    // 블랙리스트 예약 페이지 조회
+    Window<ReservationSummary> findByIsBlacklistedTrueOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    // 전체 예약 페이지 조회
+    Window<ReservationSummary> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    // 예약 상세 조회 (엔티티 대신 상세 응답으로 바로 조회)
+    @Query("SELECT new choplan.db.application.properties.choplan.dto.ReservationDetail("
+            + "r.id, r.userId, r.restaurantId, r.restaurantName, r.userName, r.userPhone, r.userEmail, "
+            + "r.reservationDate, r.reservationTime, r.guests, r.specialRequests, r.status, r.rejectionReason, "
+            + "r.visitStatus, r.visitConfirmedAt, r.noShowReason, r.blacklistReason, r.isBlacklisted, "
+            + "r.createdAt, r.updatedAt) FROM Reservation r WHERE r.id = :id")
+    Optional<ReservationDetail> findDetailById(@Param("id") Long id);
+
+    // ===== 조건부 상태 전이 (반영된 행 수 = 전이가 허용되어 적용된 예약 수) =====
+
+    // 일괄 전이 전 상태 확인용 조회 (좌석 반환 키 / 알림 대상 포함)
+    // 전이가 끝날 때까지 행을 잠가 조회한 상태와 UPDATE 대상이 어긋나지 않게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.id AS id, r.status AS status, r.visitStatus AS visitStatus, r.userId AS userId, "
+            + "r.restaurantId AS restaurantId, r.reservationDate AS reservationDate, "
+            + "r.reservationTime AS reservationTime, r.guests AS guests "
+            + "FROM Reservation r WHERE r.id IN :ids")
+    List<ReservationStateView> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 예약 상태 전이 (reason 이 null 이면 기존 거절 사유 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :to, "
+            + "r.rejectionReason = COALESCE(:reason, r.rejectionReason), r.updatedAt = LOCAL DATETIME "
+            + "WHERE r.id IN :ids AND r.status IN :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") Collection<Reservation.ReservationStatus> from,
+                         @Param("to") Reservation.ReservationStatus to,
+                         @Param("reason") String reason);
+
+    // 방문 완료 처리 (예약 상태도 COMPLETED 로 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.visitStatus = VISITED, r.status = COMPLETED, "
+            + "r.visitConfirmedAt = LOCAL DATETIME, r.updatedAt = LOCAL DATETIME "
+            + "WHERE r.id IN :ids AND r.status IN :statuses AND (r.visitStatus IS NULL OR r.visitStatus IN :from)")
+    int markVisited(@Param("ids") Collection<Long> ids,
+                    @Param("statuses") Collection<Reservation.ReservationStatus> statuses,
+                    @Param("from") Collection<Reservation.VisitStatus> from);
+
+    // 노쇼 처리 (reason 이 null 이면 기존 사유 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.visitStatus = NO_SHOW, "
+            + "r.noShowReason = COALESCE(:reason, r.noShowReason), r.updatedAt = LOCAL DATETIME "
+            + "WHERE r.id IN :ids AND r.status IN :statuses AND (r.visitStatus IS NULL OR r.visitStatus IN :from)")
+    int markNoShow(@Param("ids") Collection<Long> ids,
+                   @Param("statuses") Collection<Reservation.ReservationStatus> statuses,
+                   @Param("from") Collection<Reservation.VisitStatus> from,
+                   @Param("reason") String reason);
+
+    // 블랙리스트 처리 (reason 이 null 이면 기존 사유 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.visitStatus = BLACKLISTED, r.isBlacklisted = true, "
+            + "r.blacklistReason = COALESCE(:reason, r.blacklistReason), r.updatedAt = LOCAL DATETIME "
+            + "WHERE r.id IN :ids AND r.status IN :statuses AND (r.visitStatus IS NULL OR r.visitStatus IN :from)")
+    int markBlacklisted(@Param("ids") Collection<Long> ids,
+                        @Param("statuses") Collection<Reservation.ReservationStatus> statuses,
+                        @Param("from") Collection<Reservation.VisitStatus> from,
+                        @Param("reason") String reason);
 }
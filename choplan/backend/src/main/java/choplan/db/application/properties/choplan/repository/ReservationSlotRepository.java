@@ -0,0 +1,41 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import choplan.db.application.properties.choplan.entity.ReservationSlot;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    // 시간대 좌석 재고 존재 여부
+    boolean existsByRestaurantIdAndReservationDateAndReservationTime(
+            Long restaurantId, LocalDate reservationDate, LocalTime reservationTime);
+
+    // 잔여 좌석이 충분할 때만 차감 (반영된 행 수: 1 = 성공, 0 = 좌석 부족 또는 재고 없음)
+    @Modifying
+    @Query("UPDATE ReservationSlot s SET s.remainingSeats = s.remainingSeats - :seats, s.updatedAt = LOCAL DATETIME "
+            + "WHERE s.restaurantId = :restaurantId AND s.reservationDate = :reservationDate "
+            + "AND s.reservationTime = :reservationTime AND s.remainingSeats >= :seats")
+    int takeSeats(@Param("restaurantId") Long restaurantId,
+                  @Param("reservationDate") LocalDate reservationDate,
+                  @Param("reservationTime") LocalTime reservationTime,
+                  @Param("seats") int seats);
+
+    // 좌석 반환 (총 좌석 수를 넘지 않는 범위에서만)
+    @Modifying
+    @Query("UPDATE ReservationSlot s SET s.remainingSeats = s.remainingSeats + :seats, s.updatedAt = LOCAL DATETIME "
+            + "WHERE s.restaurantId = :restaurantId AND s.reservationDate = :reservationDate "
+            + "AND s.reservationTime = :reservationTime AND s.remainingSeats + :seats <= s.capacity")
+    int releaseSeats(@Param("restaurantId") Long restaurantId,
+                     @Param("reservationDate") LocalDate reservationDate,
+                     @Param("reservationTime") LocalTime reservationTime,
+                     @Param("seats") int seats);
+
+}
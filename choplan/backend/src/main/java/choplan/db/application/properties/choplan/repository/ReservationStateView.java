@@ -0,0 +1,20 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import choplan.db.application.properties.choplan.entity.Reservation;
+
+/**
+ * 일괄 상태 변경용 예약 상태 프로젝션 (상태 + 좌석 반환에 필요한 시간대 키)
+ */
+public interface ReservationStateView {
+    Long getId();
+    Reservation.ReservationStatus getStatus();
+    Reservation.VisitStatus getVisitStatus();
+    Long getUserId();
+    Long getRestaurantId();
+    LocalDate getReservationDate();
+    LocalTime getReservationTime();
+    Integer getGuests();
+}
@@ -0,0 +1,33 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.ReviewImage;
+
+public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
+
+    // 같은 원본으로 이미 만든 축소본 (있으면 다시 만들지 않음)
+    Optional<ReviewImage> findFirstByContentHashAndStatus(String contentHash, ReviewImage.Status status);
+
+    // 오래 PROCESSING 으로 남은 이미지 (재시작 / 대기열 초과로 처리되지 않은 작업)
+    List<ReviewImage> findByStatusAndUpdatedAtBefore(ReviewImage.Status status, LocalDateTime before, Limit limit);
+
+    // 작업 선점: 조회한 뒤 다른 서버가 먼저 가져가지 않았을 때만 updated_at 을 갱신
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewImage r SET r.updatedAt = :now "
+            + "WHERE r.id = :id AND r.status = :status AND r.updatedAt = :expected")
+    int claim(@Param("id") Long id,
+              @Param("status") ReviewImage.Status status,
+              @Param("expected") LocalDateTime expected,
+              @Param("now") LocalDateTime now);
+}
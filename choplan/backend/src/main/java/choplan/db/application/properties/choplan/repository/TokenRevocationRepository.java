@@ -0,0 +1,16 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import choplan.db.application.properties.choplan.entity.TokenRevocation;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 서버 시작 시 / 다른 서버의 변경분 동기화 시 아직 유효한 토큰이 있을 수 있는 항목만 조회
+    List<TokenRevocation> findByRevokedBeforeGreaterThanEqual(Long revokedBefore);
+
+    // 모든 토큰이 만료된 오래된 항목 정리
+    long deleteByRevokedBeforeLessThan(Long revokedBefore);
+}
@@ -0,0 +1,26 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+
+public interface UploadIntentRepository extends JpaRepository<UploadIntent, String> {
+
+    // 만료 시각이 지난 요청 (정리 대상)
+    List<UploadIntent> findByStatusAndExpiresAtLessThan(UploadIntent.Status status, Long before, Limit limit);
+
+    // 상태 전이: 아직 expected 상태일 때만 변경 → 완료 / 만료 처리가 겹쳐도 한쪽만 성공
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UploadIntent u SET u.status = :status WHERE u.id = :id AND u.status = :expected")
+    int transition(@Param("id") String id,
+                   @Param("expected") UploadIntent.Status expected,
+                   @Param("status") UploadIntent.Status status);
+}
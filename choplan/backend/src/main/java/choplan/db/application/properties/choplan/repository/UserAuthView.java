@@ -0,0 +1,17 @@
+package choplan.db.application.properties.choplan.repository;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+
+/**
+ * 로그인용 계정 프로젝션 (idx_users_auth 커버링 인덱스만으로 조회, 점주 서류 / 주소 등은 읽지 않음)
+ */
+public interface UserAuthView {
+    Long getUserId();
+    String getEmail();
+    String getPasswordHash();
+    UserRole getRole();
+    CustomerStatus getCustomerStatus();
+    OwnerStatus getOwnerStatus();
+}
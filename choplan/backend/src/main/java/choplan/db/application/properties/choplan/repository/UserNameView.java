@@ -0,0 +1,10 @@
+package choplan.db.application.properties.choplan.repository;
+
+/**
+ * 예약 목록 표시용 사용자 이름 프로젝션 (users 전체 행 대신 필요한 컬럼만 조회)
+ */
+public interface UserNameView {
+    Long getUserId();
+    String getNickname();
+    String getRealName();
+}
@@ -1,9 +1,14 @@
 package choplan.db.application.properties.choplan.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import choplan.db.application.properties.choplan.entity.CustomerStatus;
 import choplan.db.application.properties.choplan.entity.OwnerStatus;
@@ -13,7 +18,42 @@ import choplan.db.application.properties.choplan.entity.Users;
 public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByEmail(String email);
 
+    // 로그인 조회: 정규화 이메일로 인증에 필요한 컬럼만 조회 (idx_users_auth 커버링 인덱스)
+    @Query("SELECT u.userId AS userId, u.email AS email, u.passwordHash AS passwordHash, u.role AS role, "
+            + "u.customerStatus AS customerStatus, u.ownerStatus AS ownerStatus "
+            + "FROM Users u WHERE u.emailNormalized = :emailNormalized")
+    Optional<UserAuthView> findAuthByEmailNormalized(@Param("emailNormalized") String emailNormalized);
+
+    // 회원가입 중복 확인 (대소문자만 다른 이메일도 중복)
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    // 점주 본인 매장 확인 (기본 키 조회)
+    boolean existsByUserIdAndRestaurantId(Long userId, Long restaurantId);
+
     List<Users> findAllByRole(UserRole role);
     List<Users> findAllByRoleAndCustomerStatus(UserRole role, CustomerStatus status);
     List<Users> findAllByRoleAndOwnerStatus(UserRole role, OwnerStatus status);
+
+    // 여러 사용자 이름을 IN 쿼리 한 번으로 조회 (예약 목록 N+1 방지)
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname, u.realName AS realName "
+            + "FROM Users u WHERE u.userId IN :userIds")
+    List<UserNameView> findNamesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // JWT 인증 시 계정 상태 확인 (UserStatusCache 에서 캐시 미스일 때만 호출)
+    @Query("SELECT u.role AS role, u.customerStatus AS customerStatus, u.ownerStatus AS ownerStatus "
+            + "FROM Users u WHERE u.userId = :userId")
+    Optional<UserStatusView> findStatusByUserId(@Param("userId") Long userId);
+
+    // 일괄 가져오기 시 이미 등록된 이메일(정규화)을 한 번에 확인
+    @Query("SELECT u.emailNormalized FROM Users u WHERE u.emailNormalized IN :emails")
+    List<String> findNormalizedEmailsIn(@Param("emails") Collection<String> emails);
+
+    // 로그인 시 해시 비용 변경에 따른 재해시 (그사이 비밀번호가 바뀌었으면 0건)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Users u SET u.passwordHash = :newHash, u.updatedAt = LOCAL DATETIME "
+            + "WHERE u.userId = :userId AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
 }
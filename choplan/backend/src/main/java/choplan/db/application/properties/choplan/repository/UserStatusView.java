@@ -0,0 +1,14 @@
+package choplan.db.application.properties.choplan.repository;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+
+/**
+ * 인증 필터용 계정 상태 프로젝션 (users 전체 행 대신 권한 / 상태 컬럼만 조회)
+ */
+public interface UserStatusView {
+    UserRole getRole();
+    CustomerStatus getCustomerStatus();
+    OwnerStatus getOwnerStatus();
+}
@@ -1,5 +1,6 @@
 package choplan.db.application.properties.choplan.security;
 
+import choplan.db.application.properties.choplan.entity.UserRole;
 import choplan.db.application.properties.choplan.entity.Users;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -8,28 +9,65 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 인증된 사용자 정보
+ * - JWT 인증 시에는 토큰 클레임과 캐시된 계정 상태로 생성되므로 비밀번호 해시가 없음
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final Users user;
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+    private final String status;
+    private final boolean active;
+    private final String passwordHash;
 
     public CustomUserDetails(Users user) {
-        this.user = user;
+        this(user.getUserId(), user.getEmail(),
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus()),
+                user.getPasswordHash());
+    }
+
+    public CustomUserDetails(Long userId, String email, UserStatusCache.UserState state) {
+        this(userId, email, state, null);
+    }
+
+    private CustomUserDetails(Long userId, String email, UserStatusCache.UserState state, String passwordHash) {
+        this.userId = userId;
+        this.email = email;
+        this.role = state.role();
+        this.status = state.status();
+        this.active = state.active();
+        this.passwordHash = passwordHash;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    // CUSTOMER 는 customerStatus, OWNER 는 ownerStatus (ADMIN 은 null)
+    public String getStatus() {
+        return status;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return passwordHash;
 
     }
     
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -42,5 +80,5 @@ public class CustomUserDetails implements UserDetails {
     public boolean isCredentialsNonExpired() { return true; }
 
     @Override
-    public boolean isEnabled() { return true; }
+    public boolean isEnabled() { return active; }
 }
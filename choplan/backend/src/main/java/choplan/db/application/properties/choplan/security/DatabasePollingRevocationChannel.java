@@ -0,0 +1,60 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import choplan.db.application.properties.choplan.entity.TokenRevocation;
+import choplan.db.application.properties.choplan.repository.TokenRevocationRepository;
+
+/**
+ * 공유 DB 의 token_revocations 를 주기적으로 조회해 다른 서버의 무효화를 받는 채널
+ * - 별도 메시지 브로커 없이 여러 서버를 동기화 (전파 지연 = 조회 주기)
+ * - 서버 간 시계 차이를 감안해 마지막으로 본 시각보다 overlap 만큼 앞에서부터 다시 조회 (수신 측은 멱등)
+ */
+@Component
+@ConditionalOnProperty(name = "choplan.auth.revocation.channel", havingValue = "db-poll")
+public class DatabasePollingRevocationChannel implements RevocationChannel {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final long overlapMs;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile long lastSeen = System.currentTimeMillis();
+
+    public DatabasePollingRevocationChannel(TokenRevocationRepository tokenRevocationRepository,
+                                            @Value("${choplan.auth.revocation.poll-overlap-ms:30000}") long overlapMs) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.overlapMs = overlapMs;
+    }
+
+    @Override
+    public void publish(long userId, long revokedBeforeMillis) {
+        // 저장된 행을 다른 서버가 조회하므로 별도 전송 없음, 이 서버는 바로 반영
+        for (Listener listener : listeners) {
+            listener.onRevoked(userId, revokedBeforeMillis);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${choplan.auth.revocation.poll-ms:5000}")
+    public void poll() {
+        long pollStartedAt = System.currentTimeMillis();
+        List<TokenRevocation> changes =
+                tokenRevocationRepository.findByRevokedBeforeGreaterThanEqual(lastSeen - overlapMs);
+        lastSeen = pollStartedAt;
+        for (TokenRevocation change : changes) {
+            for (Listener listener : listeners) {
+                listener.onRevoked(change.getUserId(), change.getRevokedBefore());
+            }
+        }
+    }
+}
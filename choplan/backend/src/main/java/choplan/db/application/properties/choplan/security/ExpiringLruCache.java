@@ -0,0 +1,93 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 크기와 항목별 만료 시각이 있는 LRU 캐시
+ * - TokenBucketLimiter 와 같이 여러 조각(stripe)의 접근 순서 LinkedHashMap 으로 나눠 잠금 범위를 줄이고,
+ *   조각마다 최대 개수를 넘으면 가장 오래 안 쓴 항목부터 제거 (조회 / 추가 모두 전체를 훑지 않음)
+ * - 만료된 항목은 조회할 때 제거하고, 조회되지 않는 항목은 LRU 로 밀려남
+ * - 시각의 단위는 호출자가 정함 (nanoTime / currentTimeMillis 등, 같은 단위로만 비교)
+ * - 인증 캐시 외에 서비스의 조회 캐시(NotificationService 읽지 않은 수)에서도 사용
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int STRIPES = 16;
+
+    private final Map<K, Entry<V>>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+        }
+        int perStripe = Math.max(1, maxSize / STRIPES);
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    return size() > perStripe;
+                }
+            };
+        }
+    }
+
+    /**
+     * 만료되지 않은 값을 반환합니다. 없거나 만료되었으면 null
+     */
+    public V get(K key, long now) {
+        Map<K, Entry<V>> stripe = stripe(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() - now <= 0) {
+                stripe.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        Map<K, Entry<V>> stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void remove(K key) {
+        Map<K, Entry<V>> stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Map<K, Entry<V>> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<K, Entry<V>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<K, Entry<V>> stripe(K key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
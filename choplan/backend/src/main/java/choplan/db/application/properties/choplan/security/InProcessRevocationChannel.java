@@ -0,0 +1,29 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 프로세스 안에서만 전달하는 무효화 채널 (단일 서버 / 테스트용)
+ */
+@Component
+@ConditionalOnProperty(name = "choplan.auth.revocation.channel", havingValue = "in-process", matchIfMissing = true)
+public class InProcessRevocationChannel implements RevocationChannel {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(long userId, long revokedBeforeMillis) {
+        for (Listener listener : listeners) {
+            listener.onRevoked(userId, revokedBeforeMillis);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -4,7 +4,6 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -14,15 +13,24 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * JWT 인증 필터
+ * - 토큰 클레임(userId / 이메일 / 권한)으로 인증 정보를 만들고 users 행은 조회하지 않음
+ * - 계정 상태는 UserStatusCache 로 확인해 정지 / 탈퇴 / 미승인 계정은 인증하지 않음
+ * - 무효화된 토큰(RevokedSubjects)은 메모리에서 O(1) 로 확인
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final RevokedSubjects revokedSubjects;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserStatusCache userStatusCache,
+                                   RevokedSubjects revokedSubjects) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.userStatusCache = userStatusCache;
+        this.revokedSubjects = revokedSubjects;
     }
 
     @Override
@@ -30,25 +38,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
+        String token = resolveToken(request);
 
-            if (jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmail(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (token != null) {
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+            // 리프레시 토큰으로는 API 를 호출할 수 없음
+            if (verified != null && verified.isAccessToken()) {
+                CustomUserDetails userDetails = toPrincipal(verified);
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                if (userDetails != null && userDetails.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities());
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 클레임과 캐시된 계정 상태로 인증 정보를 만듭니다. 사용자가 없거나 무효화 / 권한이 바뀐 토큰은 null 을 반환합니다.
+     */
+    private CustomUserDetails toPrincipal(VerifiedToken verified) {
+        if (verified.userId() == null || revokedSubjects.isRevoked(verified.userId(), verified.issuedAtMillis())) {
+            return null;
+        }
+        UserStatusCache.UserState state = userStatusCache.get(verified.userId());
+        if (state == null || !state.role().name().equals(verified.role())) {
+            return null;
+        }
+        return new CustomUserDetails(verified.userId(), verified.email(), state);
+    }
+
+    /**
+     * Authorization 헤더의 Bearer 토큰을 꺼냅니다.
+     * 토큰은 URL 로 받지 않음 (실시간 이벤트 구독은 일회용 티켓 사용, EventStreamTicketService)
+     */
+    private String resolveToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return null;
+    }
 }
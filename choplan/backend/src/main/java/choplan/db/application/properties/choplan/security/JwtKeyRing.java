@@ -0,0 +1,121 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명 키 목록 (kid → HS256 키)
+ * - choplan.jwt.keys (kid:base64비밀키, 쉼표 구분) 또는 choplan.jwt.key-file (한 줄에 kid=base64비밀키) 에서 로드
+ * - 새 토큰은 active-kid 키로 서명하고, 목록에 있는 모든 키의 토큰을 검증하므로 키 교체 중에도 기존 토큰이 유효함
+ * - 교체 순서: 새 키 추가(전 노드 배포) → active-kid 변경 → 기존 토큰 만료 후 이전 키 제거
+ * - 설정이 없으면 기동 실패. dev / test 프로필에서만 임시 키를 생성 (재시작하면 모든 토큰이 무효화되고,
+ *   노드마다 키가 달라 다른 노드가 발급한 토큰을 거부하므로 운영에서 조용히 쓰이면 안 됨)
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final Map<String, Key> keys = new LinkedHashMap<>();
+    private final String activeKid;
+
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("dev", "test");
+
+    @Autowired
+    public JwtKeyRing(@Value("${choplan.jwt.keys:}") String configuredKeys,
+                      @Value("${choplan.jwt.key-file:}") String keyFile,
+                      @Value("${choplan.jwt.active-kid:}") String activeKid,
+                      Environment environment) {
+        this(configuredKeys, keyFile, activeKid, environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES));
+    }
+
+    public JwtKeyRing(String configuredKeys, String keyFile, String activeKid, boolean allowEphemeralKey) {
+        if (!configuredKeys.isBlank()) {
+            for (String entry : configuredKeys.split(",")) {
+                add(entry, ':');
+            }
+        }
+        if (!keyFile.isBlank()) {
+            loadFile(Path.of(keyFile));
+        }
+
+        if (keys.isEmpty()) {
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException(
+                        "JWT 서명 키가 설정되지 않았습니다. choplan.jwt.keys 또는 choplan.jwt.key-file 을 지정하세요 (dev / test 프로필에서만 임시 키 허용).");
+            }
+            String kid = "ephemeral-" + UUID.randomUUID();
+            keys.put(kid, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+            log.warn("JWT 서명 키가 설정되지 않아 임시 키를 사용합니다. 재시작하면 모든 토큰이 무효화되며 개발 / 테스트 전용입니다.");
+            this.activeKid = kid;
+        } else if (!activeKid.isBlank()) {
+            if (!keys.containsKey(activeKid)) {
+                throw new IllegalStateException("choplan.jwt.active-kid 에 해당하는 키가 없습니다: " + activeKid);
+            }
+            this.activeKid = activeKid;
+        } else if (keys.size() == 1) {
+            this.activeKid = keys.keySet().iterator().next();
+        } else {
+            throw new IllegalStateException("JWT 서명 키가 여러 개이면 choplan.jwt.active-kid 를 지정해야 합니다.");
+        }
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public Key getActiveKey() {
+        return keys.get(activeKid);
+    }
+
+    /**
+     * kid 에 해당하는 검증 키를 반환합니다. 모르는 kid 이면 null 을 반환합니다.
+     */
+    public Key resolve(String kid) {
+        return kid != null ? keys.get(kid) : null;
+    }
+
+    private void loadFile(Path path) {
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    add(trimmed, '=');
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private void add(String entry, char separator) {
+        int index = entry.indexOf(separator);
+        if (index <= 0) {
+            throw new IllegalStateException("JWT 키 형식이 올바르지 않습니다 (kid" + separator + "base64비밀키)");
+        }
+        String kid = entry.substring(0, index).trim();
+        byte[] secret = Base64.getDecoder().decode(entry.substring(index + 1).trim());
+        if (secret.length < 32) {
+            throw new IllegalStateException("JWT 키 " + kid + " 는 256비트(32바이트) 이상이어야 합니다.");
+        }
+        if (keys.put(kid, Keys.hmacShaKeyFor(secret)) != null) {
+            throw new IllegalStateException("JWT 키 kid 가 중복되었습니다: " + kid);
+        }
+    }
+}
@@ -1,52 +1,177 @@
 package choplan.db.application.properties.choplan.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UserAuthView;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 
+/**
+ * JWT 발급 / 검증
+ * - JwtKeyRing 의 활성 키로 서명하고 kid 헤더로 검증 키를 찾으므로 여러 노드 / 키 교체 중에도 같은 토큰을 검증
+ * - 액세스 토큰은 짧게(기본 15분), 재발급용 리프레시 토큰은 길게(기본 14일) 발급
+ * - 파서는 한 번만 만들어 재사용 (JwtParser 는 thread-safe)
+ * - 검증은 요청당 한 번: 서명 / 만료 확인과 클레임 추출을 함께 수행
+ * - 검증된 토큰은 토큰 SHA-256 다이제스트 → 클레임으로 만료 시각까지 보관해 같은 토큰의 재검증을 생략
+ *   (최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거, ExpiringLruCache)
+ */
 @Component
 public class JwtTokenProvider {
 
-    private final Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    private final long validityInMs = 1000 * 60 * 60; // 1시간
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String STATUS_CLAIM = "status";
+    public static final String TYPE_CLAIM = "typ";
 
-    // 토큰 생성
-    public String createToken(String email, String role) {
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + validityInMs))
-                .signWith(secretKey)
-                .compact();
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    private final JwtKeyRing keyRing;
+    private final long accessTokenValidityMs;
+    private final long refreshTokenValidityMs;
+    private final JwtParser parser;
+
+    private final ExpiringLruCache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(JwtKeyRing keyRing,
+                            @Value("${choplan.jwt.access-token-ttl-seconds:900}") long accessTokenTtlSeconds,
+                            @Value("${choplan.jwt.refresh-token-ttl-seconds:1209600}") long refreshTokenTtlSeconds,
+                            @Value("${choplan.auth.token-cache.max-size:10000}") int verifiedCacheMaxSize) {
+        this.keyRing = keyRing;
+        this.accessTokenValidityMs = accessTokenTtlSeconds * 1000;
+        this.refreshTokenValidityMs = refreshTokenTtlSeconds * 1000;
+        this.verifiedTokens = new ExpiringLruCache<>(verifiedCacheMaxSize);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    // 액세스 토큰 생성 (인증 필터가 DB 조회 없이 사용자를 식별하도록 userId / 권한 / 발급 시점 상태를 포함)
+    public String createToken(Users user) {
+        return createToken(user.getUserId(), user.getEmail(),
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus()));
+    }
+
+    public String createToken(UserAuthView user) {
+        return createToken(user.getUserId(), user.getEmail(),
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus()));
+    }
+
+    public String createToken(Long userId, String email, UserStatusCache.UserState state) {
+        return sign(userId, email, state, ACCESS_TOKEN, accessTokenValidityMs);
+    }
+
+    // 리프레시 토큰 생성 (액세스 토큰 재발급 전용, 인증 필터에서는 사용할 수 없음)
+    public String createRefreshToken(Users user) {
+        return createRefreshToken(user.getUserId(), user.getEmail(),
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus()));
+    }
+
+    public String createRefreshToken(UserAuthView user) {
+        return createRefreshToken(user.getUserId(), user.getEmail(),
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus()));
+    }
+
+    public String createRefreshToken(Long userId, String email, UserStatusCache.UserState state) {
+        return sign(userId, email, state, REFRESH_TOKEN, refreshTokenValidityMs);
     }
 
-    // 토큰에서 사용자 이메일 추출
-    public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public long getAccessTokenValiditySeconds() {
+        return accessTokenValidityMs / 1000;
+    }
+
+    public long getRefreshTokenValiditySeconds() {
+        return refreshTokenValidityMs / 1000;
+    }
+
+    /**
+     * 토큰을 검증하고 클레임을 반환합니다. 위조 / 만료 / 형식 오류 토큰은 null 을 반환합니다.
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified != null) {
+            verifiedTokens.put(digest, verified, verified.expiresAtMillis());
+        }
+        return verified;
     }
 
     // 토큰 유효성 검사
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    private String sign(Long userId, String email, UserStatusCache.UserState state, String type, long validityMs) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .setSubject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, state.role().name())
+                .claim(STATUS_CLAIM, state.status())
+                .claim(TYPE_CLAIM, type)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validityMs))
+                .signWith(keyRing.getActiveKey())
+                .compact();
+    }
+
+    private VerifiedToken parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build() 
-                    .parseClaimsJws(token);   
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date issuedAt = claims.getIssuedAt();
+            Date expiration = claims.getExpiration();
+            if (issuedAt == null || expiration == null) {
+                return null;
+            }
+            return new VerifiedToken(
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.getSubject(),
+                    claims.get(ROLE_CLAIM, String.class),
+                    claims.get(STATUS_CLAIM, String.class),
+                    claims.get(TYPE_CLAIM, String.class),
+                    issuedAt.getTime(),
+                    expiration.getTime());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
         }
     }
 }
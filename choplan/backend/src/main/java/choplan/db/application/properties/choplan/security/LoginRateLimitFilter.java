@@ -0,0 +1,176 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 로그인 시도 제한 (JwtAuthenticationFilter 앞)
+ * - 클라이언트 IP 별, 이메일 별 토큰 버킷을 모두 통과해야 로그인 처리로 넘어감
+ * - 거절은 DB 조회 / BCrypt 전에 429 + Retry-After 로 응답
+ * - 로그인 외에도 이메일 / 비밀번호를 확인하는 요청(사업자등록증 업로드 URL 재발급)은 같은 버킷을 사용
+ * - IP 는 getRemoteAddr 기준 (프록시 뒤에서는 server.forward-headers-strategy 로 신뢰할 프록시만 반영)
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    static final Set<String> LOGIN_PATHS = Set.of("/auth/customer/login", "/auth/owner/login", "/auth/admin/login",
+            "/auth/owner/signup/document");
+
+    // 로그인 요청 본문은 작으므로 이보다 크면 이메일을 읽지 않고 IP 제한만 적용
+    private static final int MAX_BODY_BYTES = 4 * 1024;
+
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoginRateLimitFilter(@Value("${choplan.auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                                @Value("${choplan.auth.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                                @Value("${choplan.auth.rate-limit.email.capacity:5}") int emailCapacity,
+                                @Value("${choplan.auth.rate-limit.email.refill-per-minute:2}") int emailRefillPerMinute,
+                                @Value("${choplan.auth.rate-limit.max-keys:100000}") int maxKeys) {
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxKeys);
+        this.emailLimiter = new TokenBucketLimiter(emailCapacity, emailRefillPerMinute, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LOGIN_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length <= MAX_BODY_BYTES) {
+            String email = readEmail(body);
+            if (email != null) {
+                waitNanos = emailLimiter.tryAcquire(email);
+                if (waitNanos > 0) {
+                    reject(response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String readEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러에서 400 으로 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"status\":429,\"message\":\"로그인 시도가 너무 많습니다. " + retryAfter
+                + "초 후 다시 시도해주세요.\",\"data\":null}");
+    }
+
+    /**
+     * 이메일 확인을 위해 먼저 읽은 본문을 컨트롤러에서 다시 읽을 수 있게 하는 요청 래퍼
+     * (한도를 넘는 본문은 읽은 앞부분 뒤에 나머지 스트림을 이어 붙임)
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] head) {
+            super(request);
+            this.head = head;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            ServletInputStream rest = super.getInputStream();
+            ByteArrayInputStream cached = new ByteArrayInputStream(head);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = cached.read();
+                    return b != -1 ? b : rest.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = cached.read(buffer, offset, length);
+                    return n > 0 ? n : rest.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return cached.available() == 0 && rest.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return cached.available() > 0 || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (!rest.isFinished()) {
+                        // 나머지 본문은 컨테이너가 읽을 수 있을 때 알림 (앞부분은 read 에서 먼저 반환)
+                        rest.setReadListener(readListener);
+                        return;
+                    }
+                    // 본문을 이미 모두 읽었으므로 남은 앞부분을 바로 읽게 하고 끝을 알림
+                    try {
+                        if (cached.available() > 0) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
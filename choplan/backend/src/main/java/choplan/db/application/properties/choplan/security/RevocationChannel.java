@@ -0,0 +1,23 @@
+package choplan.db.application.properties.choplan.security;
+
+/**
+ * 토큰 무효화를 다른 서버에 전달하는 채널
+ * - choplan.auth.revocation.channel: in-process(기본, 단일 서버 / 테스트), db-poll(공유 DB 를 주기적으로 조회)
+ */
+public interface RevocationChannel {
+
+    /**
+     * 이 서버에서 발생한 무효화를 알립니다 (token_revocations 저장 후 호출)
+     */
+    void publish(long userId, long revokedBeforeMillis);
+
+    /**
+     * 무효화 수신 리스너를 등록합니다. 자신이 발행한 무효화도 전달될 수 있으므로 멱등하게 처리해야 합니다.
+     */
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onRevoked(long userId, long revokedBeforeMillis);
+    }
+}
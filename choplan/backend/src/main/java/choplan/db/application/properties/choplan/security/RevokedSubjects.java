@@ -0,0 +1,124 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰이 무효화된 사용자 목록 (userId → 무효화 시각)
+ * - long 키 / 값 배열 기반 오픈 어드레싱 해시 (박싱 없음, 항목당 약 32바이트)
+ * - 조회는 인증 요청마다 실행되므로 잠금 없이 O(1), 변경은 드물어 복사 후 교체(copy-on-write)
+ * - 발급 시각(iat)은 초 단위이므로 무효화와 같은 초에 발급된 토큰도 거부
+ */
+@Component
+public class RevokedSubjects {
+
+    private volatile Table table = new Table(16);
+
+    /**
+     * issuedAtMillis 에 발급된 사용자 토큰이 무효화되었는지 확인합니다.
+     */
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        long revokedBefore = table.get(userId);
+        return revokedBefore != 0 && issuedAtMillis / 1000 <= revokedBefore / 1000;
+    }
+
+    /**
+     * 사용자 토큰 무효화 시각을 기록합니다 (더 늦은 시각만 반영)
+     */
+    public synchronized void revoke(long userId, long revokedBeforeMillis) {
+        if (userId <= 0 || table.get(userId) >= revokedBeforeMillis) {
+            return;
+        }
+        Table current = table;
+        Table next = new Table(current.size + 1 > current.keys.length / 2 ? current.keys.length * 2 : current.keys.length);
+        current.copyTo(next, Long.MIN_VALUE);
+        next.put(userId, revokedBeforeMillis);
+        table = next;
+    }
+
+    /**
+     * 여러 사용자의 무효화 시각을 한 번에 기록합니다 (서버 시작 시 로드, 테이블을 한 번만 만들어 교체)
+     */
+    public synchronized void revokeAll(Map<Long, Long> revokedBeforeMillis) {
+        Table current = table;
+        int capacity = current.keys.length;
+        while (current.size + revokedBeforeMillis.size() > capacity / 2) {
+            capacity *= 2;
+        }
+        Table next = new Table(capacity);
+        current.copyTo(next, Long.MIN_VALUE);
+        revokedBeforeMillis.forEach((userId, revokedBefore) -> {
+            if (userId > 0 && next.get(userId) < revokedBefore) {
+                next.put(userId, revokedBefore);
+            }
+        });
+        table = next;
+    }
+
+    /**
+     * 무효화 시각이 cutoff 보다 이른 항목을 제거합니다 (그 이전 토큰은 모두 만료됨)
+     */
+    public synchronized void purgeBefore(long cutoffMillis) {
+        Table current = table;
+        Table next = new Table(current.keys.length);
+        current.copyTo(next, cutoffMillis);
+        table = next;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    private static final class Table {
+
+        // userId 는 1부터 시작하므로 0 을 빈 칸 표시로 사용
+        private final long[] keys;
+        private final long[] values;
+        private int size;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) {
+                    return values[i];
+                }
+                if (k == 0) {
+                    return 0;
+                }
+            }
+        }
+
+        void put(long key, long value) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void copyTo(Table target, long minValue) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0 && values[i] >= minValue) {
+                    target.put(keys[i], values[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 요청 제한
+ * - 버킷 하나는 AtomicLong 하나(다음 토큰이 채워지는 이론적 시각, GCRA)로 표현되어 CAS 만으로 차감 (락 없음)
+ * - 버킷 목록은 여러 조각(stripe)의 LRU 맵으로 나눠 잠금 범위를 줄이고, 조각마다 최대 개수를 넘으면 가장 오래 안 쓴 키부터 제거
+ */
+public class TokenBucketLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Map<String, AtomicLong>[] stripes;
+
+    /**
+     * @param capacity        한 번에 허용하는 최대 요청 수 (버킷 크기)
+     * @param refillPerMinute 분당 채워지는 토큰 수
+     * @param maxKeys         보관할 최대 키 수 (초과 시 LRU 제거)
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        if (capacity <= 0 || refillPerMinute <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("요청 제한 설정은 0보다 커야 합니다.");
+        }
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = intervalNanos * capacity;
+
+        int perStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AtomicLong> eldest) {
+                    return size() > perStripe;
+                }
+            };
+        }
+    }
+
+    /**
+     * 토큰 하나를 차감합니다. 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초를 반환합니다.
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        Map<String, AtomicLong> stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+    }
+}
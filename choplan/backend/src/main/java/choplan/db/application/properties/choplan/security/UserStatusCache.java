@@ -0,0 +1,83 @@
+package choplan.db.application.properties.choplan.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.repository.UserStatusView;
+
+/**
+ * JWT 인증용 계정 상태 캐시
+ * - 요청마다 users 행을 읽지 않도록 userId → 계정 상태를 TTL 동안 보관
+ * - 관리자 / 서비스가 상태를 변경하면 evict 로 즉시 무효화되어 정지된 계정은 다음 요청부터 차단됨
+ * - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (ExpiringLruCache)
+ */
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final ExpiringLruCache<Long, UserState> entries;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${choplan.auth.status-cache.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${choplan.auth.status-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * 계정 상태를 반환합니다. 존재하지 않는 사용자는 null 을 반환합니다 (캐시하지 않음).
+     */
+    public UserState get(Long userId) {
+        long now = System.nanoTime();
+        UserState cached = entries.get(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserState state = userRepository.findStatusByUserId(userId).map(UserState::of).orElse(null);
+        if (state == null) {
+            entries.remove(userId);
+            return null;
+        }
+        entries.put(userId, state, now + ttlNanos);
+        return state;
+    }
+
+    /**
+     * 상태 변경 직후 호출해 캐시된 상태를 버립니다.
+     */
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 인증에 필요한 계정 상태 (권한 / 역할별 상태 / 이용 가능 여부)
+     */
+    public record UserState(UserRole role, String status, boolean active) {
+
+        static UserState of(UserStatusView view) {
+            return of(view.getRole(), view.getCustomerStatus(), view.getOwnerStatus());
+        }
+
+        // 로그인과 같은 기준: CUSTOMER 는 ACTIVE, OWNER 는 APPROVED 일 때만 이용 가능
+        public static UserState of(UserRole role, CustomerStatus customerStatus, OwnerStatus ownerStatus) {
+            return switch (role) {
+                case CUSTOMER -> new UserState(role, customerStatus.name(), customerStatus == CustomerStatus.ACTIVE);
+                case OWNER -> new UserState(role, ownerStatus.name(), ownerStatus == OwnerStatus.APPROVED);
+                case ADMIN -> new UserState(role, null, true);
+            };
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package choplan.db.application.properties.choplan.security;
+
+/**
+ * 서명 / 만료 검증을 마친 JWT 의 클레임
+ * - status 는 발급 시점 상태이며, 현재 상태는 UserStatusCache 로 확인
+ */
+public record VerifiedToken(Long userId, String email, String role, String status, String type,
+                            long issuedAtMillis, long expiresAtMillis) {
+
+    public boolean isAccessToken() {
+        return JwtTokenProvider.ACCESS_TOKEN.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.REFRESH_TOKEN.equals(type);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
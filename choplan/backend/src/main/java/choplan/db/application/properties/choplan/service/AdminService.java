@@ -1,40 +1,49 @@
 package choplan.db.application.properties.choplan.service;
 
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import choplan.db.application.properties.choplan.dto.AuthResponse;
 import choplan.db.application.properties.choplan.dto.LoginRequest;
 import choplan.db.application.properties.choplan.dto.SignupRequestAdmin;
 import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
 import choplan.db.application.properties.choplan.entity.OwnerStatus;
 import choplan.db.application.properties.choplan.entity.UserRole;
 import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.DocumentUploadRepository;
+import choplan.db.application.properties.choplan.repository.UserAuthView;
 import choplan.db.application.properties.choplan.repository.UserRepository;
 import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import java.util.List;
 
 
 @Service
+@Timed("choplan.service")
 @RequiredArgsConstructor
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordService passwordService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final DocumentUploadRepository documentUploadRepository;
 
     // ADMIN 회원가입
     public Users registerAdmin(SignupRequestAdmin request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        if (userRepository.existsByEmailNormalized(Users.normalizeEmail(request.getEmail()))) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
         Users admin = Users.builder()
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordService.encode(request.getPassword()))
                 .realName(request.getRealName())
                 .phone(request.getPhone())
                 .role(UserRole.ADMIN)
@@ -45,20 +54,22 @@ public class AdminService {
 
     // ADMIN 로그인
     public AuthResponse login(LoginRequest request) {
-        Users user = userRepository.findByEmail(request.getEmail())
+        UserAuthView user = userRepository.findAuthByEmailNormalized(Users.normalizeEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordService.matches(user, request.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user);
 
         return new AuthResponse(
                 200,
                 "로그인 성공",
                 Map.of(
                         "token", token,
+                        "refreshToken", jwtTokenProvider.createRefreshToken(user),
+                        "expiresIn", jwtTokenProvider.getAccessTokenValiditySeconds(),
                         "email", user.getEmail(),
                         "role", user.getRole().name()
                 )
@@ -66,6 +77,7 @@ public class AdminService {
     }
 
     // OWNER 상태 변경 (승인/거절/정지/탈퇴)
+    @Transactional
     public Users updateOwnerStatus(Long ownerId, OwnerStatus status) {
         Users owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 OWNER 사용자를 찾을 수 없습니다."));
@@ -73,12 +85,18 @@ public class AdminService {
         if (owner.getRole() != UserRole.OWNER) {
             throw new IllegalArgumentException("해당 사용자는 OWNER 권한이 아닙니다.");
         }
+        if (status == OwnerStatus.APPROVED && owner.getOwnerStatus() == OwnerStatus.PENDING_DOCUMENT) {
+            throw new IllegalArgumentException("사업자등록증 업로드가 아직 완료되지 않았습니다.");
+        }
 
         owner.setOwnerStatus(status);
-        return userRepository.save(owner);
+        Users saved = userRepository.save(owner);
+        tokenRevocationService.onStatusChanged(saved);
+        return saved;
     }
 
     // CUSTOMER 상태 변경 (활성/정지/탈퇴)
+    @Transactional
     public Users updateCustomerStatus(Long customerId, CustomerStatus status) {
         Users customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 CUSTOMER 사용자를 찾을 수 없습니다."));
@@ -88,7 +106,9 @@ public class AdminService {
         }
 
         customer.setCustomerStatus(status);
-        return userRepository.save(customer);
+        Users saved = userRepository.save(customer);
+        tokenRevocationService.onStatusChanged(saved);
+        return saved;
     }
 
     public List<Users> findCustomers(CustomerStatus status) {
@@ -104,4 +124,14 @@ public class AdminService {
         }
         return userRepository.findAllByRoleAndOwnerStatus(UserRole.OWNER, status);
     }
+
+    // 점주별 최근 사업자등록증 업로드 작업 (백그라운드 업로드 도입 전에 가입한 점주는 작업 행이 없음)
+    public Map<Long, DocumentUpload> findDocumentUploads(List<Users> owners) {
+        if (owners.isEmpty()) {
+            return Map.of();
+        }
+        return documentUploadRepository.findByUserIdIn(owners.stream().map(Users::getUserId).toList()).stream()
+                .collect(Collectors.toMap(DocumentUpload::getUserId, Function.identity(),
+                        (a, b) -> a.getId() > b.getId() ? a : b));
+    }
 }
@@ -0,0 +1,55 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import choplan.db.application.properties.choplan.dto.AuthResponse;
+import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import choplan.db.application.properties.choplan.security.RevokedSubjects;
+import choplan.db.application.properties.choplan.security.UserStatusCache;
+import choplan.db.application.properties.choplan.security.VerifiedToken;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 재발급
+ * - 리프레시 토큰은 어느 노드에서 발급했든 키 목록으로 검증되므로 노드 추가 / 재시작 시 다시 로그인할 필요가 없음
+ * - 재발급 시 현재 계정 상태를 다시 확인하고, 리프레시 토큰도 새로 발급(슬라이딩)
+ */
+@Service
+@Timed("choplan.service")
+@RequiredArgsConstructor
+public class AuthTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserStatusCache userStatusCache;
+    private final RevokedSubjects revokedSubjects;
+
+    public AuthResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("리프레시 토큰이 필요합니다.");
+        }
+
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+        if (verified == null || !verified.isRefreshToken() || verified.userId() == null
+                || revokedSubjects.isRevoked(verified.userId(), verified.issuedAtMillis())) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 리프레시 토큰입니다.");
+        }
+
+        UserStatusCache.UserState state = userStatusCache.get(verified.userId());
+        if (state == null || !state.active() || !state.role().name().equals(verified.role())) {
+            throw new IllegalArgumentException("현재 계정 상태로는 토큰을 재발급할 수 없습니다.");
+        }
+
+        return new AuthResponse(
+                200,
+                "토큰 재발급 성공",
+                Map.of(
+                        "token", jwtTokenProvider.createToken(verified.userId(), verified.email(), state),
+                        "refreshToken", jwtTokenProvider.createRefreshToken(verified.userId(), verified.email(), state),
+                        "expiresIn", jwtTokenProvider.getAccessTokenValiditySeconds()
+                )
+        );
+    }
+}
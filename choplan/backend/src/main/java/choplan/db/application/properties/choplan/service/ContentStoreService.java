@@ -0,0 +1,246 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import choplan.db.application.properties.choplan.entity.ContentBlob;
+import choplan.db.application.properties.choplan.repository.ContentBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * 내용 주소 기반 중복 제거 저장
+ * - 키 = 접두사 / 내용의 SHA-256 (파일을 받는 동안 스트리밍으로 계산) → 같은 파일은 같은 키
+ * - 업로드 전에 content_blob 으로 이미 저장된 내용인지 확인하고, 있으면 전송하지 않음
+ * - 참조 수는 사용자 등에 연결하는 트랜잭션에서 함께 올리고 내리므로 연결과 어긋나지 않음
+ * - 참조가 0 이 된 뒤 gc-grace 가 지난 객체는 주기적으로 일괄 삭제
+ *   (삭제 중으로 먼저 표시하므로 그 사이에 새 참조가 붙지 않고, 붙으려던 쪽은 다시 업로드함)
+ */
+@Slf4j
+@Service
+public class ContentStoreService {
+
+    private static final int GC_BATCH = 100;
+
+    private final ContentBlobRepository contentBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final StorageMetrics storageMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final long gcGraceMs;
+
+    public ContentStoreService(ContentBlobRepository contentBlobRepository,
+                               FileStorageService fileStorageService,
+                               StorageMetrics storageMetrics,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${choplan.storage.content.gc-grace-ms:86400000}") long gcGraceMs) {
+        this.contentBlobRepository = contentBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.storageMetrics = storageMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.gcGraceMs = gcGraceMs;
+    }
+
+    /**
+     * 스트림 끝까지의 SHA-256 (16진수)
+     */
+    public static String hash(InputStream content) throws IOException {
+        DigestInputStream digesting = new DigestInputStream(content, sha256());
+        digesting.transferTo(OutputStream.nullOutputStream());
+        return HexFormat.of().formatHex(digesting.getMessageDigest().digest());
+    }
+
+    /**
+     * 내용 주소 키 (접두사 / 해시 + 확장자)
+     */
+    public static String key(String prefix, String contentHash, String extension) {
+        return prefix + "/" + contentHash + extension;
+    }
+
+    /**
+     * key(...) 로 만든 키의 해시 부분
+     */
+    public static String hashOf(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    /**
+     * 같은 키 객체가 저장되어 있지 않을 때만 업로드합니다. 이번에 업로드했으면 true
+     * - 중복이면 source 를 열지 않음
+     * - 결과를 addReference 의 uploaded 로 그대로 넘겨야 함
+     */
+    public boolean putIfAbsent(String purpose, String key, InputStreamSource source, long size, String contentType)
+            throws IOException {
+        if (contentBlobRepository.existsByObjectKeyAndRefCountGreaterThanEqual(key, 0)) {
+            storageMetrics.recordDeduplicated(fileStorageService.getBackend(), purpose, size);
+            return false;
+        }
+        try (InputStream content = source.getInputStream()) {
+            fileStorageService.upload(purpose, key, content, size, contentType);
+        }
+        return true;
+    }
+
+    /**
+     * 업로드 파일을 내용 주소 키로 저장하고 참조를 하나 추가합니다. 접근 URL 을 반환합니다.
+     * - 서블릿이 디스크에 받아 둔 파일을 두 번(해시, 업로드) 읽지만 중복이면 전송은 하지 않음
+     */
+    public String store(String purpose, String prefix, String extension, MultipartFile file) throws IOException {
+        return store(purpose, prefix, extension, file, file.getSize(), file.getContentType());
+    }
+
+    /**
+     * 메모리에 있는 내용을 내용 주소 키로 저장하고 참조를 하나 추가합니다. 접근 URL 을 반환합니다.
+     */
+    public String store(String purpose, String prefix, String extension, byte[] content, String contentType)
+            throws IOException {
+        return store(purpose, prefix, extension, new ByteArrayResource(content), content.length, contentType);
+    }
+
+    private String store(String purpose, String prefix, String extension, InputStreamSource source, long size,
+                         String contentType) throws IOException {
+        String contentHash;
+        try (InputStream content = source.getInputStream()) {
+            contentHash = hash(content);
+        }
+        String key = key(prefix, contentHash, extension);
+
+        boolean uploaded = false;
+        if (contentBlobRepository.existsByObjectKeyAndRefCountGreaterThanEqual(key, 0)) {
+            storageMetrics.recordDeduplicated(fileStorageService.getBackend(), purpose, size);
+        } else {
+            try (InputStream content = source.getInputStream()) {
+                fileStorageService.upload(purpose, key, content, size, contentType);
+            }
+            uploaded = true;
+        }
+
+        boolean wasUploaded = uploaded;
+        transactionTemplate.executeWithoutResult(status ->
+                addReference(key, contentHash, size, contentType, wasUploaded));
+        return fileStorageService.getUrl(key);
+    }
+
+    /**
+     * 참조 추가 (사용자 등에 연결하는 트랜잭션 안에서 호출)
+     * - 중복이라 전송을 건너뛰었는데 그 사이에 객체가 삭제되었으면 IllegalStateException (다시 업로드해야 함)
+     * - 처음 저장된 객체는 행을 별도 트랜잭션에서 먼저 만든 뒤 참조를 늘림 (같은 내용을 동시에 처음 올려도 한 건만 생성)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addReference(String key, String contentHash, long size, String contentType, boolean uploaded) {
+        // 잠금 없는 조회로 먼저 확인 (없는 행을 UPDATE 하면 생기는 갭 잠금과 생성 트랜잭션이 서로 기다리지 않도록)
+        if (uploaded && !contentBlobRepository.existsById(key)) {
+            createIfAbsent(key, contentHash, size, contentType);
+        }
+        if (contentBlobRepository.incrementReference(key) != 1) {
+            throw new IllegalStateException("중복 확인 후 저장 객체가 삭제되어 다시 업로드해야 합니다: " + key);
+        }
+    }
+
+    // 참조 0 으로 생성 (호출자가 참조를 늘리지 못하고 롤백되면 유예 기간 뒤 가비지 컬렉션 대상)
+    private void createIfAbsent(String key, String contentHash, long size, String contentType) {
+        try {
+            newTransaction.executeWithoutResult(status -> contentBlobRepository.saveAndFlush(ContentBlob.builder()
+                    .objectKey(key)
+                    .contentHash(contentHash)
+                    .size(size)
+                    .contentType(contentType)
+                    .refCount(0)
+                    .unreferencedAt(System.currentTimeMillis())
+                    .build()));
+        } catch (DataIntegrityViolationException alreadyCreated) {
+            // 같은 내용을 다른 요청(노드)이 먼저 등록함
+        }
+    }
+
+    /**
+     * previousUrl 이 가리키던 객체의 참조를 해제합니다 (새 URL 로 바뀐 경우만)
+     * - 내용 주소 저장소를 거치지 않은 객체(직접 업로드, 가져오기 등)는 참조 수가 없으므로 무시
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseReplaced(String previousUrl, String currentUrl) {
+        if (previousUrl == null || Objects.equals(previousUrl, currentUrl)) {
+            return;
+        }
+        String key = fileStorageService.keyOf(previousUrl);
+        if (key != null) {
+            contentBlobRepository.decrementReference(key, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 참조가 없는 객체를 일괄 삭제하고 삭제한 수를 반환합니다
+     * - 저장소 삭제에 실패해 삭제 중(-1)으로 남은 객체도 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${choplan.storage.content.gc-interval-ms:3600000}")
+    public int collectGarbage() {
+        long cutoff = System.currentTimeMillis() - gcGraceMs;
+        int deleted = 0;
+        for (int refCount : new int[] {0, -1}) {
+            List<ContentBlob> batch;
+            int progress;
+            do {
+                batch = contentBlobRepository.findByRefCountAndUnreferencedAtLessThan(refCount, cutoff,
+                        Limit.of(GC_BATCH));
+                progress = 0;
+                for (ContentBlob blob : batch) {
+                    if (collect(blob, cutoff)) {
+                        progress++;
+                    }
+                }
+                deleted += progress;
+            } while (batch.size() == GC_BATCH && progress > 0);
+        }
+        if (deleted > 0) {
+            log.info("참조 없는 저장 객체 {}건 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    private boolean collect(ContentBlob blob, long cutoff) {
+        String key = blob.getObjectKey();
+        if (blob.getRefCount() == 0 && contentBlobRepository.markDeleting(key, cutoff) == 0) {
+            return false; // 그 사이에 다시 참조됨
+        }
+        try {
+            fileStorageService.delete(key);
+        } catch (IOException | SdkException e) {
+            log.warn("저장 객체 삭제 실패 key={}: {}", key, e.getMessage());
+            return false;
+        }
+        return contentBlobRepository.deleteMarked(key) == 1;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package choplan.db.application.properties.choplan.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import choplan.db.application.properties.choplan.dto.AuthResponse;
 import choplan.db.application.properties.choplan.dto.LoginRequest;
@@ -9,27 +9,31 @@ import choplan.db.application.properties.choplan.dto.SignupRequestCustomer;
 import choplan.db.application.properties.choplan.entity.CustomerStatus;
 import choplan.db.application.properties.choplan.entity.UserRole;
 import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UserAuthView;
 import choplan.db.application.properties.choplan.repository.UserRepository;
 import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("choplan.service")
 @RequiredArgsConstructor
 public class CustomerService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordService passwordService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     // CUSTOMER 회원가입
     public Users registerCustomer(SignupRequestCustomer request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        if (userRepository.existsByEmailNormalized(Users.normalizeEmail(request.getEmail()))) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
         Users user = Users.builder()
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordService.encode(request.getPassword()))
                 .realName(request.getRealName())
                 .phone(request.getPhone())
                 .nickname(request.getNickname())
@@ -42,10 +46,10 @@ public class CustomerService {
 
     // CUSTOMER 로그인
     public AuthResponse login(LoginRequest request) {
-        Users user = userRepository.findByEmail(request.getEmail())
+        UserAuthView user = userRepository.findAuthByEmailNormalized(Users.normalizeEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordService.matches(user, request.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
         }
 
@@ -55,13 +59,15 @@ public class CustomerService {
                                                + user.getCustomerStatus().name() + ")");
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user);
 
         return new AuthResponse(
                 200,
                 "로그인 성공",
                 java.util.Map.of(
                         "token", token,
+                        "refreshToken", jwtTokenProvider.createRefreshToken(user),
+                        "expiresIn", jwtTokenProvider.getAccessTokenValiditySeconds(),
                         "email", user.getEmail(),
                         "role", user.getRole().name(),
                         "customerStatus", user.getCustomerStatus().name()
@@ -70,6 +76,7 @@ public class CustomerService {
     }
 
     // CUSTOMER 상태 변경 (관리자 전용)
+    @Transactional
     public Users updateCustomerStatus(Long customerId, CustomerStatus status) {
         Users customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 CUSTOMER를 찾을 수 없습니다."));
@@ -79,6 +86,8 @@ public class CustomerService {
         }
 
         customer.setCustomerStatus(status);
-        return userRepository.save(customer);
+        Users saved = userRepository.save(customer);
+        tokenRevocationService.onStatusChanged(saved);
+        return saved;
     }
 }
@@ -0,0 +1,202 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.dto.ImportResult;
+import choplan.db.application.properties.choplan.dto.ReservationImportRequest;
+import choplan.db.application.properties.choplan.dto.UserImportRequest;
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 기존 예약 시스템 데이터 일괄 가져오기
+ * - ID 를 미리 할당(pooled 테이블 생성기)하므로 INSERT 가 JDBC 배치로 묶여 전송됨
+ * - batch-size 건마다 flush / clear 해서 건수와 무관하게 영속성 컨텍스트 크기를 일정하게 유지
+ * - 요청 단위로 한 트랜잭션: 중간에 실패하면 전체 롤백
+ */
+@Service
+public class DataImportService {
+
+    // 한 번에 가져올 수 있는 최대 건수
+    public static final int MAX_IMPORT_SIZE = 5000;
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final ReservationSlotService slotService;
+    private final int batchSize;
+
+    public DataImportService(EntityManager entityManager,
+                             UserRepository userRepository,
+                             ReservationSlotService slotService,
+                             @Value("${choplan.jpa.batch-size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.slotService = slotService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 예약을 일괄 등록합니다. 좌석을 점유하는 상태의 예약은 시간대별로 합산해 좌석을 차감합니다.
+     */
+    @Transactional
+    public ImportResult importReservations(List<ReservationImportRequest> requests) {
+        validateSize(requests);
+
+        Map<SlotKey, Integer> seatsBySlot = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Reservation reservation = toReservation(i + 1, requests.get(i));
+            persist(reservation, i + 1);
+            if (reservation.getStatus().holdsSeats()) {
+                seatsBySlot.merge(new SlotKey(reservation.getRestaurantId(), reservation.getReservationDate(),
+                        reservation.getReservationTime()), reservation.getGuests(), Integer::sum);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        seatsBySlot.forEach((slot, seats) ->
+                slotService.takeSeats(slot.restaurantId(), slot.date(), slot.time(), seats));
+        return new ImportResult(requests.size(), requests.size(), List.of());
+    }
+
+    /**
+     * 회원을 일괄 등록합니다. 이미 등록된 이메일(요청 내 중복, 대소문자만 다른 경우 포함)은 건너뜁니다.
+     */
+    @Transactional
+    public ImportResult importUsers(List<UserImportRequest> requests) {
+        validateSize(requests);
+
+        Set<String> emails = new HashSet<>();
+        for (UserImportRequest request : requests) {
+            if (request.getEmail() != null) {
+                emails.add(Users.normalizeEmail(request.getEmail()));
+            }
+        }
+        Set<String> taken = new HashSet<>(userRepository.findNormalizedEmailsIn(emails));
+
+        List<String> skipped = new ArrayList<>();
+        int imported = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            UserImportRequest request = requests.get(i);
+            Users user = toUser(i + 1, request);
+            if (!taken.add(Users.normalizeEmail(user.getEmail()))) {
+                skipped.add(user.getEmail());
+                continue;
+            }
+            persist(user, ++imported);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new ImportResult(requests.size(), imported, skipped);
+    }
+
+    private void persist(Object entity, int count) {
+        entityManager.persist(entity);
+        if (count % batchSize == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void validateSize(List<?> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("가져올 데이터가 비어 있습니다.");
+        }
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_IMPORT_SIZE + "건까지 가져올 수 있습니다.");
+        }
+    }
+
+    private Reservation toReservation(int row, ReservationImportRequest request) {
+        if (request.getUserId() == null || request.getRestaurantId() == null
+                || request.getUserName() == null || request.getUserPhone() == null
+                || request.getReservationDate() == null || request.getReservationTime() == null
+                || request.getGuests() == null) {
+            throw new IllegalArgumentException(row + "번째 예약: 필수 항목이 누락되었습니다.");
+        }
+        if (request.getGuests() <= 0) {
+            throw new IllegalArgumentException(row + "번째 예약: 예약 인원은 1명 이상이어야 합니다.");
+        }
+
+        return Reservation.builder()
+                .userId(request.getUserId())
+                .restaurantId(request.getRestaurantId())
+                .restaurantName(request.getRestaurantName())
+                .userName(request.getUserName())
+                .userPhone(request.getUserPhone())
+                .userEmail(request.getUserEmail())
+                .reservationDate(request.getReservationDate())
+                .reservationTime(request.getReservationTime())
+                .guests(request.getGuests())
+                .specialRequests(request.getSpecialRequests())
+                .status(parse(row, Reservation.ReservationStatus.class, request.getStatus(),
+                        Reservation.ReservationStatus.PENDING))
+                .visitStatus(parse(row, Reservation.VisitStatus.class, request.getVisitStatus(),
+                        Reservation.VisitStatus.PENDING))
+                .isBlacklisted(Reservation.VisitStatus.BLACKLISTED.name().equalsIgnoreCase(request.getVisitStatus()))
+                .createdAt(request.getCreatedAt())
+                .build();
+    }
+
+    private Users toUser(int row, UserImportRequest request) {
+        if (request.getEmail() == null || request.getRealName() == null || request.getRole() == null) {
+            throw new IllegalArgumentException(row + "번째 회원: 필수 항목이 누락되었습니다.");
+        }
+        if (request.getPasswordHash() == null || !BCRYPT_HASH.matcher(request.getPasswordHash()).matches()) {
+            throw new IllegalArgumentException(row + "번째 회원: 비밀번호는 BCrypt 해시여야 합니다.");
+        }
+        UserRole role = parse(row, UserRole.class, request.getRole(), null);
+        if (role == UserRole.ADMIN) {
+            throw new IllegalArgumentException(row + "번째 회원: ADMIN 계정은 가져올 수 없습니다.");
+        }
+
+        return Users.builder()
+                .email(request.getEmail())
+                .passwordHash(request.getPasswordHash())
+                .realName(request.getRealName())
+                .phone(request.getPhone())
+                .nickname(request.getNickname())
+                .role(role)
+                .customerStatus(parse(row, CustomerStatus.class, request.getCustomerStatus(), CustomerStatus.ACTIVE))
+                .ownerStatus(parse(row, OwnerStatus.class, request.getOwnerStatus(), OwnerStatus.PENDING))
+                .storeName(request.getStoreName())
+                .storePhone(request.getStorePhone())
+                .storeAddress(request.getStoreAddress())
+                .businessRegistrationDoc(request.getBusinessRegistrationDoc())
+                .build();
+    }
+
+    private <E extends Enum<E>> E parse(int row, Class<E> type, String value, E defaultValue) {
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(row + "번째 항목: 유효하지 않은 상태입니다: " + value);
+        }
+    }
+
+    private record SlotKey(Long restaurantId, LocalDate date, LocalTime time) {
+    }
+}
@@ -0,0 +1,298 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import choplan.db.application.properties.choplan.dto.NotificationEvent;
+import choplan.db.application.properties.choplan.dto.ReservationEvent;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 실시간 이벤트 푸시 (SSE)
+ * - 연결마다 SseEmitter 와 크기 제한이 있는 전송 대기열을 두고, 전송 스레드 풀은 보낼 이벤트가 있는 구독자의 대기열만 비움
+ *   (유휴 구독자의 대기열은 비어 있어 메모리가 거의 들지 않음)
+ * - 이벤트 발행 / heartbeat 는 대기열에 넣기만 하고 소켓에 직접 쓰지 않으므로 느린 클라이언트가 다른 구독자를 막지 않음
+ *   대기열이 가득 찬(읽지 않는) 구독자는 연결을 끊고, 클라이언트는 재연결해 이어 받음
+ * - 예약 / 알림 이벤트는 커밋 후 예약자 / 매장 구독자 / 알림 받는 사용자에게 전달
+ * - 전체 연결 수와 사용자별 연결 수를 제한하고, 주기적인 heartbeat 로 끊긴 연결을 정리
+ */
+@Service
+public class EventStreamService {
+
+    public static final String RESERVATION_EVENT = "reservation";
+    public static final String NOTIFICATION_EVENT = "notification";
+
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int maxConnectionsPerUser;
+    private final int subscriberQueueSize;
+
+    private final Map<Long, Set<Subscriber>> userSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> restaurantSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+
+    public EventStreamService(@Value("${choplan.events.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${choplan.events.max-subscribers:50000}") int maxSubscribers,
+                              @Value("${choplan.events.max-connections-per-user:5}") int maxConnectionsPerUser,
+                              @Value("${choplan.events.subscriber-queue-size:64}") int subscriberQueueSize,
+                              @Value("${choplan.events.dispatch-threads:8}") int dispatchThreads) {
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.subscriberQueueSize = subscriberQueueSize;
+        // 구독자마다 전송 작업은 최대 하나만 대기하므로 작업 큐 길이는 구독자 수를 넘지 않음
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 사용자 채널(및 매장 채널)을 구독합니다. 연결 수 제한을 넘으면 IllegalStateException 을 던집니다.
+     * 매장 채널 구독 권한은 구독 티켓 발급 시 확인합니다 (EventStreamTicketService).
+     */
+    public SseEmitter subscribe(Long userId, Long restaurantId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(userId, restaurantId, emitter);
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 이벤트를 전송합니다 (연결된 모든 탭 / 기기)
+     */
+    public void sendToUser(Long userId, String eventName, Object payload) {
+        send(userSubscribers.get(userId), eventName, payload);
+    }
+
+    /**
+     * 매장을 구독 중인 점주 / 관리자에게 이벤트를 전송합니다
+     */
+    public void sendToRestaurant(Long restaurantId, String eventName, Object payload) {
+        send(restaurantSubscribers.get(restaurantId), eventName, payload);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationEvent(ReservationEvent event) {
+        sendToUser(event.getUserId(), RESERVATION_EVENT, event);
+        sendToRestaurant(event.getRestaurantId(), RESERVATION_EVENT, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        sendToUser(event.getUserId(), NOTIFICATION_EVENT, event);
+    }
+
+    /**
+     * 프록시 유휴 연결 종료를 막고 끊긴 연결을 정리하기 위한 주석 이벤트
+     */
+    @Scheduled(fixedDelayString = "${choplan.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : userSubscribers.values()) {
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    void register(Long userId, Long restaurantId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, restaurantId, emitter, System.nanoTime());
+
+        // 사용자별 연결 수 확인과 추가를 같은 compute 안에서 처리해 동시 연결이 제한을 넘지 않게 함
+        // 제한에 닿으면 같은 사용자의 가장 오래된 연결을 끊고 새 연결을 받음 (새로고침 / 탭 누적 대비)
+        List<Subscriber> evicted = new ArrayList<>();
+        userSubscribers.compute(userId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            while (target.size() >= maxConnectionsPerUser) {
+                Subscriber oldest = target.stream().min(Comparator.comparingLong(Subscriber::connectedAt)).orElseThrow();
+                target.remove(oldest);
+                evicted.add(oldest);
+            }
+            target.add(subscriber);
+            return target;
+        });
+
+        // 전체 연결 수는 이 요청으로 늘어난 만큼만 반영 (같은 사용자의 연결을 교체했으면 늘지 않음)
+        int added = 1 - evicted.size();
+        if (subscriberCount.addAndGet(added) > maxSubscribers && added > 0) {
+            subscriberCount.addAndGet(-added);
+            removeFrom(userSubscribers, userId, subscriber);
+            throw new IllegalStateException("실시간 알림 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        for (Subscriber old : evicted) {
+            detach(old);
+            old.emitter().complete();
+        }
+
+        if (restaurantId != null) {
+            addTo(restaurantSubscribers, restaurantId, subscriber);
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+    }
+
+    private void send(Set<Subscriber> subscribers, String eventName, Object payload) {
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            // SseEventBuilder 는 전송 시 내용을 덧붙이므로 구독자마다 새로 만듦
+            enqueue(subscriber, SseEmitter.event().name(eventName).data(payload));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.offer(event)) {
+            // 대기열이 가득 찬 느린 구독자는 끊음 (재연결하면 새 연결로 이어 받음)
+            close(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter().complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!removeFrom(userSubscribers, subscriber.userId(), subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        detach(subscriber);
+    }
+
+    // 사용자 인덱스에서 이미 빠진 구독자를 매장 인덱스에서 빼고 남은 전송 대기열을 비움
+    private void detach(Subscriber subscriber) {
+        if (subscriber.restaurantId() != null) {
+            removeFrom(restaurantSubscribers, subscriber.restaurantId(), subscriber);
+        }
+        subscriber.queue.clear();
+    }
+
+    // 빈 구독자 집합 제거와 경합하지 않도록 추가 / 삭제 모두 compute 안에서 처리
+    private void addTo(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+        index.compute(key, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private boolean removeFrom(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        index.computeIfPresent(key, (id, subscribers) -> {
+            removed[0] = subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 연결 하나와 그 전송 대기열
+     * - 대기열에 이벤트가 있을 때만 전송 작업을 하나 예약하고, 작업은 대기열을 비울 때까지 순서대로 전송
+     */
+    private final class Subscriber implements Runnable {
+
+        private final Long userId;
+        private final Long restaurantId;
+        private final SseEmitter emitter;
+        private final long connectedAt;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(Long userId, Long restaurantId, SseEmitter emitter, long connectedAt) {
+            this.userId = userId;
+            this.restaurantId = restaurantId;
+            this.emitter = emitter;
+            this.connectedAt = connectedAt;
+            this.queue = new LinkedBlockingQueue<>(subscriberQueueSize);
+        }
+
+        Long userId() {
+            return userId;
+        }
+
+        Long restaurantId() {
+            return restaurantId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        long connectedAt() {
+            return connectedAt;
+        }
+
+        /**
+         * 이벤트를 대기열에 넣습니다. 대기열이 가득 차면 false
+         */
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // 전송을 마친 직후 들어온 이벤트가 있으면 다시 예약
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.EventStreamTicket;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.repository.EventStreamTicketRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * 실시간 이벤트(SSE) 구독 티켓
+ * - EventSource 는 헤더를 지정할 수 없어 URL 에 자격 증명을 실어야 하므로, 액세스 토큰 대신
+ *   인증된 요청으로 발급한 수명이 짧은 일회용 티켓을 사용 (URL 이 로그 / 기록에 남아도 재사용 불가)
+ * - 매장 채널 구독 권한(관리자 또는 해당 매장 점주)은 발급 시점에 확인
+ * - 여러 서버가 같은 티켓 테이블을 쓰므로 발급받은 서버와 다른 서버로 구독해도 됨
+ */
+@Service
+@Timed("choplan.service")
+public class EventStreamTicketService {
+
+    private static final int TICKET_BYTES = 32;
+
+    private final EventStreamTicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final long ttlMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public EventStreamTicketService(EventStreamTicketRepository ticketRepository,
+                                    UserRepository userRepository,
+                                    @Value("${choplan.events.ticket-ttl-ms:30000}") long ttlMs) {
+        this.ticketRepository = ticketRepository;
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 구독 티켓을 발급합니다. 매장 채널을 요청했는데 권한이 없으면 AccessDeniedException 을 던집니다.
+     */
+    @Transactional
+    public String issue(Long userId, UserRole role, Long restaurantId) {
+        if (restaurantId != null && !canSubscribeRestaurant(userId, role, restaurantId)) {
+            throw new AccessDeniedException("본인 매장의 이벤트만 구독할 수 있습니다.");
+        }
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        ticketRepository.save(new EventStreamTicket(hash(ticket), userId, restaurantId,
+                System.currentTimeMillis() + ttlMs));
+        return ticket;
+    }
+
+    /**
+     * 티켓을 사용 처리하고 구독 대상을 돌려줍니다. 없거나 만료 / 이미 사용된 티켓이면 IllegalArgumentException 을 던집니다.
+     */
+    @Transactional
+    public Subscription redeem(String ticket) {
+        if (ticket == null || ticket.isBlank()) {
+            throw new IllegalArgumentException("구독 티켓이 필요합니다.");
+        }
+        String ticketHash = hash(ticket);
+        EventStreamTicket issued = ticketRepository.findById(ticketHash).orElse(null);
+        if (issued == null || issued.getExpiresAt() < System.currentTimeMillis()
+                || ticketRepository.consume(ticketHash) != 1) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 구독 티켓입니다.");
+        }
+        return new Subscription(issued.getUserId(), issued.getRestaurantId());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${choplan.events.ticket-sweep-ms:60000}")
+    public void purgeExpired() {
+        ticketRepository.deleteExpired(System.currentTimeMillis());
+    }
+
+    private boolean canSubscribeRestaurant(Long userId, UserRole role, Long restaurantId) {
+        return switch (role) {
+            case ADMIN -> true;
+            case OWNER -> userRepository.existsByUserIdAndRestaurantId(userId, restaurantId);
+            case CUSTOMER -> false;
+        };
+    }
+
+    private static String hash(String ticket) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(ticket.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Subscription(Long userId, Long restaurantId) {
+    }
+}
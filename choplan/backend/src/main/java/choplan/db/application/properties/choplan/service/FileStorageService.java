@@ -1,51 +1,94 @@
 package choplan.db.application.properties.choplan.service;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import choplan.db.application.properties.choplan.storage.MediaCache;
+import choplan.db.application.properties.choplan.storage.ObjectStorage;
+import choplan.db.application.properties.choplan.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
 
+/**
+ * 업로드 파일 저장 (저장소 구현은 ObjectStorage, 업로드 지연 시간은 StorageMetrics 로 기록)
+ * - 중복 제거 / 참조 수 관리는 ContentStoreService
+ * - 삭제한 객체는 미디어 캐시(MediaCache)에서도 지움
+ */
 @Service
+@RequiredArgsConstructor
 public class FileStorageService {
 
-    private final String bucketName = "your-bucket-name"; // 실제 S3 버킷명
-    private final String accessKey = "your-access-key";   // IAM 액세스 키
-    private final String secretKey = "your-secret-key";   // IAM 시크릿 키
-    private final Region region = Region.AP_NORTHEAST_2;  // 서울 리전
-
-    private final S3Client s3Client;
-
-    public FileStorageService() {
-        this.s3Client = S3Client.builder()
-                .region(region)
-                .credentialsProvider(
-                        StaticCredentialsProvider.create(
-                                AwsBasicCredentials.create(accessKey, secretKey)
-                        )
-                )
-                .build();
-    }
-
-    public String uploadFile(MultipartFile file) throws IOException {
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-
-        s3Client.putObject(
-                PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(fileName)
-                        .contentType(file.getContentType())
-                        .build(),
-                software.amazon.awssdk.core.sync.RequestBody.fromBytes(file.getBytes())
-        );
-
-        // 업로드 후 접근 가능한 URL 반환
-        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + fileName;
+    public static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    private final ObjectStorage objectStorage;
+    private final StorageMetrics storageMetrics;
+    private final ObjectProvider<MediaCache> mediaCache;
+
+    /**
+     * 로컬 파일을 key 로 업로드하고 접근 URL 을 반환합니다
+     */
+    public String upload(String purpose, String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        try (InputStream content = Files.newInputStream(source)) {
+            return upload(purpose, key, content, size, contentType);
+        }
+    }
+
+    /**
+     * 스트림을 key 로 업로드하고 접근 URL 을 반환합니다. content 스트림은 호출자가 닫습니다.
+     */
+    public String upload(String purpose, String key, InputStream content, long size, String contentType)
+            throws IOException {
+        return storageMetrics.recordUpload(objectStorage.getBackend(), purpose,
+                () -> objectStorage.put(key, content, size, contentType));
+    }
+
+    /**
+     * 저장된 객체 전체를 읽습니다. 스트림은 호출자가 닫습니다.
+     */
+    public InputStream open(String key, long size) throws IOException {
+        return objectStorage.open(key, 0, size);
+    }
+
+    /**
+     * 저장된 객체의 크기 / 콘텐츠 타입. 없으면 빈 값을 반환합니다.
+     */
+    public Optional<StoredObject> stat(String key) throws IOException {
+        return objectStorage.stat(key);
+    }
+
+    /**
+     * 저장된 객체의 접근 URL
+     */
+    public String getUrl(String key) {
+        return objectStorage.getUrl(key);
+    }
+
+    /**
+     * 이 저장소가 발급한 URL 이면 객체 키, 아니면 null (외부에서 가져온 URL 등)
+     */
+    public String keyOf(String url) {
+        String base = objectStorage.getUrl("");
+        if (url == null || !url.startsWith(base) || url.length() == base.length()) {
+            return null;
+        }
+        return url.substring(base.length());
+    }
+
+    /**
+     * 객체를 삭제합니다. 없는 키는 무시합니다.
+     */
+    public void delete(String key) throws IOException {
+        objectStorage.delete(key);
+        mediaCache.ifAvailable(cache -> cache.evict(key));
+    }
+
+    public String getBackend() {
+        return objectStorage.getBackend();
     }
 }
@@ -0,0 +1,138 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 헤더 확인 / 디코딩 / 축소 / JPEG 인코딩 (ReviewImageService)
+ * - 디코딩 전에 헤더의 가로 / 세로만 읽어 픽셀 수 제한을 넘는 이미지(압축 폭탄)를 거절
+ * - 필요한 가장 큰 축소본보다 큰 원본은 서브샘플링으로 디코딩해 메모리에 올리는 픽셀 수를 줄임
+ */
+final class ImageRenditions {
+
+    private static final Set<String> SUPPORTED_FORMATS = Set.of("jpeg", "png");
+
+    private ImageRenditions() {
+    }
+
+    record ImageInfo(String format, int width, int height) {
+    }
+
+    /**
+     * 헤더만 읽어 형식과 크기를 확인합니다 (픽셀 데이터는 디코딩하지 않음)
+     */
+    static ImageInfo probe(byte[] content, long maxPixels) throws IOException {
+        return withReader(content, reader -> {
+            String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+            if (!SUPPORTED_FORMATS.contains(format)) {
+                throw new IllegalArgumentException("JPEG / PNG 이미지만 업로드할 수 있습니다.");
+            }
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. (" + width + "x" + height + ")");
+            }
+            return new ImageInfo(format, width, height);
+        });
+    }
+
+    /**
+     * 긴 변이 minLongEdge 이상으로 남는 범위에서 최대한 서브샘플링해 디코딩합니다
+     */
+    static BufferedImage decode(byte[] content, int minLongEdge) throws IOException {
+        return withReader(content, reader -> {
+            int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+            int step = Math.max(1, longEdge / Math.max(1, minLongEdge));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(step, step, 0, 0);
+            return reader.read(0, param);
+        });
+    }
+
+    /**
+     * 긴 변이 longEdge 이하가 되도록 비율을 유지해 축소합니다 (더 작으면 크기 유지)
+     * - 절반씩 여러 번 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 피함
+     * - 투명 영역은 흰 배경으로 채운 RGB 이미지로 반환 (JPEG 인코딩용)
+     */
+    static BufferedImage resize(BufferedImage source, int longEdge) {
+        double scale = Math.min(1.0, (double) longEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static <T> T withReader(byte[] content, ReaderCall<T> call) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return call.apply(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReaderCall<T> {
+        T apply(ImageReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,291 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.dto.NotificationEvent;
+import choplan.db.application.properties.choplan.dto.NotificationResponse;
+import choplan.db.application.properties.choplan.dto.ReservationEvent;
+import choplan.db.application.properties.choplan.entity.Notification;
+import choplan.db.application.properties.choplan.entity.NotificationCounter;
+import choplan.db.application.properties.choplan.entity.NotificationType;
+import choplan.db.application.properties.choplan.repository.NotificationCounterRepository;
+import choplan.db.application.properties.choplan.repository.NotificationRepository;
+import choplan.db.application.properties.choplan.security.ExpiringLruCache;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 알림
+ * - 예약 상태가 바뀌면 예약 트랜잭션 안에서 알림을 기록 (예약 변경과 알림이 함께 커밋 / 롤백)
+ * - 읽지 않은 수는 notification_counter 에 알림 추가 / 읽음 / 삭제와 같은 트랜잭션에서 증감하므로 조회 시 COUNT 가 없음
+ *   증감은 트랜잭션 동안 사용자별로 모아 커밋 직전에 사용자당 한 번만 반영 (일괄 승인 등으로 같은 사용자에게
+ *   알림이 여러 건 생겨도 카운터 행 UPDATE / 잠금은 한 번)
+ *   조회 결과는 count-cache-ttl-ms 동안 최대 count-cache-max-size 개까지 캐시(LRU)하고 변경되면 바로 무효화
+ * - 카운터가 어긋나는 경우(수동 데이터 수정 등)를 대비해 주기적으로 실제 개수와 비교해 바로잡음
+ * - 변경 사항은 커밋 후 실시간 이벤트(EventStreamService)로 사용자에게 전달
+ */
+@Slf4j
+@Service
+@Timed("choplan.service")
+public class NotificationService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final int RECONCILE_BATCH = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository counterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final long countCacheTtlNanos;
+    private final ExpiringLruCache<Long, Integer> unreadCounts;
+    // 무효화될 때마다 증가 (조회 중에 무효화되면 읽은 값을 캐시하지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationCounterRepository counterRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${choplan.notifications.count-cache-ttl-ms:30000}") long countCacheTtlMs,
+                               @Value("${choplan.notifications.count-cache-max-size:10000}") int countCacheMaxSize) {
+        this.notificationRepository = notificationRepository;
+        this.counterRepository = counterRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.countCacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(countCacheTtlMs);
+        this.unreadCounts = new ExpiringLruCache<>(countCacheMaxSize);
+    }
+
+    /**
+     * 예약 상태 변경을 예약자에게 알립니다 (예약 트랜잭션 안, 트랜잭션이 없으면 새 트랜잭션)
+     * - 커밋 단계가 아니라 이벤트 발행 시점에 기록해야 카운터 증감이 커밋 직전 반영에 함께 모임
+     */
+    @EventListener
+    public void onReservationEvent(ReservationEvent event) {
+        NotificationType type = typeOf(event);
+        if (type != null && event.getUserId() != null) {
+            transactionTemplate.executeWithoutResult(status ->
+                    notify(event.getUserId(), type, event.getReservationId()));
+        }
+    }
+
+    /**
+     * 알림을 추가합니다. 호출자의 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Notification notify(Long userId, NotificationType type, Long reservationId) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .type(type)
+                .title(type.getTitle())
+                .message(type.getMessage())
+                .reservationId(reservationId)
+                .read(false)
+                .build());
+        adjustUnread(userId, 1);
+        eventPublisher.publishEvent(NotificationEvent.created(userId, NotificationResponse.of(notification)));
+        return notification;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getNotifications(Long userId, int size) {
+        return notificationRepository.findByUserIdOrderByIdDesc(userId, Limit.of(pageSize(size))).stream()
+                .map(NotificationResponse::of)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getUnreadNotifications(Long userId, int size) {
+        return notificationRepository.findByUserIdAndReadOrderByIdDesc(userId, false, Limit.of(pageSize(size)))
+                .stream()
+                .map(NotificationResponse::of)
+                .toList();
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시 → 카운터 행 PK 조회, COUNT 없음)
+     */
+    public int getUnreadCount(Long userId) {
+        long now = System.nanoTime();
+        Integer cached = unreadCounts.get(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        int count = counterRepository.findUnreadCount(userId).orElse(0);
+        if (invalidations.get() == generation) {
+            unreadCounts.put(userId, count, now + countCacheTtlNanos);
+        }
+        return count;
+    }
+
+    /**
+     * 본인 알림을 읽음 처리합니다. 없거나 다른 사용자의 알림이면 IllegalArgumentException
+     */
+    @Transactional
+    public void markAsRead(Long userId, Long notificationId) {
+        if (notificationRepository.markRead(notificationId, userId) == 1) {
+            adjustUnread(userId, -1);
+            eventPublisher.publishEvent(NotificationEvent.of(NotificationEvent.READ, userId, notificationId));
+            return;
+        }
+        // 이미 읽은 알림이면 그대로 성공
+        notificationRepository.findById(notificationId)
+                .filter(notification -> notification.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 읽지 않은 알림을 UPDATE 한 번으로 모두 읽음 처리하고 처리한 건수를 반환합니다
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        if (updated > 0) {
+            adjustUnread(userId, -updated);
+            eventPublisher.publishEvent(NotificationEvent.of(NotificationEvent.READ_ALL, userId, null));
+        }
+        return updated;
+    }
+
+    /**
+     * 본인 알림을 삭제합니다. 없거나 다른 사용자의 알림이면 IllegalArgumentException
+     */
+    @Transactional
+    public void delete(Long userId, Long notificationId) {
+        if (notificationRepository.deleteOwned(notificationId, userId, false) == 1) {
+            adjustUnread(userId, -1);
+        } else if (notificationRepository.deleteOwned(notificationId, userId, true) == 0) {
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(NotificationEvent.of(NotificationEvent.DELETED, userId, notificationId));
+    }
+
+    /**
+     * 카운터를 실제 읽지 않은 알림 수와 비교해 바로잡습니다 (user_id 순으로 나눠 처리). 보정한 사용자 수를 반환
+     */
+    @Scheduled(fixedDelayString = "${choplan.notifications.reconcile-ms:600000}",
+            initialDelayString = "${choplan.notifications.reconcile-ms:600000}")
+    public int reconcileCounters() {
+        int corrected = 0;
+        Long after = 0L;
+        while (true) {
+            List<Long> userIds = counterRepository.findUserIdsAfter(after, Limit.of(RECONCILE_BATCH));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Integer fixed = transactionTemplate.execute(status -> counterRepository.reconcile(userIds));
+            corrected += fixed != null ? fixed : 0;
+            after = userIds.get(userIds.size() - 1);
+        }
+        if (corrected > 0) {
+            log.warn("읽지 않은 알림 수 보정: {}명", corrected);
+            invalidations.incrementAndGet();
+            unreadCounts.clear();
+        }
+        return corrected;
+    }
+
+    // 트랜잭션 동안 사용자별 증감을 모으고, 커밋 직전에 한 번에 반영 / 트랜잭션이 끝나면 캐시를 무효화
+    private void adjustUnread(Long userId, int delta) {
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.merge(userId, delta, Integer::sum);
+    }
+
+    private void applyDeltas(Map<Long, Integer> deltas) {
+        deltas.forEach((userId, delta) -> {
+            if (delta == 0) {
+                return; // 같은 트랜잭션에서 추가 후 읽음 처리 등으로 상쇄됨
+            }
+            // 첫 알림이면 카운터 행부터 만듦. 잠금 없는 조회로 먼저 확인해야 함:
+            // 없는 행을 UPDATE 하면 InnoDB 가 기본 키 구간에 갭 잠금을 걸어 별도 트랜잭션의 INSERT 와 서로 기다리게 됨
+            if (delta > 0 && !counterRepository.existsById(userId)) {
+                createCounterIfAbsent(userId);
+            }
+            counterRepository.add(userId, delta);
+        });
+    }
+
+    // 별도 트랜잭션에서 생성 (동시 생성은 기본 키로 한 건만 성공)
+    private void createCounterIfAbsent(Long userId) {
+        try {
+            newTransaction.executeWithoutResult(status -> counterRepository.saveAndFlush(
+                    NotificationCounter.builder().userId(userId).unreadCount(0).build()));
+        } catch (DataIntegrityViolationException alreadyCreated) {
+            // 다른 요청(노드)이 먼저 생성함
+        }
+    }
+
+    private static NotificationType typeOf(ReservationEvent event) {
+        if (ReservationEvent.VISIT_STATUS_CHANGED.equals(event.getType())) {
+            return switch (String.valueOf(event.getVisitStatus())) {
+                case "VISITED" -> NotificationType.REVIEW_REMINDER;
+                case "NO_SHOW" -> NotificationType.RESERVATION_NO_SHOW;
+                default -> null;
+            };
+        }
+        if (ReservationEvent.STATUS_CHANGED.equals(event.getType())) {
+            // 취소 요청(CANCELLED_PENDING)은 예약자 본인이 한 것이므로 알리지 않음
+            return switch (String.valueOf(event.getStatus())) {
+                case "APPROVED" -> NotificationType.RESERVATION_APPROVED;
+                case "REJECTED" -> NotificationType.RESERVATION_REJECTED;
+                case "CANCELLED" -> NotificationType.RESERVATION_CANCELLED;
+                case "COMPLETED" -> NotificationType.REVIEW_REMINDER;
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 트랜잭션 하나의 사용자별 읽지 않은 수 증감 (트랜잭션 리소스로 바인딩)
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<Long, Integer> deltas = new LinkedHashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            applyDeltas(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(NotificationService.this);
+            invalidations.incrementAndGet();
+            deltas.keySet().forEach(unreadCounts::remove);
+        }
+    }
+}
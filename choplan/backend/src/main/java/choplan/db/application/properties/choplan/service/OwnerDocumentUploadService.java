@@ -0,0 +1,266 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.DocumentUploadRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.storage.StoredObject;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점주 사업자등록증 백그라운드 업로드 (트랜잭셔널 아웃박스)
+ * - 요청 스레드는 트랜잭션 전에 서류를 공유 저장소의 임시 객체로 스트리밍하고, 작업 행에는 임시 객체 키만 기록
+ *   (서류를 메모리 / DB 에 올리지 않으며, 어느 서버의 워커가 작업을 선점해도 임시 객체를 읽을 수 있음)
+ * - 커밋 직후 워커 풀에 바로 넘기고, 실패 / 재시작으로 남은 작업은 주기적인 폴링이 다시 선점
+ * - 실패하면 지수 백오프로 재시도하고 max-attempts 를 넘으면 FAILED (관리자 점주 목록에 표시)
+ * - 업로드가 끝나면 서류 URL 을 저장하고 PENDING_DOCUMENT → PENDING (관리자 승인 대기), 임시 객체는 삭제
+ * - 저장 키는 서류 내용의 SHA-256 이므로 같은 서류는 다시 전송하지 않음 (ContentStoreService)
+ */
+@Slf4j
+@Service
+public class OwnerDocumentUploadService {
+
+    private static final String BUSINESS_DOC_PURPOSE = "business-doc";
+    private static final String STAGING_PURPOSE = "business-doc-staging";
+    // 사업자등록증 경로 아래에 두어 미디어 조회도 관리자 전용 (SecurityConfig)
+    static final String STAGING_PREFIX = UploadIntent.Purpose.BUSINESS_DOC.getKeyPrefix() + "/staging/";
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_RETRY_DELAY_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final DocumentUploadRepository documentUploadRepository;
+    private final UserRepository userRepository;
+    private final FileStorageService fileStorageService;
+    private final ContentStoreService contentStoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long retryBaseMs;
+    private final long leaseMs;
+    private final ThreadPoolExecutor workers;
+
+    public OwnerDocumentUploadService(DocumentUploadRepository documentUploadRepository,
+                                      UserRepository userRepository,
+                                      FileStorageService fileStorageService,
+                                      ContentStoreService contentStoreService,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${choplan.storage.document-upload.threads:2}") int threads,
+                                      @Value("${choplan.storage.document-upload.max-attempts:8}") int maxAttempts,
+                                      @Value("${choplan.storage.document-upload.retry-base-ms:5000}") long retryBaseMs,
+                                      @Value("${choplan.storage.document-upload.lease-ms:300000}") long leaseMs) {
+        this.documentUploadRepository = documentUploadRepository;
+        this.userRepository = userRepository;
+        this.fileStorageService = fileStorageService;
+        this.contentStoreService = contentStoreService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMs = retryBaseMs;
+        this.leaseMs = leaseMs;
+        // 대기열이 차면 새 작업을 받지 않고 DB 에 남겨 둠 (다음 폴링에서 다시 선점)
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-upload");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 서류를 공유 저장소의 임시 객체로 스트리밍합니다. 트랜잭션 밖에서 호출하며, 가입이 실패하면 discard 로 지워야 합니다.
+     * - 최종 저장 키는 내용의 SHA-256 이므로 같은 스트림에서 해시를 먼저 계산 (서블릿이 받아 둔 파일을 두 번 읽음)
+     */
+    public StagedDocument stage(MultipartFile file) throws IOException {
+        String contentHash;
+        try (InputStream content = file.getInputStream()) {
+            contentHash = ContentStoreService.hash(content);
+        }
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID() + ".pdf";
+        try (InputStream content = file.getInputStream()) {
+            fileStorageService.upload(STAGING_PURPOSE, stagingKey, content, file.getSize(),
+                    FileStorageService.PDF_CONTENT_TYPE);
+        }
+        return new StagedDocument(stagingKey, ContentStoreService.key(
+                UploadIntent.Purpose.BUSINESS_DOC.getKeyPrefix(), contentHash, ".pdf"));
+    }
+
+    /**
+     * 가입이 실패해 작업으로 기록되지 않은 임시 객체를 지웁니다.
+     */
+    public void discard(StagedDocument staged) {
+        deleteStaging(staged.stagingKey());
+    }
+
+    /**
+     * 업로드 작업을 기록합니다. 호출자의 트랜잭션 안에서 호출해야 하며, 커밋되면 바로 업로드를 시작합니다.
+     */
+    public DocumentUpload enqueue(Users owner, StagedDocument staged) {
+        DocumentUpload upload = documentUploadRepository.save(DocumentUpload.builder()
+                .userId(owner.getUserId())
+                .objectKey(staged.objectKey())
+                .stagingKey(staged.stagingKey())
+                .contentType(FileStorageService.PDF_CONTENT_TYPE)
+                .status(DocumentUpload.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(System.currentTimeMillis())
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(upload);
+            }
+        });
+        return upload;
+    }
+
+    /**
+     * 처리할 차례가 된 작업(재시도 대기, 재시작 전에 남은 작업)을 워커 풀에 넘깁니다
+     */
+    @Scheduled(fixedDelayString = "${choplan.storage.document-upload.poll-ms:10000}")
+    public void dispatch() {
+        int capacity = workers.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<DocumentUpload> due = documentUploadRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                DocumentUpload.Status.PENDING, System.currentTimeMillis(), Limit.of(capacity));
+        for (DocumentUpload upload : due) {
+            if (!submit(upload)) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // 대기열이 차 있으면 DB 에 남겨 두고 다음 폴링에서 다시 시도
+    private boolean submit(DocumentUpload upload) {
+        try {
+            workers.execute(() -> claimAndProcess(upload));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("서류 업로드 대기열 가득 참 uploadId={}", upload.getId());
+            return false;
+        }
+    }
+
+    private void claimAndProcess(DocumentUpload upload) {
+        long leaseUntil = System.currentTimeMillis() + leaseMs;
+        if (documentUploadRepository.claim(upload.getId(), DocumentUpload.Status.PENDING,
+                upload.getNextAttemptAt(), leaseUntil) == 0) {
+            return; // 다른 워커 / 서버가 먼저 선점
+        }
+        process(upload);
+    }
+
+    void process(DocumentUpload upload) {
+        String stagingKey = upload.getStagingKey();
+        long size;
+        boolean uploaded;
+        try {
+            StoredObject staged = stagingKey != null ? fileStorageService.stat(stagingKey).orElse(null) : null;
+            if (staged == null) {
+                // 임시 객체는 업로드가 끝날 때만 지우므로 없으면 재시도해도 성공할 수 없음
+                fail(upload, "업로드할 서류가 없습니다: uploadId=" + upload.getId(), true);
+                return;
+            }
+            size = staged.size();
+            uploaded = contentStoreService.putIfAbsent(BUSINESS_DOC_PURPOSE, upload.getObjectKey(),
+                    () -> fileStorageService.open(stagingKey, size), size, upload.getContentType());
+        } catch (IOException | RuntimeException e) {
+            fail(upload, e.getMessage(), false);
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(upload, size, uploaded));
+        } catch (RuntimeException e) {
+            // 중복 확인 후 객체가 삭제되었거나 같은 내용이 동시에 등록된 경우 → 다음 시도에서 다시 처리
+            fail(upload, e.getMessage(), false);
+            return;
+        }
+        deleteStaging(stagingKey);
+    }
+
+    private void complete(DocumentUpload claimed, long size, boolean uploaded) {
+        String key = claimed.getObjectKey();
+        contentStoreService.addReference(key, ContentStoreService.hashOf(key), size, claimed.getContentType(),
+                uploaded);
+
+        DocumentUpload upload = documentUploadRepository.findById(claimed.getId()).orElseThrow();
+        upload.setStatus(DocumentUpload.Status.DONE);
+        upload.setAttempts(upload.getAttempts() + 1);
+        upload.setLastError(null);
+
+        String url = fileStorageService.getUrl(key);
+        userRepository.findById(upload.getUserId()).ifPresent(owner -> {
+            String previous = owner.getBusinessRegistrationDoc();
+            owner.attachBusinessDocument(url);
+            contentStoreService.releaseReplaced(previous, url);
+        });
+    }
+
+    private void fail(DocumentUpload upload, String error, boolean permanent) {
+        int attempts = upload.getAttempts() + 1;
+        boolean exhausted = permanent || attempts >= maxAttempts;
+        log.warn("서류 업로드 실패 uploadId={} userId={} attempt={}{}: {}", upload.getId(), upload.getUserId(),
+                attempts, exhausted ? " (재시도 중단)" : "", error);
+
+        transactionTemplate.executeWithoutResult(status -> documentUploadRepository.findById(upload.getId())
+                .ifPresent(current -> {
+                    current.setAttempts(attempts);
+                    current.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                            ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                    if (exhausted) {
+                        current.setStatus(DocumentUpload.Status.FAILED);
+                    } else {
+                        current.setNextAttemptAt(System.currentTimeMillis() + retryDelay(attempts));
+                    }
+                }));
+    }
+
+    // 지우지 못한 임시 객체는 남아도 다시 읽히지 않음 (저장소 수명 주기 규칙으로 정리)
+    private void deleteStaging(String stagingKey) {
+        try {
+            fileStorageService.delete(stagingKey);
+        } catch (IOException | RuntimeException e) {
+            log.warn("서류 임시 객체 삭제 실패 key={}: {}", stagingKey, e.getMessage());
+        }
+    }
+
+    // retry-base-ms × 2^(시도 횟수 - 1), 최대 1시간
+    long retryDelay(int attempts) {
+        long delay = retryBaseMs << Math.min(attempts - 1, 20);
+        return Math.min(delay, MAX_RETRY_DELAY_MS);
+    }
+
+    /**
+     * 임시 객체로 옮겨 둔 서류 (stagingKey: 임시 객체, objectKey: 내용 주소 기반 최종 키)
+     */
+    public record StagedDocument(String stagingKey, String objectKey) {
+    }
+}
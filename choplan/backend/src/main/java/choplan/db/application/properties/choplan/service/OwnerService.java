@@ -1,73 +1,136 @@
 package choplan.db.application.properties.choplan.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Map;
-import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import choplan.db.application.properties.choplan.dto.AuthResponse;
 import choplan.db.application.properties.choplan.dto.LoginRequest;
+import choplan.db.application.properties.choplan.dto.OwnerDocumentIntentRequest;
 import choplan.db.application.properties.choplan.dto.SignupRequestOwner;
+import choplan.db.application.properties.choplan.dto.SignupRequestOwnerPresigned;
+import choplan.db.application.properties.choplan.dto.UploadIntentResponse;
 import choplan.db.application.properties.choplan.entity.OwnerStatus;
 import choplan.db.application.properties.choplan.entity.StoreAddress;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
 import choplan.db.application.properties.choplan.entity.UserRole;
 import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UserAuthView;
 import choplan.db.application.properties.choplan.repository.UserRepository;
 import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
 
 @Service
+@Timed("choplan.service")
 @RequiredArgsConstructor
 public class OwnerService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordService passwordService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final OwnerDocumentUploadService ownerDocumentUploadService;
+    private final UploadIntentService uploadIntentService;
+    private final TransactionTemplate transactionTemplate;
 
-    // .env(application.yml)에서 주입받는 AWS 설정
-    @Value("${AWS_ACCESS_KEY_ID}")
-    private String awsAccessKey;
+    /**
+     * OWNER 회원가입
+     * - 계정은 PENDING_DOCUMENT 상태로 바로 저장하고, 사업자등록증은 같은 트랜잭션에 기록한 작업으로 백그라운드 업로드
+     * - 업로드가 끝나면 PENDING(관리자 승인 대기)으로 바뀜 (OwnerDocumentUploadService)
+     * - 비밀번호 해시와 서류 전송은 트랜잭션을 시작하기 전에 끝내 그동안 DB 커넥션을 붙잡지 않음
+     */
+    public Users registerOwner(SignupRequestOwner request, MultipartFile businessDoc) {
+        validateNewEmail(request);
+        validateBusinessDocument(businessDoc);
 
-    @Value("${AWS_SECRET_ACCESS_KEY}")
-    private String awsSecretKey;
+        String encodedPassword = passwordService.encode(request.getPassword());
+        OwnerDocumentUploadService.StagedDocument staged;
+        try {
+            staged = ownerDocumentUploadService.stage(businessDoc);
+        } catch (IOException e) {
+            throw new IllegalStateException("사업자등록증 저장 실패: " + e.getMessage(), e);
+        }
 
-    @Value("${AWS_REGION}")
-    private String awsRegion;
+        try {
+            return transactionTemplate.execute(status -> {
+                Users saved = createOwner(request, encodedPassword);
+                ownerDocumentUploadService.enqueue(saved, staged);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            ownerDocumentUploadService.discard(staged);
+            throw e;
+        }
+    }
 
-    @Value("${AWS_S3_BUCKET}")
-    private String awsBucketName;
+    /**
+     * OWNER 회원가입 (사업자등록증 직접 업로드)
+     * - 계정을 PENDING_DOCUMENT 로 저장하고 사업자등록증 업로드 URL 을 함께 돌려줌
+     * - 클라이언트가 저장소에 올린 뒤 완료를 알리면 검증 후 PENDING(관리자 승인 대기)으로 바뀜 (UploadIntentService)
+     */
+    public AuthResponse registerOwnerWithDirectUpload(SignupRequestOwnerPresigned request) {
+        validateNewEmail(request);
+        String encodedPassword = passwordService.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            Users saved = createOwner(request, encodedPassword);
+            UploadIntentResponse upload = uploadIntentService.issue(saved.getUserId(),
+                    UploadIntent.Purpose.BUSINESS_DOC, FileStorageService.PDF_CONTENT_TYPE, request.getDocumentSize());
+
+            return new AuthResponse(
+                    200,
+                    "OWNER 회원가입 성공 (사업자등록증 업로드 후 관리자 승인 대기)",
+                    Map.of(
+                            "userId", saved.getUserId(),
+                            "email", saved.getEmail(),
+                            "role", saved.getRole().name(),
+                            "ownerStatus", saved.getOwnerStatus().name(),
+                            "documentUpload", upload
+                    )
+            );
+        });
+    }
 
     /**
-     * OWNER 회원가입 (S3 업로드 포함)
+     * 사업자등록증 업로드 URL 재발급 (업로드 전에 만료된 경우)
      */
-    public Users registerOwner(SignupRequestOwner request, MultipartFile businessDoc) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+    public UploadIntentResponse reissueDocumentUpload(OwnerDocumentIntentRequest request) {
+        UserAuthView user = userRepository.findAuthByEmailNormalized(Users.normalizeEmail(request.getEmail()))
+                .filter(found -> passwordService.matches(found, request.getPassword()))
+                .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다."));
+
+        if (user.getRole() != UserRole.OWNER || user.getOwnerStatus() != OwnerStatus.PENDING_DOCUMENT) {
+            throw new IllegalArgumentException("사업자등록증 업로드 대기 중인 OWNER 가 아닙니다.");
+        }
+        return uploadIntentService.issue(user.getUserId(), UploadIntent.Purpose.BUSINESS_DOC,
+                FileStorageService.PDF_CONTENT_TYPE, request.getDocumentSize());
+    }
+
+    /**
+     * 사업자등록증 직접 업로드 완료 (검증된 서류 URL 반환)
+     */
+    public String completeDocumentUpload(String intentId) {
+        return uploadIntentService.completeBusinessDocument(intentId);
+    }
+
+    private void validateNewEmail(SignupRequestOwner request) {
+        if (userRepository.existsByEmailNormalized(Users.normalizeEmail(request.getEmail()))) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
+    }
 
+    // 서류 업로드가 끝날 때까지 PENDING_DOCUMENT 상태로 저장 (비밀번호는 트랜잭션 전에 해시)
+    private Users createOwner(SignupRequestOwner request, String encodedPassword) {
         // 주소 구성
         StoreAddress storeAddress = new StoreAddress();
         storeAddress.setRoadAddress(request.getRoadAddress());
         storeAddress.setDetailAddress(request.getDetailAddress());
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
-
-        // S3 업로드 실행
-        String uploadedUrl = uploadToS3(businessDoc);
-
         // 사용자 엔티티 생성
         Users user = Users.builder()
                 .email(request.getEmail())
@@ -77,58 +140,25 @@ public class OwnerService {
                 .storeName(request.getStoreName())
                 .storePhone(request.getStorePhone())
                 .storeAddress(storeAddress)
-                .businessRegistrationDoc(uploadedUrl) // S3 업로드 URL 저장
+                .restaurantId(request.getRestaurantId())
                 .role(UserRole.OWNER)
-                .ownerStatus(OwnerStatus.PENDING)
+                .ownerStatus(OwnerStatus.PENDING_DOCUMENT)
                 .build();
-
         return userRepository.save(user);
     }
 
-    /**
-     * AWS S3 업로드 로직
-     */
-    private String uploadToS3(MultipartFile file) {
+    private void validateBusinessDocument(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("사업자등록증 파일이 필요합니다.");
         }
-
-        try {
-            String originalFileName = file.getOriginalFilename();
-            if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".pdf")) {
-                throw new IllegalArgumentException("PDF 형식의 파일만 업로드 가능합니다.");
-            }
-
-            // S3 키명 생성
-            String key = "business-docs/" + UUID.randomUUID() + "-" + originalFileName;
-
-            // S3 클라이언트 생성
-            S3Client s3Client = S3Client.builder()
-                    .region(Region.of(awsRegion))
-                    .credentialsProvider(
-                            StaticCredentialsProvider.create(
-                                    AwsBasicCredentials.create(awsAccessKey, awsSecretKey)
-                            )
-                    )
-                    .build();
-
-            // 임시 파일 생성 후 업로드
-            Path tempFile = Files.createTempFile("upload-", ".pdf");
-            file.transferTo(tempFile.toFile());
-
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(awsBucketName)
-                    .key(key)
-                    .contentType("application/pdf")
-                    .build();
-
-            s3Client.putObject(request, tempFile);
-            Files.deleteIfExists(tempFile);
-
-            return "https://" + awsBucketName + ".s3." + awsRegion + ".amazonaws.com/" + key;
-
-        } catch (IOException | S3Exception e) {
-            throw new RuntimeException("S3 업로드 실패: " + e.getMessage(), e);
+        String originalFileName = file.getOriginalFilename();
+        if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".pdf")) {
+            throw new IllegalArgumentException("PDF 형식의 파일만 업로드 가능합니다.");
+        }
+        // 직접 업로드와 같은 크기 제한을 적용
+        long maxSize = UploadIntent.Purpose.BUSINESS_DOC.getMaxSize();
+        if (file.getSize() > maxSize) {
+            throw new IllegalArgumentException("파일 크기는 " + maxSize / (1024 * 1024) + "MB를 초과할 수 없습니다.");
         }
     }
 
@@ -136,10 +166,10 @@ public class OwnerService {
      * OWNER 로그인
      */
     public AuthResponse login(LoginRequest request) {
-        Users user = userRepository.findByEmail(request.getEmail())
+        UserAuthView user = userRepository.findAuthByEmailNormalized(Users.normalizeEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordService.matches(user, request.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
         }
 
@@ -148,13 +178,15 @@ public class OwnerService {
                     + user.getOwnerStatus().name() + ")");
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user);
 
         return new AuthResponse(
                 200,
                 "로그인 성공",
                 Map.of(
                         "token", token,
+                        "refreshToken", jwtTokenProvider.createRefreshToken(user),
+                        "expiresIn", jwtTokenProvider.getAccessTokenValiditySeconds(),
                         "email", user.getEmail(),
                         "role", user.getRole().name(),
                         "ownerStatus", user.getOwnerStatus().name()
@@ -165,6 +197,7 @@ public class OwnerService {
     /**
      * OWNER 승인 (관리자 전용)
      */
+    @Transactional
     public Users approveOwner(Long ownerId) {
         Users owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 OWNER 사용자를 찾을 수 없습니다."));
@@ -172,14 +205,20 @@ public class OwnerService {
         if (owner.getRole() != UserRole.OWNER) {
             throw new IllegalArgumentException("해당 사용자는 OWNER 권한이 아닙니다.");
         }
+        if (owner.getOwnerStatus() == OwnerStatus.PENDING_DOCUMENT) {
+            throw new IllegalArgumentException("사업자등록증 업로드가 아직 완료되지 않았습니다.");
+        }
 
         owner.setOwnerStatus(OwnerStatus.APPROVED);
-        return userRepository.save(owner);
+        Users saved = userRepository.save(owner);
+        tokenRevocationService.onStatusChanged(saved);
+        return saved;
     }
 
     /**
      * OWNER 상태 변경 (관리자 전용: 거절/정지/탈퇴 등)
      */
+    @Transactional
     public Users updateOwnerStatus(Long ownerId, OwnerStatus status) {
         Users owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 OWNER 사용자를 찾을 수 없습니다."));
@@ -189,6 +228,8 @@ public class OwnerService {
         }
 
         owner.setOwnerStatus(status);
-        return userRepository.save(owner);
+        Users saved = userRepository.save(owner);
+        tokenRevocationService.onStatusChanged(saved);
+        return saved;
     }
 }
@@ -0,0 +1,156 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.exception.ServiceBusyException;
+import choplan.db.application.properties.choplan.repository.UserAuthView;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 / 검증 전용 실행기
+ * - BCrypt 는 요청 스레드가 아닌 고정 크기 스레드(기본: 코어 수의 절반)에서만 실행해 예약 등 다른 요청의 CPU 를 남겨둠
+ * - 대기열은 해시 스레드당 8건(기본)으로 짧게 유지해 요청 스레드가 해시 대기로 묶이지 않게 함
+ * - 대기열이 가득 차거나 대기 시간을 넘기면 기다리지 않고 ServiceBusyException(503) 으로 거절
+ * - 저장된 해시의 비용이 설정(choplan.security.bcrypt.strength)과 다르면 로그인 성공 시 새 비용으로 재해시
+ */
+@Slf4j
+@Service
+public class PasswordService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final int strength;
+    private final long maxWaitMs;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordService(PasswordEncoder passwordEncoder,
+                           UserRepository userRepository,
+                           @Value("${choplan.security.bcrypt.strength:10}") int strength,
+                           @Value("${choplan.security.bcrypt.threads:0}") int threads,
+                           @Value("${choplan.security.bcrypt.queue-size:0}") int queueSize,
+                           @Value("${choplan.security.bcrypt.max-wait-ms:3000}") long maxWaitMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.strength = strength;
+        this.maxWaitMs = maxWaitMs;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize > 0 ? queueSize : poolSize * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 비밀번호를 해시합니다 (회원가입)
+     */
+    public String encode(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호를 검증합니다 (로그인). 일치하고 해시 비용이 바뀌었으면 백그라운드에서 재해시합니다.
+     */
+    public boolean matches(Users user, String rawPassword) {
+        return matches(user.getUserId(), user.getPasswordHash(), rawPassword);
+    }
+
+    public boolean matches(UserAuthView user, String rawPassword) {
+        return matches(user.getUserId(), user.getPasswordHash(), rawPassword);
+    }
+
+    private boolean matches(Long userId, String storedHash, String rawPassword) {
+        if (rawPassword == null || storedHash == null) {
+            return false;
+        }
+
+        boolean matched = call(() -> passwordEncoder.matches(rawPassword, storedHash));
+        if (matched && needsRehash(storedHash)) {
+            rehash(userId, rawPassword, storedHash);
+        }
+        return matched;
+    }
+
+    boolean needsRehash(String hash) {
+        Matcher matcher = BCRYPT_COST.matcher(hash);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 재해시는 부가 작업이므로 대기열이 가득 차 있으면 건너뛰고 다음 로그인 때 다시 시도
+    private void rehash(Long userId, String rawPassword, String oldHash) {
+        try {
+            executor.execute(() -> {
+                try {
+                    userRepository.updatePasswordHash(userId, oldHash, passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시 실패 userId={}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 재해시 보류 (대기열 가득 참) userId={}", userId);
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+    }
+}
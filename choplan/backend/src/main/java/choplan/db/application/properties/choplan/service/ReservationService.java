@@ -1,27 +1,61 @@
 package choplan.db.application.properties.choplan.service;
 
+import choplan.db.application.properties.choplan.dto.BulkReservationResult;
+import choplan.db.application.properties.choplan.dto.CursorPage;
+import choplan.db.application.properties.choplan.dto.ReservationCursor;
+import choplan.db.application.properties.choplan.dto.ReservationDetail;
+import choplan.db.application.properties.choplan.dto.ReservationEvent;
 import choplan.db.application.properties.choplan.dto.ReservationRequest;
+import choplan.db.application.properties.choplan.dto.ReservationSummary;
 import choplan.db.application.properties.choplan.dto.VisitStatusRequest;
 import choplan.db.application.properties.choplan.entity.Reservation;
-import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.entity.ReservationTransition;
+import choplan.db.application.properties.choplan.entity.VisitTransition;
+import choplan.db.application.properties.choplan.exception.ConflictException;
 import choplan.db.application.properties.choplan.repository.ReservationRepository;
-import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.repository.ReservationStateView;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 테스트용 예약 서비스 - 데모 종료 시 제거 예정
  */
+@Slf4j
 @Service
+@Timed("choplan.service")
 @RequiredArgsConstructor
 public class ReservationService {
 
+    // 한 번에 조회할 수 있는 최대 예약 수
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // 한 번에 일괄 처리할 수 있는 최대 예약 수
+    public static final int MAX_BULK_SIZE = 200;
+
     private final ReservationRepository reservationRepository;
-    private final UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
+    private final ReservationSlotService slotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Reservation createReservation(ReservationRequest request) {
@@ -39,74 +73,57 @@ public class ReservationService {
                 .status(Reservation.ReservationStatus.PENDING)
                 .build();
 
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        // 좌석 차감은 커밋 직전에 수행해 재고 행 잠금 시간을 최소화 (좌석 부족 시 예약 INSERT 도 롤백)
+        takeSeats(saved);
+        eventPublisher.publishEvent(ReservationEvent.of(ReservationEvent.CREATED, saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public List<Reservation> getUserReservations(Long userId) {
-        System.out.println("getUserReservations 호출됨 - userId: " + userId);
-
-        List<Reservation> reservations = reservationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        System.out.println("기본 메서드로 조회된 예약 수: " + reservations.size());
-
-        if (reservations.isEmpty()) {
-            System.out.println("기본 메서드 결과가 없어서 직접 쿼리 시도");
-            reservations = reservationRepository.findUserReservationsWithQuery(userId);
-            System.out.println("직접 쿼리로 조회된 예약 수: " + reservations.size());
-        }
-
-        for (Reservation r : reservations) {
-            System.out.println("예약 ID: " + r.getId() + ", 상태: " + r.getStatus() + ", 방문상태: " + r.getVisitStatus());
-        }
-        return reservations;
+    public CursorPage<ReservationSummary> getUserReservations(Long userId, String cursor, int size) {
+        Window<ReservationSummary> window = reservationRepository.findByUserIdOrderByCreatedAtDescIdDesc(
+                userId, ReservationCursor.decode(cursor), pageLimit(size));
+        log.debug("사용자 예약 조회 - userId: {}, 조회 건수: {}", userId, window.size());
+        return toPage(window, window.getContent());
     }
 
     @Transactional(readOnly = true)
-    public List<Reservation> getRestaurantReservations(Long restaurantId) {
-        List<Reservation> reservations = reservationRepository.findByRestaurantIdOrderByCreatedAtDesc(restaurantId);
-        return enrichReservationsWithUserNickname(reservations);
+    public CursorPage<ReservationSummary> getRestaurantReservations(Long restaurantId, String cursor, int size) {
+        Window<ReservationSummary> window = reservationRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(
+                restaurantId, ReservationCursor.decode(cursor), pageLimit(size));
+        return toPage(window, enrichReservationsWithUserNickname(window.getContent()));
     }
 
     @Transactional(readOnly = true)
-    public List<Reservation> getOwnerReservations(Long userId, Long restaurantId) {
-        List<Reservation> reservations = reservationRepository.findByRestaurantIdOrderByCreatedAtDesc(restaurantId);
-        return enrichReservationsWithUserNickname(reservations);
+    public CursorPage<ReservationSummary> getOwnerReservations(Long userId, Long restaurantId, String cursor, int size) {
+        return getRestaurantReservations(restaurantId, cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<Reservation> getAllReservations() {
-        List<Reservation> reservations = reservationRepository.findAll();
-        return enrichReservationsWithUserNickname(reservations);
+    public CursorPage<ReservationSummary> getAllReservations(String cursor, int size) {
+        Window<ReservationSummary> window = reservationRepository.findAllByOrderByCreatedAtDescIdDesc(
+                ReservationCursor.decode(cursor), pageLimit(size));
+        return toPage(window, enrichReservationsWithUserNickname(window.getContent()));
     }
 
     @Transactional(readOnly = true)
-    public Reservation getReservationById(Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
+    public ReservationDetail getReservationById(Long reservationId) {
+        ReservationDetail reservation = reservationRepository.findDetailById(reservationId)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        try {
-            Users user = userRepository.findById(reservation.getUserId()).orElse(null);
-            if (user != null && user.getName() != null) {
-                reservation.setUserName(user.getName());
-            }
-        } catch (Exception ignored) {}
-        return reservation;
+        String name = userNameResolver.resolveNames(List.of(reservation.userId())).get(reservation.userId());
+        return name != null ? reservation.withUserName(name) : reservation;
     }
 
     @Transactional
     public Reservation approveReservation(Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        reservation.setStatus(Reservation.ReservationStatus.APPROVED);
-        return reservationRepository.save(reservation);
+        return applyTransition(reservationId, ReservationTransition.APPROVE, null);
     }
 
     @Transactional
     public Reservation rejectReservation(Long reservationId, String reason) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        reservation.setStatus(Reservation.ReservationStatus.REJECTED);
-        reservation.setRejectionReason(reason);
-        return reservationRepository.save(reservation);
+        requireRejectionReason(reason);
+        return applyTransition(reservationId, ReservationTransition.REJECT, reason);
     }
 
     @Transactional
@@ -121,113 +138,341 @@ public class ReservationService {
             throw new RuntimeException("유효하지 않은 예약 상태입니다: " + status);
         }
 
+        Reservation.ReservationStatus previous = reservation.getStatus();
         reservation.setStatus(reservationStatus);
 
+        if (holdsSeats(previous) && !holdsSeats(reservationStatus)) {
+            releaseSeats(reservation);
+        } else if (!holdsSeats(previous) && holdsSeats(reservationStatus)) {
+            takeSeats(reservation);
+        }
+
         if (reservationStatus == Reservation.ReservationStatus.REJECTED && reason != null && !reason.isEmpty()) {
             reservation.setRejectionReason(reason);
         }
 
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationEvent.of(ReservationEvent.STATUS_CHANGED, saved));
+        return saved;
     }
 
     @Transactional
     public Reservation cancelReservation(Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+        // 대기중이면 즉시 취소, 승인된 예약이면 취소 요청으로 전환 (조회한 상태로 전이를 골라 UPDATE 는 한 번만)
+        Reservation reservation = findReservation(reservationId);
+        ReservationTransition transition = ReservationTransition.CANCEL.accepts(reservation.getStatus())
+                ? ReservationTransition.CANCEL : ReservationTransition.REQUEST_CANCELLATION;
+        return applyTransition(reservation, transition, null);
+    }
 
-        if (reservation.getStatus() == Reservation.ReservationStatus.PENDING) {
-            reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
-        } else if (reservation.getStatus() == Reservation.ReservationStatus.APPROVED) {
-            reservation.setStatus(Reservation.ReservationStatus.CANCELLED_PENDING);
-        } else {
-            throw new RuntimeException("취소할 수 없는 예약 상태입니다.");
-        }
+    @Transactional
+    public Reservation approveCancellation(Long reservationId) {
+        return applyTransition(reservationId, ReservationTransition.APPROVE_CANCELLATION, null);
+    }
 
-        return reservationRepository.save(reservation);
+    @Transactional
+    public Reservation rejectCancellation(Long reservationId, String reason) {
+        return applyTransition(reservationId, ReservationTransition.REJECT_CANCELLATION, reason);
     }
 
     @Transactional
-    public Reservation approveCancellation(Long reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+    public Reservation updateVisitStatus(VisitStatusRequest request) {
+        Long reservationId = request.getReservationId();
+        VisitTransition transition = VisitTransition.of(
+                Reservation.VisitStatus.valueOf(request.getVisitStatus().toUpperCase()));
+        String reason = request.getReason() != null && !request.getReason().isEmpty() ? request.getReason() : null;
+
+        Reservation reservation = findReservation(reservationId);
+        if (applyVisitTransition(List.of(reservationId), transition, reason) == 0) {
+            throw new IllegalStateException("방문 상태를 " + transition.getTo() + "(으)로 변경할 수 없는 예약입니다.");
+        }
+        reflectVisitTransition(reservation, transition, reason);
+        eventPublisher.publishEvent(ReservationEvent.of(ReservationEvent.VISIT_STATUS_CHANGED, reservation));
+        return reservation;
+    }
+
+    /**
+     * 예약 상태 일괄 전이 (승인 / 거절 / 취소 승인)
+     * - 건수와 무관하게 상태 잠금 조회 1회 + 조건부 UPDATE 1회(+ 시간대별 좌석 반환)로 처리
+     */
+    @Transactional
+    public BulkReservationResult bulkTransition(List<Long> ids, ReservationTransition transition, String reason) {
+        if (transition == ReservationTransition.REJECT) {
+            requireRejectionReason(reason);
+        }
+        Map<Long, ReservationStateView> states = loadStates(ids);
 
-        if (reservation.getStatus() != Reservation.ReservationStatus.CANCELLED_PENDING) {
-            throw new RuntimeException("취소 요청 대기 상태가 아닙니다.");
+        List<Long> eligible = states.values().stream()
+                .filter(state -> transition.accepts(state.getStatus()))
+                .map(ReservationStateView::getId)
+                .toList();
+
+        if (!eligible.isEmpty()) {
+            expectApplied(eligible,
+                    reservationRepository.transitionStatus(eligible, transition.getFrom(), transition.getTo(), reason));
+        }
+        Set<Long> applied = new HashSet<>(eligible);
+
+        if (transition.releasesSeats()) {
+            releaseSeatsInBulk(states, applied);
         }
+        publishApplied(states, applied, ReservationEvent.STATUS_CHANGED, transition.getTo(), null);
 
-        reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
-        return reservationRepository.save(reservation);
+        return bulkResult(ids, states, applied, transition.getTo().name(),
+                state -> state.getStatus().name(), transition.getRejectedMessage());
     }
 
+    /**
+     * 방문 상태 일괄 변경
+     */
     @Transactional
-    public Reservation rejectCancellation(Long reservationId, String reason) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+    public BulkReservationResult bulkUpdateVisitStatus(List<Long> ids, String visitStatus, String reason) {
+        VisitTransition transition = VisitTransition.of(Reservation.VisitStatus.valueOf(visitStatus.toUpperCase()));
+        String normalizedReason = reason != null && !reason.isEmpty() ? reason : null;
+        Map<Long, ReservationStateView> states = loadStates(ids);
+
+        List<Long> eligible = states.values().stream()
+                .filter(state -> transition.accepts(state.getStatus(), state.getVisitStatus()))
+                .map(ReservationStateView::getId)
+                .toList();
+
+        if (!eligible.isEmpty()) {
+            expectApplied(eligible, applyVisitTransition(eligible, transition, normalizedReason));
+        }
+        Set<Long> applied = new HashSet<>(eligible);
+        publishApplied(states, applied, ReservationEvent.VISIT_STATUS_CHANGED,
+                transition == VisitTransition.VISITED ? Reservation.ReservationStatus.COMPLETED : null, transition.getTo());
+
+        return bulkResult(ids, states, applied, transition.getTo().name(),
+                state -> state.getVisitStatus() != null ? state.getVisitStatus().name() : null,
+                "방문 상태를 " + transition.getTo() + "(으)로 변경할 수 없는 예약입니다.");
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ReservationSummary> getReservationsByVisitStatus(Reservation.VisitStatus visitStatus, String cursor, int size) {
+        Window<ReservationSummary> window = reservationRepository.findByVisitStatusOrderByCreatedAtDescIdDesc(
+                visitStatus, ReservationCursor.decode(cursor), pageLimit(size));
+        return toPage(window, enrichReservationsWithUserNickname(window.getContent()));
+    }
 
-        if (reservation.getStatus() != Reservation.ReservationStatus.CANCELLED_PENDING) {
-            throw new RuntimeException("취소 요청 대기 상태가 아닙니다.");
+    @Transactional(readOnly = true)
+    public CursorPage<ReservationSummary> getBlacklistedReservations(String cursor, int size) {
+        Window<ReservationSummary> window = reservationRepository.findByIsBlacklistedTrueOrderByCreatedAtDescIdDesc(
+                ReservationCursor.decode(cursor), pageLimit(size));
+        return toPage(window, enrichReservationsWithUserNickname(window.getContent()));
+    }
+
+    private Reservation applyTransition(Long reservationId, ReservationTransition transition, String reason) {
+        return applyTransition(findReservation(reservationId), transition, reason);
+    }
+
+    /**
+     * 전이표에 따라 조건부 UPDATE 한 번으로 상태를 변경합니다 (엔티티 변경 감지로 저장하지 않음)
+     * - 응답은 UPDATE 전에 조회한 예약에 전이 결과를 반영해 만들고, UPDATE 후 다시 조회하지 않음
+     * - 조회 이후 다른 요청이 상태를 바꿨다면 조건부 UPDATE 가 0건이 되어 전이를 거절함
+     * - UPDATE 가 영속성 컨텍스트를 비우므로(clearAutomatically) 조회한 예약을 수정해도 다시 저장되지 않음
+     */
+    private Reservation applyTransition(Reservation reservation, ReservationTransition transition, String reason) {
+        int updated = reservationRepository.transitionStatus(
+                List.of(reservation.getId()), transition.getFrom(), transition.getTo(), reason);
+        if (updated == 0) {
+            throw new IllegalStateException(transition.getRejectedMessage());
+        }
+        reservation.setStatus(transition.getTo());
+        if (reason != null) {
+            reservation.setRejectionReason(reason);
         }
+        reservation.setUpdatedAt(LocalDateTime.now());
 
-        reservation.setStatus(Reservation.ReservationStatus.APPROVED);
-        reservation.setRejectionReason(reason);
-        return reservationRepository.save(reservation);
+        if (transition.releasesSeats()) {
+            releaseSeats(reservation);
+        }
+        eventPublisher.publishEvent(ReservationEvent.of(ReservationEvent.STATUS_CHANGED, reservation));
+        return reservation;
     }
 
-    @Transactional
-    public Reservation updateVisitStatus(VisitStatusRequest request) {
-        Reservation reservation = reservationRepository.findById(request.getReservationId())
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+    /**
+     * 방문 상태 UPDATE 와 같은 변경을 조회해 둔 예약에 반영합니다 (응답용, UPDATE 후 다시 조회하지 않음)
+     */
+    private void reflectVisitTransition(Reservation reservation, VisitTransition transition, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        reservation.setVisitStatus(transition.getTo());
+        reservation.setUpdatedAt(now);
+        switch (transition) {
+            case VISITED -> {
+                reservation.setStatus(Reservation.ReservationStatus.COMPLETED);
+                reservation.setVisitConfirmedAt(now);
+            }
+            case NO_SHOW -> {
+                if (reason != null) {
+                    reservation.setNoShowReason(reason);
+                }
+            }
+            case BLACKLISTED -> {
+                reservation.setIsBlacklisted(true);
+                if (reason != null) {
+                    reservation.setBlacklistReason(reason);
+                }
+            }
+        }
+    }
 
-        Reservation.VisitStatus visitStatus =
-                Reservation.VisitStatus.valueOf(request.getVisitStatus().toUpperCase());
-        reservation.setVisitStatus(visitStatus);
+    private int applyVisitTransition(Collection<Long> ids, VisitTransition transition, String reason) {
+        return switch (transition) {
+            case VISITED -> reservationRepository.markVisited(
+                    ids, VisitTransition.RESERVATION_STATUSES, transition.getFrom());
+            case NO_SHOW -> reservationRepository.markNoShow(
+                    ids, VisitTransition.RESERVATION_STATUSES, transition.getFrom(), reason);
+            case BLACKLISTED -> reservationRepository.markBlacklisted(
+                    ids, VisitTransition.RESERVATION_STATUSES, transition.getFrom(), reason);
+        };
+    }
 
-        if (visitStatus == Reservation.VisitStatus.VISITED) {
-            reservation.setStatus(Reservation.ReservationStatus.COMPLETED);
-            reservation.setVisitConfirmedAt(java.time.LocalDateTime.now());
+    /**
+     * 예약 거절에는 고객에게 보여 줄 사유가 필요합니다 (빈 사유가 저장되지 않도록 단건 / 일괄 모두 검사)
+     */
+    private void requireRejectionReason(String reason) {
+        if (reason == null || reason.isBlank()) {
+            throw new IllegalArgumentException("거절 사유를 입력해주세요.");
         }
+    }
 
-        if (visitStatus == Reservation.VisitStatus.NO_SHOW
-                && request.getReason() != null && !request.getReason().isEmpty()) {
-            reservation.setNoShowReason(request.getReason());
+    /**
+     * 일괄 처리 대상 예약의 현재 상태를 잠가서 한 번에 조회합니다 (요청 ID 중복 제거, 최대 MAX_BULK_SIZE 건)
+     */
+    private Map<Long, ReservationStateView> loadStates(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("처리할 예약 ID 목록이 비어 있습니다.");
         }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리할 수 있습니다.");
+        }
+        Map<Long, ReservationStateView> states = new HashMap<>();
+        for (ReservationStateView state : reservationRepository.findStatesByIdIn(distinctIds)) {
+            states.put(state.getId(), state);
+        }
+        return states;
+    }
 
-        if (visitStatus == Reservation.VisitStatus.BLACKLISTED) {
-            reservation.setIsBlacklisted(true);
-            if (request.getReason() != null && !request.getReason().isEmpty()) {
-                reservation.setBlacklistReason(request.getReason());
+    /**
+     * 조회한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 조건부 UPDATE 는 전이 가능한 예약에 모두 반영되어야 합니다
+     * (다른 요청이 같은 상태로 바꾼 예약을 이 요청이 변경한 것으로 세지 않도록, 반영 후 다시 조회해 추정하지 않음)
+     */
+    private void expectApplied(List<Long> eligible, int updated) {
+        if (updated != eligible.size()) {
+            throw new ConflictException("예약 상태가 처리 중에 변경되었습니다. 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 전이가 적용된 예약의 좌석을 시간대별로 합산해 반환합니다 (시간대당 UPDATE 1회)
+     */
+    private void releaseSeatsInBulk(Map<Long, ReservationStateView> states, Set<Long> applied) {
+        Map<SlotKey, Integer> seatsBySlot = new HashMap<>();
+        for (Long id : applied) {
+            ReservationStateView state = states.get(id);
+            if (state.getGuests() != null) {
+                seatsBySlot.merge(new SlotKey(state.getRestaurantId(), state.getReservationDate(),
+                        state.getReservationTime()), state.getGuests(), Integer::sum);
             }
         }
+        seatsBySlot.forEach((slot, seats) ->
+                slotService.releaseSeats(slot.restaurantId(), slot.date(), slot.time(), seats));
+    }
 
-        return reservationRepository.save(reservation);
+    /**
+     * 일괄 처리로 변경된 예약마다 변경 이벤트를 발행합니다 (null 인 상태는 조회 시점 값 유지)
+     */
+    private void publishApplied(Map<Long, ReservationStateView> states, Set<Long> applied, String type,
+                                Reservation.ReservationStatus status, Reservation.VisitStatus visitStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : applied) {
+            ReservationStateView state = states.get(id);
+            Reservation.ReservationStatus newStatus = status != null ? status : state.getStatus();
+            Reservation.VisitStatus newVisitStatus = visitStatus != null ? visitStatus : state.getVisitStatus();
+            eventPublisher.publishEvent(new ReservationEvent(type, id, state.getUserId(), state.getRestaurantId(),
+                    newStatus != null ? newStatus.name() : null,
+                    newVisitStatus != null ? newVisitStatus.name() : null, now));
+        }
     }
 
-    @Transactional(readOnly = true)
-    public List<Reservation> getReservationsByVisitStatus(Reservation.VisitStatus visitStatus) {
-        List<Reservation> reservations =
-                reservationRepository.findByVisitStatusOrderByCreatedAtDesc(visitStatus);
-        return enrichReservationsWithUserNickname(reservations);
+    private BulkReservationResult bulkResult(List<Long> ids, Map<Long, ReservationStateView> states, Set<Long> applied,
+                                             String appliedStatus, Function<ReservationStateView, String> currentStatus,
+                                             String rejectedMessage) {
+        List<BulkReservationResult.Item> items = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            ReservationStateView state = states.get(id);
+            if (state == null) {
+                items.add(new BulkReservationResult.Item(id, false, null, "예약을 찾을 수 없습니다."));
+            } else if (applied.contains(id)) {
+                items.add(new BulkReservationResult.Item(id, true, appliedStatus, null));
+            } else {
+                items.add(new BulkReservationResult.Item(id, false, currentStatus.apply(state), rejectedMessage));
+            }
+        }
+        int succeeded = (int) items.stream().filter(BulkReservationResult.Item::isSuccess).count();
+        return new BulkReservationResult(items.size(), succeeded, items);
     }
 
-    @Transactional(readOnly = true)
-    public List<Reservation> getBlacklistedReservations() {
-        List<Reservation> reservations =
-                reservationRepository.findByIsBlacklistedTrueOrderByCreatedAtDesc();
-        return enrichReservationsWithUserNickname(reservations);
+    private record SlotKey(Long restaurantId, LocalDate date, LocalTime time) {
+    }
+
+    private Reservation findReservation(Long reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+    }
+
+    private boolean holdsSeats(Reservation.ReservationStatus status) {
+        return status != null && status.holdsSeats();
+    }
+
+    private void takeSeats(Reservation reservation) {
+        slotService.takeSeats(reservation.getRestaurantId(), reservation.getReservationDate(),
+                reservation.getReservationTime(), reservation.getGuests() != null ? reservation.getGuests() : 0);
+    }
+
+    private void releaseSeats(Reservation reservation) {
+        slotService.releaseSeats(reservation.getRestaurantId(), reservation.getReservationDate(),
+                reservation.getReservationTime(), reservation.getGuests() != null ? reservation.getGuests() : 0);
+    }
+
+    /**
+     * 요청 페이지 크기를 허용 범위(1 ~ MAX_PAGE_SIZE)로 보정합니다
+     */
+    private Limit pageLimit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * 조회 결과 윈도우를 다음 페이지 커서와 함께 페이지 응답으로 변환합니다
+     */
+    private CursorPage<ReservationSummary> toPage(Window<ReservationSummary> window, List<ReservationSummary> items) {
+        String nextCursor = null;
+        if (window.hasNext() && !items.isEmpty()) {
+            ReservationSummary last = items.get(items.size() - 1);
+            nextCursor = ReservationCursor.encode(last.createdAt(), last.id());
+        }
+        return new CursorPage<>(items, nextCursor);
     }
 
     /**
      * 예약 리스트에 사용자 닉네임 정보를 추가합니다
+     * - 예약 건수와 무관하게 사용자 이름 조회는 IN 쿼리 한 번으로 처리
      */
-    private List<Reservation> enrichReservationsWithUserNickname(List<Reservation> reservations) {
-        return reservations.stream().map(reservation -> {
-            try {
-                Users user = userRepository.findById(reservation.getUserId()).orElse(null);
-                if (user != null && user.getName() != null) {
-                    reservation.setUserName(user.getName());
-                }
-            } catch (Exception ignored) {}
-            return reservation;
-        }).collect(Collectors.toList());
+    private List<ReservationSummary> enrichReservationsWithUserNickname(List<ReservationSummary> reservations) {
+        if (reservations.isEmpty()) {
+            return reservations;
+        }
+        Map<Long, String> names = userNameResolver.resolveNames(
+                reservations.stream().map(ReservationSummary::userId).collect(Collectors.toSet()));
+
+        List<ReservationSummary> enriched = new ArrayList<>(reservations.size());
+        for (ReservationSummary reservation : reservations) {
+            String name = names.get(reservation.userId());
+            enriched.add(name != null ? reservation.withUserName(name) : reservation);
+        }
+        return enriched;
     }
 }
@@ -0,0 +1,83 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.entity.ReservationSlot;
+import choplan.db.application.properties.choplan.repository.ReservationSlotRepository;
+
+/**
+ * 예약 시간대 좌석 재고 서비스
+ * - 좌석 차감/반환은 조건부 UPDATE 한 번으로 처리 (SELECT 후 INSERT 방식의 잠금 대기 없음)
+ * - 재고 행이 없으면 별도 트랜잭션에서 기본 좌석 수로 생성 (동시 생성은 유니크 키로 한 건만 성공)
+ *   생성은 차감 UPDATE 전에 해야 함: 없는 행을 UPDATE 하면 InnoDB 가 유니크 키 구간에 갭 잠금을 걸어
+ *   별도 트랜잭션의 INSERT 가 바깥 트랜잭션을 기다리게 되고, 서로 기다리는 상태를 감지하지 못해 잠금 대기 시간 초과로 실패함
+ */
+@Service
+public class ReservationSlotService {
+
+    private final ReservationSlotRepository slotRepository;
+    private final TransactionTemplate newTransaction;
+    private final int defaultCapacity;
+
+    public ReservationSlotService(ReservationSlotRepository slotRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.slot.default-capacity:40}") int defaultCapacity) {
+        this.slotRepository = slotRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * 시간대 좌석을 차감합니다. 잔여 좌석이 부족하면 IllegalStateException 을 던집니다.
+     */
+    @Transactional
+    public void takeSeats(Long restaurantId, LocalDate date, LocalTime time, int seats) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException("예약 인원은 1명 이상이어야 합니다.");
+        }
+
+        // 잠금 없는 조회로 재고 행을 먼저 확인 (첫 예약에서만 생성)
+        if (!slotRepository.existsByRestaurantIdAndReservationDateAndReservationTime(restaurantId, date, time)) {
+            createSlotIfAbsent(restaurantId, date, time);
+        }
+        if (slotRepository.takeSeats(restaurantId, date, time, seats) == 1) {
+            return;
+        }
+        throw new IllegalStateException("해당 시간대의 잔여 좌석이 부족합니다.");
+    }
+
+    /**
+     * 시간대 좌석을 반환합니다. 재고 행이 없거나 총 좌석 수를 넘으면 무시합니다.
+     */
+    @Transactional
+    public void releaseSeats(Long restaurantId, LocalDate date, LocalTime time, int seats) {
+        if (seats > 0) {
+            slotRepository.releaseSeats(restaurantId, date, time, seats);
+        }
+    }
+
+    private void createSlotIfAbsent(Long restaurantId, LocalDate date, LocalTime time) {
+        try {
+            newTransaction.executeWithoutResult(status -> slotRepository.saveAndFlush(
+                    ReservationSlot.builder()
+                            .restaurantId(restaurantId)
+                            .reservationDate(date)
+                            .reservationTime(time)
+                            .capacity(defaultCapacity)
+                            .remainingSeats(defaultCapacity)
+                            .build()));
+        } catch (DataIntegrityViolationException alreadyCreated) {
+            // 다른 요청(노드)이 먼저 생성함
+        }
+    }
+}
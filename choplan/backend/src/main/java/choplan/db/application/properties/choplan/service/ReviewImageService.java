@@ -0,0 +1,320 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import choplan.db.application.properties.choplan.dto.ReviewImageResponse;
+import choplan.db.application.properties.choplan.entity.ReviewImage;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.repository.ReviewImageRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * 리뷰 이미지 업로드 / 축소본 생성
+ * - 요청 스레드: 개수 / 파일 크기 / 형식(파일 시그니처) / 헤더의 해상도만 확인하고 원본을 저장 → 바로 응답
+ * - 축소본(썸네일, 중간 크기)은 가상 스레드에서 만듦: 원본을 한 번만 디코딩하고 두 축소본을 동시에 축소 / 인코딩 / 저장
+ *   가상 스레드는 개수 제한이 없으므로 디코딩 / 축소(CPU, 메모리)는 decode-concurrency 개까지만 동시에 실행
+ * - 처리 대기 중인 작업이 max-pending 을 넘거나 서버가 재시작되면 PROCESSING 으로 남고,
+ *   주기적인 복구 작업이 저장소에서 원본을 다시 읽어 처리
+ * - 같은 사진(내용 해시)으로 이미 만든 축소본이 있으면 다시 만들지 않음
+ */
+@Slf4j
+@Service
+@Timed("choplan.service")
+public class ReviewImageService {
+
+    private static final String PURPOSE = "review-image";
+    private static final String RENDITION_PURPOSE = "review-image-rendition";
+    private static final String KEY_PREFIX = UploadIntent.Purpose.REVIEW_IMAGE.getKeyPrefix();
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int RECOVERY_BATCH = 20;
+
+    private final ReviewImageRepository reviewImageRepository;
+    private final ContentStoreService contentStoreService;
+    private final FileStorageService fileStorageService;
+    private final int maxCount;
+    private final long maxBytes;
+    private final long maxPixels;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final int maxAttempts;
+    private final long staleMs;
+    private final int maxPending;
+    private final Semaphore imageWork;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService workers;
+
+    public ReviewImageService(ReviewImageRepository reviewImageRepository,
+                              ContentStoreService contentStoreService,
+                              FileStorageService fileStorageService,
+                              @Value("${choplan.review-image.max-count:5}") int maxCount,
+                              @Value("${choplan.review-image.max-bytes:5242880}") long maxBytes,
+                              @Value("${choplan.review-image.max-pixels:40000000}") long maxPixels,
+                              @Value("${choplan.review-image.thumbnail-size:240}") int thumbnailSize,
+                              @Value("${choplan.review-image.medium-size:960}") int mediumSize,
+                              @Value("${choplan.review-image.max-attempts:3}") int maxAttempts,
+                              @Value("${choplan.review-image.stale-ms:600000}") long staleMs,
+                              @Value("${choplan.review-image.max-pending:64}") int maxPending,
+                              @Value("${choplan.review-image.decode-concurrency:0}") int decodeConcurrency) {
+        this.reviewImageRepository = reviewImageRepository;
+        this.contentStoreService = contentStoreService;
+        this.fileStorageService = fileStorageService;
+        this.maxCount = maxCount;
+        this.maxBytes = maxBytes;
+        this.maxPixels = maxPixels;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.maxAttempts = maxAttempts;
+        this.staleMs = staleMs;
+        this.maxPending = maxPending;
+        // 0 이면 CPU 코어 수
+        this.imageWork = new Semaphore(decodeConcurrency > 0
+                ? decodeConcurrency : Runtime.getRuntime().availableProcessors());
+        ThreadFactory factory = Thread.ofVirtual().name("review-image-", 0).factory();
+        this.workers = Executors.newThreadPerTaskExecutor(factory);
+    }
+
+    /**
+     * 리뷰 이미지를 검증하고 원본을 저장합니다. 축소본은 백그라운드에서 만듭니다.
+     * - 모두 검증한 뒤 저장하므로 하나라도 잘못되면 아무것도 저장하지 않음
+     */
+    public List<ReviewImageResponse> upload(Long userId, List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("이미지 파일이 필요합니다.");
+        }
+        if (files.size() > maxCount) {
+            throw new IllegalArgumentException("이미지는 최대 " + maxCount + "장까지 업로드할 수 있습니다.");
+        }
+
+        List<byte[]> contents = new ArrayList<>();
+        List<ImageRenditions.ImageInfo> infos = new ArrayList<>();
+        for (MultipartFile file : files) {
+            byte[] content = validateSize(file);
+            contents.add(content);
+            infos.add(ImageRenditions.probe(content, maxPixels));
+        }
+
+        List<ReviewImageResponse> responses = new ArrayList<>();
+        for (int i = 0; i < contents.size(); i++) {
+            responses.add(toResponse(save(userId, contents.get(i), infos.get(i))));
+        }
+        return responses;
+    }
+
+    public ReviewImageResponse find(Long imageId) {
+        return reviewImageRepository.findById(imageId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 오래 PROCESSING 으로 남은 이미지를 저장소의 원본으로 다시 처리합니다
+     */
+    @Scheduled(fixedDelayString = "${choplan.review-image.recovery-ms:60000}")
+    public void recoverStale() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(staleMs * 1_000_000);
+        List<ReviewImage> stale = reviewImageRepository.findByStatusAndUpdatedAtBefore(
+                ReviewImage.Status.PROCESSING, cutoff, Limit.of(RECOVERY_BATCH));
+        for (ReviewImage image : stale) {
+            if (pending.get() >= maxPending) {
+                return;
+            }
+            if (reviewImageRepository.claim(image.getId(), ReviewImage.Status.PROCESSING, image.getUpdatedAt(),
+                    LocalDateTime.now()) == 0) {
+                continue; // 다른 서버가 먼저 선점
+            }
+            byte[] content;
+            try (InputStream in = fileStorageService.open(image.getOriginalKey(), image.getSize())) {
+                content = in.readAllBytes();
+            } catch (IOException | SdkException e) {
+                fail(image.getId(), e, false);
+                continue;
+            }
+            dispatch(image.getId(), content);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private byte[] validateSize(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("빈 이미지 파일은 업로드할 수 없습니다.");
+        }
+        if (file.getSize() > maxBytes) {
+            throw new IllegalArgumentException(file.getOriginalFilename() + ": 파일 크기는 "
+                    + maxBytes / (1024 * 1024) + "MB를 초과할 수 없습니다.");
+        }
+        return file.getBytes();
+    }
+
+    private ReviewImage save(Long userId, byte[] content, ImageRenditions.ImageInfo info) throws IOException {
+        // 형식은 클라이언트가 보낸 Content-Type 이 아니라 실제 파일 내용으로 판단
+        String contentType = "image/" + info.format();
+        String extension = info.format().equals("png") ? ".png" : ".jpg";
+        String url = contentStoreService.store(PURPOSE, KEY_PREFIX, extension, content, contentType);
+        String key = fileStorageService.keyOf(url);
+        String contentHash = ContentStoreService.hashOf(key);
+
+        ReviewImage.ReviewImageBuilder builder = ReviewImage.builder()
+                .userId(userId)
+                .contentHash(contentHash)
+                .originalKey(key)
+                .contentType(contentType)
+                .size((long) content.length)
+                .width(info.width())
+                .height(info.height())
+                .attempts(0);
+
+        // 같은 사진의 축소본이 이미 있으면 재사용
+        ReviewImage processed = reviewImageRepository
+                .findFirstByContentHashAndStatus(contentHash, ReviewImage.Status.READY).orElse(null);
+        if (processed != null) {
+            return reviewImageRepository.save(builder
+                    .status(ReviewImage.Status.READY)
+                    .thumbnailKey(processed.getThumbnailKey())
+                    .mediumKey(processed.getMediumKey())
+                    .build());
+        }
+
+        ReviewImage image = reviewImageRepository.save(builder.status(ReviewImage.Status.PROCESSING).build());
+        dispatch(image.getId(), content);
+        return image;
+    }
+
+    // 대기 작업이 많으면 넘기지 않고 PROCESSING 으로 남겨 둠 (recoverStale 에서 처리)
+    private void dispatch(Long imageId, byte[] content) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            log.debug("리뷰 이미지 처리 대기열 가득 참 imageId={}", imageId);
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    process(imageId, content);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            log.warn("리뷰 이미지 처리 작업 등록 실패 imageId={}: {}", imageId, e.getMessage());
+        }
+    }
+
+    void process(Long imageId, byte[] content) {
+        ReviewImage image = reviewImageRepository.findById(imageId).orElse(null);
+        if (image == null || image.getStatus() != ReviewImage.Status.PROCESSING) {
+            return;
+        }
+        try {
+            BufferedImage source = withImageWork(() -> ImageRenditions.decode(content, mediumSize));
+            if (source == null) {
+                throw new IIOException("이미지를 디코딩할 수 없습니다.");
+            }
+            String contentHash = image.getContentHash();
+            Future<String> medium = workers.submit(() -> render(source, mediumSize, "medium", contentHash));
+            Future<String> thumbnail = workers.submit(() -> render(source, thumbnailSize, "thumbnail", contentHash));
+
+            image.setMediumKey(medium.get());
+            image.setThumbnailKey(thumbnail.get());
+            image.setStatus(ReviewImage.Status.READY);
+            image.setAttempts(image.getAttempts() + 1);
+            image.setLastError(null);
+            reviewImageRepository.save(image);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            fail(imageId, cause, isPermanent(cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(imageId, e, false);
+        } catch (IOException | RuntimeException e) {
+            fail(imageId, e, isPermanent(e));
+        }
+    }
+
+    // 축소 / 인코딩 후 저장 (키는 원본 해시로 정해지므로 다시 처리해도 같은 객체를 덮어씀)
+    private String render(BufferedImage source, int longEdge, String variant, String contentHash)
+            throws IOException, InterruptedException {
+        byte[] jpeg = withImageWork(() ->
+                ImageRenditions.encodeJpeg(ImageRenditions.resize(source, longEdge), JPEG_QUALITY));
+        String key = KEY_PREFIX + "/" + variant + "/" + contentHash + ".jpg";
+        fileStorageService.upload(RENDITION_PURPOSE, key, new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+        return key;
+    }
+
+    private <T> T withImageWork(ImageWork<T> work) throws IOException, InterruptedException {
+        imageWork.acquire();
+        try {
+            return work.call();
+        } finally {
+            imageWork.release();
+        }
+    }
+
+    // 디코딩 실패는 다시 시도해도 같으므로 바로 FAILED
+    private static boolean isPermanent(Throwable e) {
+        return e instanceof IIOException || e instanceof IllegalArgumentException;
+    }
+
+    private void fail(Long imageId, Throwable error, boolean permanent) {
+        reviewImageRepository.findById(imageId).ifPresent(image -> {
+            int attempts = image.getAttempts() + 1;
+            boolean exhausted = permanent || attempts >= maxAttempts;
+            log.warn("리뷰 이미지 축소본 생성 실패 imageId={} attempt={}{}: {}", imageId, attempts,
+                    exhausted ? " (재시도 중단)" : "", error.getMessage());
+            String message = String.valueOf(error.getMessage());
+            image.setAttempts(attempts);
+            image.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            if (exhausted) {
+                image.setStatus(ReviewImage.Status.FAILED);
+            }
+            // PROCESSING 이면 updated_at 이 갱신되므로 stale-ms 뒤에 recoverStale 이 다시 처리
+            reviewImageRepository.save(image);
+        });
+    }
+
+    private ReviewImageResponse toResponse(ReviewImage image) {
+        boolean ready = image.getStatus() == ReviewImage.Status.READY;
+        return new ReviewImageResponse(
+                image.getId(),
+                image.getStatus().name(),
+                fileStorageService.getUrl(image.getOriginalKey()),
+                ready ? fileStorageService.getUrl(image.getMediumKey()) : null,
+                ready ? fileStorageService.getUrl(image.getThumbnailKey()) : null,
+                image.getWidth(),
+                image.getHeight());
+    }
+
+    @FunctionalInterface
+    private interface ImageWork<T> {
+        T call() throws IOException;
+    }
+}
@@ -0,0 +1,71 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파일 저장소 업로드 지연 시간 지표 (storage.upload, 백분위 히스토그램 포함)
+ * - 같은 내용이 이미 저장되어 있어 전송을 건너뛴 업로드는 storage.upload.deduplicated(건수 / 바이트)
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageMetrics {
+
+    public static final String UPLOAD_TIMER = "storage.upload";
+    public static final String DEDUPLICATED_COUNTER = "storage.upload.deduplicated";
+    public static final String DEDUPLICATED_BYTES_COUNTER = "storage.upload.deduplicated.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업로드 호출 시간을 backend / purpose / outcome(success, error) 태그로 기록합니다
+     */
+    public <T, E extends Exception> T recordUpload(String backend, String purpose, UploadCall<T, E> upload) throws E {
+        long started = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = upload.call();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder(UPLOAD_TIMER)
+                    .description("파일 저장소 업로드 지연 시간")
+                    .tag("backend", backend)
+                    .tag("purpose", purpose)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 이미 저장된 내용이라 전송하지 않은 업로드를 기록합니다
+     */
+    public void recordDeduplicated(String backend, String purpose, long bytes) {
+        Counter.builder(DEDUPLICATED_COUNTER)
+                .description("중복 내용이라 전송을 건너뛴 업로드 수")
+                .tag("backend", backend)
+                .tag("purpose", purpose)
+                .register(meterRegistry)
+                .increment();
+        Counter.builder(DEDUPLICATED_BYTES_COUNTER)
+                .description("중복 제거로 전송하지 않은 바이트 수")
+                .baseUnit("bytes")
+                .tag("backend", backend)
+                .tag("purpose", purpose)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+
+    @FunctionalInterface
+    public interface UploadCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
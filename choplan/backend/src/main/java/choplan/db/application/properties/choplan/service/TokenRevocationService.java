@@ -0,0 +1,126 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import choplan.db.application.properties.choplan.entity.TokenRevocation;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.TokenRevocationRepository;
+import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import choplan.db.application.properties.choplan.security.RevocationChannel;
+import choplan.db.application.properties.choplan.security.RevokedSubjects;
+import choplan.db.application.properties.choplan.security.UserStatusCache;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 토큰 즉시 무효화
+ * - 계정이 정지 / 탈퇴 / 거절되면 그 시각 이전에 발급된 토큰을 모두 무효화 (token_revocations 에 저장)
+ * - 인증 필터는 메모리의 RevokedSubjects 만 확인하므로 요청당 DB 조회 없음
+ * - 서버 시작 시 DB 에서 다시 읽고, 다른 서버와는 RevocationChannel 로 동기화
+ * - 무효화 행은 상태 변경과 같은 트랜잭션에 저장하고, 캐시 제거 / 메모리 반영 / 전파는 커밋 후에만 실행
+ *   (롤백된 상태 변경이 토큰을 무효화하거나, 커밋 전에 이전 상태가 다시 캐시되지 않도록)
+ * - 리프레시 토큰 유효 기간이 지난 항목은 더 이상 필요 없으므로 주기적으로 정리
+ */
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RevokedSubjects revokedSubjects;
+    private final UserStatusCache userStatusCache;
+    private final RevocationChannel revocationChannel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long retentionMs;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  RevokedSubjects revokedSubjects,
+                                  UserStatusCache userStatusCache,
+                                  RevocationChannel revocationChannel,
+                                  ApplicationEventPublisher eventPublisher,
+                                  JwtTokenProvider jwtTokenProvider) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.revokedSubjects = revokedSubjects;
+        this.userStatusCache = userStatusCache;
+        this.revocationChannel = revocationChannel;
+        this.eventPublisher = eventPublisher;
+        this.retentionMs = TimeUnit.SECONDS.toMillis(jwtTokenProvider.getRefreshTokenValiditySeconds());
+
+        revocationChannel.subscribe((userId, revokedBefore) -> {
+            revokedSubjects.revoke(userId, revokedBefore);
+            userStatusCache.evict(userId);
+        });
+    }
+
+    @PostConstruct
+    void load() {
+        Map<Long, Long> revocations = new HashMap<>();
+        for (TokenRevocation revocation : tokenRevocationRepository.findByRevokedBeforeGreaterThanEqual(cutoff())) {
+            revocations.put(revocation.getUserId(), revocation.getRevokedBefore());
+        }
+        revokedSubjects.revokeAll(revocations);
+    }
+
+    /**
+     * 계정 상태를 저장한 직후, 같은 트랜잭션 안에서 호출합니다 (상태를 바꾸는 모든 서비스에서 호출해야 함)
+     * - 커밋 후 캐시된 상태를 버려 다음 요청부터 바뀐 상태로 인증됨
+     * - 이용할 수 없는 상태가 되면 발급된 토큰을 모두 무효화
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(Users user) {
+        UserStatusCache.UserState state =
+                UserStatusCache.UserState.of(user.getRole(), user.getCustomerStatus(), user.getOwnerStatus());
+        long revokedBefore = state.active() ? 0 : saveRevocation(user.getUserId());
+        eventPublisher.publishEvent(new StatusChanged(user.getUserId(), revokedBefore));
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 액세스 / 리프레시 토큰을 모두 무효화합니다.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        eventPublisher.publishEvent(new StatusChanged(userId, saveRevocation(userId)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterStatusCommitted(StatusChanged event) {
+        userStatusCache.evict(event.userId());
+        if (event.revokedBefore() > 0) {
+            revocationChannel.publish(event.userId(), event.revokedBefore());
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${choplan.auth.revocation.purge-ms:3600000}")
+    public void purgeExpired() {
+        long cutoff = cutoff();
+        tokenRevocationRepository.deleteByRevokedBeforeLessThan(cutoff);
+        revokedSubjects.purgeBefore(cutoff);
+    }
+
+    private long saveRevocation(Long userId) {
+        long now = System.currentTimeMillis();
+        TokenRevocation revocation = tokenRevocationRepository.findById(userId)
+                .orElseGet(() -> new TokenRevocation(userId, now));
+        revocation.setRevokedBefore(Math.max(now, revocation.getRevokedBefore()));
+        tokenRevocationRepository.save(revocation);
+        return revocation.getRevokedBefore();
+    }
+
+    private long cutoff() {
+        return System.currentTimeMillis() - retentionMs;
+    }
+
+    /**
+     * 커밋 후 반영할 상태 변경 (revokedBefore 가 0 이면 캐시만 제거)
+     */
+    public record StatusChanged(long userId, long revokedBefore) {
+    }
+}
@@ -0,0 +1,243 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.dto.UploadIntentResponse;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.repository.UploadIntentRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.storage.ObjectStorage;
+import choplan.db.application.properties.choplan.storage.PresignedUpload;
+import choplan.db.application.properties.choplan.storage.StoredObject;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * 직접 업로드 (서명된 URL)
+ * - 발급: 용도별 형식 / 크기를 검사하고 그 값으로 서명한 업로드 URL 을 돌려줌 → 파일 본문은 서버를 거치지 않음
+ * - 완료: 저장소의 실제 객체 크기 / 콘텐츠 타입 / 파일 시그니처를 확인한 뒤에야 사용자 등에 연결
+ *   검증에 실패하면 객체를 지우고 요청은 만료 전까지 다시 올릴 수 있게 남겨 둠
+ * - 만료 후에도 완료되지 않은 요청은 주기적으로 EXPIRED 처리하고 올라온 객체를 삭제
+ */
+@Slf4j
+@Service
+@Timed("choplan.service")
+public class UploadIntentService {
+
+    private static final int SIGNATURE_BYTES = 12;
+    private static final int SWEEP_BATCH = 100;
+
+    private final UploadIntentRepository uploadIntentRepository;
+    private final UserRepository userRepository;
+    private final ObjectStorage objectStorage;
+    private final ContentStoreService contentStoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final long expiryGraceMs;
+
+    public UploadIntentService(UploadIntentRepository uploadIntentRepository,
+                               UserRepository userRepository,
+                               ObjectStorage objectStorage,
+                               ContentStoreService contentStoreService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${choplan.storage.upload-intent.ttl-seconds:600}") long ttlSeconds,
+                               @Value("${choplan.storage.upload-intent.expiry-grace-ms:300000}") long expiryGraceMs) {
+        this.uploadIntentRepository = uploadIntentRepository;
+        this.userRepository = userRepository;
+        this.objectStorage = objectStorage;
+        this.contentStoreService = contentStoreService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.expiryGraceMs = expiryGraceMs;
+    }
+
+    /**
+     * 업로드 URL 발급
+     */
+    public UploadIntentResponse issue(Long userId, UploadIntent.Purpose purpose, String contentType, Long contentLength) {
+        String type = normalizeContentType(contentType);
+        if (type == null || !purpose.getContentTypes().contains(type)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + contentType);
+        }
+        if (contentLength == null || contentLength <= 0) {
+            throw new IllegalArgumentException("파일 크기가 올바르지 않습니다.");
+        }
+        if (contentLength > purpose.getMaxSize()) {
+            throw new IllegalArgumentException("파일 크기는 " + purpose.getMaxSize() / (1024 * 1024)
+                    + "MB를 초과할 수 없습니다.");
+        }
+
+        UploadIntent intent = uploadIntentRepository.save(UploadIntent.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .purpose(purpose)
+                .objectKey(purpose.getKeyPrefix() + "/" + UUID.randomUUID() + extension(type))
+                .contentType(type)
+                .contentLength(contentLength)
+                .status(UploadIntent.Status.ISSUED)
+                .expiresAt(System.currentTimeMillis() + ttl.toMillis())
+                .build());
+
+        PresignedUpload upload = objectStorage.presignPut(intent.getObjectKey(), type, contentLength, ttl);
+        return UploadIntentResponse.of(intent, upload);
+    }
+
+    /**
+     * 로그인 사용자의 업로드 완료 처리. 검증된 객체의 접근 URL 을 반환합니다.
+     */
+    public String complete(String intentId, Long userId) {
+        UploadIntent intent = uploadIntentRepository.findById(intentId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("업로드 요청을 찾을 수 없습니다."));
+        return complete(intent);
+    }
+
+    /**
+     * 가입 직후(로그인 전) 점주의 사업자등록증 업로드 완료 처리
+     * - 추측할 수 없는 요청 ID 자체를 권한으로 사용하며, 사업자등록증 용도의 요청만 허용
+     */
+    public String completeBusinessDocument(String intentId) {
+        UploadIntent intent = uploadIntentRepository.findById(intentId)
+                .filter(found -> found.getPurpose() == UploadIntent.Purpose.BUSINESS_DOC)
+                .orElseThrow(() -> new IllegalArgumentException("업로드 요청을 찾을 수 없습니다."));
+        return complete(intent);
+    }
+
+    /**
+     * 만료되었는데 완료되지 않은 요청 정리 (만료 직전에 시작된 업로드가 끝나도록 expiry-grace 만큼 더 기다림)
+     */
+    @Scheduled(fixedDelayString = "${choplan.storage.upload-intent.sweep-ms:60000}")
+    public void expireStale() {
+        List<UploadIntent> stale = uploadIntentRepository.findByStatusAndExpiresAtLessThan(
+                UploadIntent.Status.ISSUED, System.currentTimeMillis() - expiryGraceMs, Limit.of(SWEEP_BATCH));
+        for (UploadIntent intent : stale) {
+            if (uploadIntentRepository.transition(intent.getId(), UploadIntent.Status.ISSUED,
+                    UploadIntent.Status.EXPIRED) == 1) {
+                deleteQuietly(intent.getObjectKey());
+            }
+        }
+    }
+
+    private String complete(UploadIntent intent) {
+        String url = objectStorage.getUrl(intent.getObjectKey());
+        if (intent.getStatus() == UploadIntent.Status.COMPLETED) {
+            return url; // 완료 요청 재전송
+        }
+        if (intent.getStatus() != UploadIntent.Status.ISSUED || System.currentTimeMillis() > intent.getExpiresAt()) {
+            throw new IllegalArgumentException("업로드 요청이 만료되었습니다. 다시 요청해 주세요.");
+        }
+
+        // 저장소 조회는 트랜잭션 밖에서 (검증 중에 DB 커넥션을 붙잡지 않음)
+        verify(intent);
+
+        return transactionTemplate.execute(status -> {
+            if (uploadIntentRepository.transition(intent.getId(), UploadIntent.Status.ISSUED,
+                    UploadIntent.Status.COMPLETED) == 0) {
+                UploadIntent current = uploadIntentRepository.findById(intent.getId()).orElseThrow();
+                if (current.getStatus() == UploadIntent.Status.COMPLETED) {
+                    return url; // 동시에 들어온 완료 요청이 먼저 처리함
+                }
+                throw new IllegalArgumentException("업로드 요청이 만료되었습니다. 다시 요청해 주세요.");
+            }
+            if (intent.getPurpose() == UploadIntent.Purpose.BUSINESS_DOC) {
+                userRepository.findById(intent.getUserId()).ifPresent(owner -> {
+                    String previous = owner.getBusinessRegistrationDoc();
+                    owner.attachBusinessDocument(url);
+                    contentStoreService.releaseReplaced(previous, url);
+                });
+            }
+            return url;
+        });
+    }
+
+    // 크기 / 콘텐츠 타입 / 파일 시그니처 확인 (브라우저가 보낸 Content-Type 만으로는 실제 형식을 보장할 수 없음)
+    private void verify(UploadIntent intent) {
+        String key = intent.getObjectKey();
+        try {
+            StoredObject stored = objectStorage.stat(key)
+                    .orElseThrow(() -> new IllegalArgumentException("업로드된 파일이 없습니다."));
+            if (stored.size() != intent.getContentLength()) {
+                reject(key, "파일 크기가 요청한 크기와 다릅니다.");
+            }
+            if (stored.contentType() != null
+                    && !intent.getContentType().equals(normalizeContentType(stored.contentType()))) {
+                reject(key, "파일 형식이 요청한 형식과 다릅니다.");
+            }
+            byte[] head;
+            try (InputStream in = objectStorage.open(key, 0, Math.min(SIGNATURE_BYTES, stored.size()))) {
+                head = in.readNBytes(SIGNATURE_BYTES);
+            }
+            if (!matchesSignature(intent.getContentType(), head)) {
+                reject(key, "파일 내용이 " + intent.getContentType() + " 형식이 아닙니다.");
+            }
+        } catch (IOException | SdkException e) {
+            throw new IllegalStateException("업로드 파일 확인 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void reject(String key, String message) {
+        deleteQuietly(key);
+        throw new IllegalArgumentException(message);
+    }
+
+    static boolean matchesSignature(String contentType, byte[] head) {
+        return switch (contentType) {
+            case "application/pdf" -> startsWith(head, 0, '%', 'P', 'D', 'F', '-');
+            case "image/jpeg" -> startsWith(head, 0, 0xFF, 0xD8, 0xFF);
+            case "image/png" -> startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            case "image/webp" -> startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P');
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int... expected) {
+        if (head.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((head[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // "Image/JPEG; charset=..." → "image/jpeg"
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return null;
+        }
+        return contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String extension(String contentType) {
+        return switch (contentType) {
+            case "application/pdf" -> ".pdf";
+            case "image/jpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/webp" -> ".webp";
+            default -> "";
+        };
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            objectStorage.delete(key);
+        } catch (IOException | SdkException e) {
+            log.warn("업로드 객체 삭제 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+}
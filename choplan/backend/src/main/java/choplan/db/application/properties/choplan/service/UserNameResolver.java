@@ -0,0 +1,82 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import choplan.db.application.properties.choplan.repository.UserNameView;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 목록에 표시할 사용자 이름을 일괄 조회하는 컴포넌트
+ * - 중복 없는 userId 목록을 IN 쿼리 한 번으로 조회
+ * - 같은 HTTP 요청 안에서는 조회 결과를 요청 속성에 메모해 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNameResolver {
+
+    private static final String MEMO_ATTRIBUTE = UserNameResolver.class.getName() + ".MEMO";
+
+    private final UserRepository userRepository;
+
+    /**
+     * userId → 표시 이름(닉네임, 없으면 실명) 맵을 반환합니다.
+     * 존재하지 않거나 이름이 없는 사용자는 맵에 포함되지 않습니다.
+     */
+    public Map<Long, String> resolveNames(Collection<Long> userIds) {
+        Map<Long, String> memo = currentMemo();
+
+        Set<Long> missing = new HashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null && !memo.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (UserNameView view : userRepository.findNamesByUserIdIn(missing)) {
+                memo.put(view.getUserId(), displayName(view));
+            }
+            // 조회되지 않은 사용자도 다시 조회하지 않도록 기록
+            for (Long userId : missing) {
+                memo.putIfAbsent(userId, null);
+            }
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (Long userId : userIds) {
+            String name = userId != null ? memo.get(userId) : null;
+            if (name != null) {
+                names.put(userId, name);
+            }
+        }
+        return names;
+    }
+
+    private String displayName(UserNameView view) {
+        return view.getNickname() != null ? view.getNickname() : view.getRealName();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            // 웹 요청 밖(배치, 테스트 등)에서는 호출 단위로만 메모
+            return new HashMap<>();
+        }
+        Map<Long, String> memo = (Map<Long, String>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
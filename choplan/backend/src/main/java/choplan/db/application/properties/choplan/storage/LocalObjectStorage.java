@@ -0,0 +1,219 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소 (S3 없이 회원가입 / 업로드 경로를 부하 테스트하기 위한 대체 구현)
+ * - 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이동하므로 읽는 쪽에서 쓰다 만 파일을 보지 않음
+ * - 직접 업로드 URL 은 HMAC 서명으로 흉내 냄 (upload-url 로 PUT, controller/LocalUploadController)
+ *   서명에 키 / 콘텐츠 타입 / 크기 / 만료 시각이 포함되어 S3 서명 URL 과 같은 조건으로만 올릴 수 있음
+ * - 콘텐츠 타입은 보관하지 않으므로 stat 의 contentType 은 null
+ */
+@Component
+@ConditionalOnProperty(name = "choplan.storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final String uploadUrl;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(String root, String baseUrl) throws IOException {
+        this(root, baseUrl, "/storage/local-upload", "");
+    }
+
+    @Autowired
+    public LocalObjectStorage(@Value("${choplan.storage.local.root:./storage}") String root,
+                              @Value("${choplan.storage.local.base-url:/media}") String baseUrl,
+                              @Value("${choplan.storage.local.upload-url:/storage/local-upload}") String uploadUrl,
+                              @Value("${choplan.storage.local.presign-secret:}") String presignSecret) throws IOException {
+        this.root = Files.createDirectories(Path.of(root)).toAbsolutePath().normalize();
+        this.baseUrl = trimTrailingSlash(baseUrl);
+        this.uploadUrl = trimTrailingSlash(uploadUrl);
+        // 비어 있으면 기동할 때마다 새로 만듦 (재시작 전에 발급한 URL 은 무효, 서버가 여러 대면 값을 지정해야 함)
+        byte[] secret = presignSecret.isBlank() ? randomSecret() : presignSecret.getBytes(StandardCharsets.UTF_8);
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public String getBackend() {
+        return "local";
+    }
+
+    @Override
+    public String put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long written = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IOException("업로드 크기가 일치하지 않습니다. (예상 " + contentLength + " / 실제 " + written + ")");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return getUrl(key);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        resolve(key);
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = uploadUrl + "/" + key + "?expires=" + expires
+                + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUpload(url, "PUT",
+                Map.of("Content-Type", contentType, "Content-Length", String.valueOf(contentLength)),
+                Instant.ofEpochSecond(expires));
+    }
+
+    /**
+     * 서명된 URL 로 들어온 업로드를 검증하고 저장합니다.
+     * 서명이 맞지 않거나 만료되었으면 IllegalArgumentException
+     */
+    public void putPresigned(String key, String contentType, long contentLength, long expires, String signature,
+                             InputStream content) throws IOException {
+        if (Instant.now().getEpochSecond() > expires) {
+            throw new IllegalArgumentException("업로드 URL 이 만료되었습니다.");
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        if (signature == null
+                || !MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException("업로드 URL 서명이 올바르지 않습니다.");
+        }
+        put(key, content, contentLength, contentType);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        try {
+            return Optional.of(new StoredObject(Files.size(resolve(key)), null));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key));
+        channel.position(offset);
+        return new LimitedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (key.isEmpty() || !path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 저장 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal(("PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명 실패", e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private static String trimTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * 지정한 바이트 수까지만 읽는 스트림 (범위 읽기)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 객체의 로컬 디스크 캐시 (controller/MediaController 가 여기서 파일을 바로 전송)
+ * - 최근에 사용하지 않은 객체부터 지워 전체 크기를 max-bytes 이하로 유지 (LRU)
+ * - 같은 키를 동시에 요청해도 저장소에서는 한 번만 받음
+ * - max-object-bytes 보다 큰 객체는 캐시하지 않고 요청마다 저장소에서 범위로 읽음
+ * - 색인은 메모리에만 있으므로 기동 시 이전 캐시 파일은 지움
+ */
+@Slf4j
+@Component
+public class MediaCache {
+
+    public static final String REQUEST_COUNTER = "media.cache.requests";
+    public static final String SIZE_GAUGE = "media.cache.size";
+
+    private static final String DOWNLOAD_PREFIX = ".download-";
+
+    private final ObjectStorage objectStorage;
+    private final Path dir;
+    private final long maxBytes;
+    private final long maxObjectBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    // 접근 순서로 정렬 (가장 오래 사용하지 않은 항목이 맨 앞)
+    private final LinkedHashMap<String, CachedMedia> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, CompletableFuture<Optional<CachedMedia>>> loading = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public MediaCache(ObjectStorage objectStorage,
+                      MeterRegistry meterRegistry,
+                      @Value("${choplan.media.cache-dir:./media-cache}") String dir,
+                      @Value("${choplan.media.cache-max-bytes:1073741824}") long maxBytes,
+                      @Value("${choplan.media.cache-max-object-bytes:67108864}") long maxObjectBytes)
+            throws IOException {
+        this.objectStorage = objectStorage;
+        this.dir = Files.createDirectories(Path.of(dir)).toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.maxObjectBytes = Math.min(maxObjectBytes, maxBytes);
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.bypasses = requestCounter(meterRegistry, "bypass");
+        Gauge.builder(SIZE_GAUGE, this, MediaCache::getTotalBytes)
+                .description("미디어 디스크 캐시 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        clear();
+    }
+
+    /**
+     * 객체를 찾습니다. 캐시에 없으면 저장소에서 받아 캐시에 넣고, 저장소에도 없으면 empty
+     * - 캐시하지 않는 큰 객체는 file 이 null 이며 open 으로 읽어야 함
+     */
+    public Optional<CachedMedia> find(String key) throws IOException {
+        CachedMedia cached = lookup(key);
+        if (cached != null && !Files.exists(cached.file())) {
+            // 다른 요청의 evict 와 겹쳐 파일만 지워진 경우 다시 받음
+            evict(key);
+            cached = null;
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<Optional<CachedMedia>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedMedia>> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            // 다른 요청이 받는 중이면 끝나기를 기다렸다가 같은 결과를 사용
+            return await(inFlight);
+        }
+        try {
+            Optional<CachedMedia> loaded = load(key);
+            mine.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    /**
+     * 캐시하지 않은 객체의 일부를 저장소에서 읽습니다. 스트림은 호출자가 닫습니다.
+     */
+    public InputStream open(String key, long offset, long length) throws IOException {
+        return objectStorage.open(key, offset, length);
+    }
+
+    /**
+     * 캐시에서 지웁니다 (객체가 삭제된 경우)
+     */
+    public void evict(String key) {
+        CachedMedia removed;
+        synchronized (entries) {
+            removed = entries.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file());
+        }
+    }
+
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private CachedMedia lookup(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private Optional<CachedMedia> load(String key) throws IOException {
+        Optional<StoredObject> stored = objectStorage.stat(key);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        long size = stored.get().size();
+        String contentType = contentTypeOf(key, stored.get().contentType());
+        String eTag = eTagOf(key, size);
+        if (size > maxObjectBytes) {
+            bypasses.increment();
+            return Optional.of(new CachedMedia(key, null, size, contentType, eTag));
+        }
+
+        misses.increment();
+        Path target = dir.resolve(fileNameOf(key));
+        Path temp = Files.createTempFile(dir, DOWNLOAD_PREFIX, ".tmp");
+        try (InputStream content = objectStorage.open(key, 0, size)) {
+            long written = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            if (written != size) {
+                throw new IOException("받은 크기가 일치하지 않습니다. (예상 " + size + " / 실제 " + written + ")");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        CachedMedia media = new CachedMedia(key, target, size, contentType, eTag);
+        add(media);
+        return Optional.of(media);
+    }
+
+    private void add(CachedMedia media) {
+        List<CachedMedia> evicted = new ArrayList<>();
+        synchronized (entries) {
+            CachedMedia previous = entries.put(media.key(), media);
+            totalBytes += media.size() - (previous != null ? previous.size() : 0);
+            Iterator<CachedMedia> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                CachedMedia candidate = eldest.next();
+                if (candidate == media) {
+                    break;
+                }
+                eldest.remove();
+                totalBytes -= candidate.size();
+                evicted.add(candidate);
+            }
+        }
+        // 전송 중인 파일을 지워도 이미 연 파일은 끝까지 읽을 수 있음 (방금 사용한 항목은 맨 뒤라 곧바로 지워지지 않음)
+        evicted.forEach(entry -> deleteQuietly(entry.file()));
+    }
+
+    private void clear() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(Files::isRegularFile).forEach(this::deleteQuietly);
+        }
+    }
+
+    private static Optional<CachedMedia> await(CompletableFuture<Optional<CachedMedia>> inFlight)
+            throws IOException {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static String contentTypeOf(String key, String stored) {
+        if (stored != null && !stored.isBlank()) {
+            return stored;
+        }
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    // 내용 해시로 된 키는 해시를, 그 외에는 키와 크기로 만든 값을 ETag 로 사용
+    private static String eTagOf(String key, long size) {
+        String contentHash = contentHashOf(key);
+        return "\"" + (contentHash != null ? contentHash : sha256(key + ":" + size).substring(0, 32)) + "\"";
+    }
+
+    /**
+     * 내용 해시(SHA-256 16진수)로 된 키면 그 해시, 아니면 null (내용이 바뀌지 않는 키인지 판단)
+     */
+    public static String contentHashOf(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        String hash = dot < 0 ? name : name.substring(0, dot);
+        return hash.length() == 64 && hash.chars().allMatch(c -> Character.digit(c, 16) >= 0) ? hash : null;
+    }
+
+    // 키에 경로 구분자가 있으므로 파일 이름은 키의 해시로 만듦
+    private static String fileNameOf(String key) {
+        return sha256(key);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUEST_COUNTER)
+                .description("미디어 캐시 조회 수 (hit / miss / bypass)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("미디어 캐시 파일 삭제 실패 {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 객체 (file 이 null 이면 캐시하지 않은 큰 객체)
+     */
+    public record CachedMedia(String key, Path file, long size, String contentType, String eTag) {
+    }
+}
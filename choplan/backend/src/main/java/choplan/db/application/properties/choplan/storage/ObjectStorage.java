@@ -0,0 +1,50 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소
+ * - choplan.storage.type=s3 (기본): 애플리케이션 전체가 공유하는 S3Client 하나로 저장
+ * - choplan.storage.type=local: 로컬 디스크에 저장 (오프라인 부하 테스트 / 개발용)
+ */
+public interface ObjectStorage {
+
+    /**
+     * 저장소 종류 (storage.upload 지표의 backend 태그)
+     */
+    String getBackend();
+
+    /**
+     * 객체를 저장하고 접근 URL 을 반환합니다. content 스트림은 호출자가 닫습니다.
+     */
+    String put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 저장된 객체의 접근 URL
+     */
+    String getUrl(String key);
+
+    /**
+     * 객체를 삭제합니다. 없는 키는 무시합니다.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 key 에 직접 PUT 할 수 있는 서명된 요청을 만듭니다.
+     * 콘텐츠 타입과 크기가 서명에 포함되므로 다른 값으로는 올릴 수 없습니다.
+     */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl);
+
+    /**
+     * 객체의 크기 / 콘텐츠 타입. 없으면 빈 값을 반환합니다.
+     */
+    Optional<StoredObject> stat(String key) throws IOException;
+
+    /**
+     * 객체의 [offset, offset + length) 범위를 읽습니다. 스트림은 호출자가 닫습니다.
+     */
+    InputStream open(String key, long offset, long length) throws IOException;
+}
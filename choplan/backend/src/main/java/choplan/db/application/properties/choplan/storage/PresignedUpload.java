@@ -0,0 +1,11 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 올릴 때 사용할 서명된 요청
+ * - headers 는 서명에 포함되어 있으므로 그대로 보내야 함 (Content-Type, Content-Length 등)
+ */
+public record PresignedUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,223 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * S3 저장소 (공유 S3Client 사용, config/StorageConfig)
+ * - 작은 객체: 입력 스트림을 그대로 PutObject 본문으로 전달 (SDK 재시도용 버퍼 외에는 힙에 올리지 않음)
+ * - multipart-threshold 보다 크거나 길이를 모르는 객체: part-size 버퍼 하나를 재사용하는 멀티파트 업로드
+ *   → 업로드 1건이 쓰는 힙은 파일 크기와 무관하게 part-size 이하
+ * - 직접 업로드: Content-Type / Content-Length 를 서명에 포함한 PUT URL 발급 (본문은 서버를 거치지 않음)
+ * - public-base-url 을 지정하면 접근 URL 이 S3 가 아닌 그 경로를 가리킴 (예: /media → MediaController 캐시로 제공)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "choplan.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final String region;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final String publicBaseUrl;
+
+    public S3ObjectStorage(S3Client s3Client, S3Presigner s3Presigner, String bucket, String region,
+                           long multipartThreshold, int partSize) {
+        this(s3Client, s3Presigner, bucket, region, multipartThreshold, partSize, "");
+    }
+
+    @Autowired
+    public S3ObjectStorage(S3Client s3Client,
+                           S3Presigner s3Presigner,
+                           @Value("${AWS_S3_BUCKET}") String bucket,
+                           @Value("${AWS_REGION}") String region,
+                           @Value("${choplan.storage.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                           @Value("${choplan.storage.s3.part-size-bytes:8388608}") int partSize,
+                           @Value("${choplan.storage.s3.public-base-url:}") String publicBaseUrl) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("멀티파트 파트 크기는 5MB 이상이어야 합니다: " + partSize);
+        }
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.region = region;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+    }
+
+    @Override
+    public String getBackend() {
+        return "s3";
+    }
+
+    @Override
+    public String put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        if (contentLength >= 0 && contentLength <= multipartThreshold) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(contentLength)
+                            .build(),
+                    RequestBody.fromInputStream(content, contentLength));
+        } else {
+            putMultipart(key, content, contentType);
+        }
+        return getUrl(key);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        if (!publicBaseUrl.isEmpty()) {
+            return publicBaseUrl + "/" + key;
+        }
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build());
+
+        // Host 는 브라우저가 직접 채우므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), "PUT", headers, presigned.expiration());
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StoredObject(head.contentLength(), head.contentType()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) {
+        // 범위 요청이므로 다 읽지 않고 닫아도 객체 전체를 받지 않음
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build());
+    }
+
+    private void putMultipart(String key, InputStream content, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int read;
+            // 빈 스트림이어도 S3 는 파트가 최소 1개 필요하므로 첫 파트는 항상 전송
+            while ((read = content.readNBytes(buffer, 0, partSize)) > 0 || parts.isEmpty()) {
+                int partNumber = parts.size() + 1;
+                int length = read;
+                // 버퍼를 복사하지 않고 감싸서 전달 (재시도 시 같은 범위를 다시 읽음)
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length),
+                                length, contentType != null ? contentType : "application/octet-stream"))
+                        .eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                if (length < partSize) {
+                    break;
+                }
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    // 실패한 멀티파트 업로드의 파트는 중단하지 않으면 버킷에 남아 과금되므로 정리
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("멀티파트 업로드 중단 실패 key={} uploadId={}: {}", key, uploadId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package choplan.db.application.properties.choplan.storage;
+
+/**
+ * 저장된 객체의 메타데이터 (contentType 은 저장소가 보관하지 않으면 null)
+ */
+public record StoredObject(long size, String contentType) {
+}
@@ -0,0 +1,25 @@
+-- 리뷰 이미지와 축소본(썸네일 / 중간 크기)
+-- 원본은 업로드 요청에서 저장하고, 축소본은 백그라운드에서 만든 뒤 READY 로 표시
+-- PROCESSING 으로 오래 남은 행(재시작, 작업 대기열 초과)은 주기적으로 원본을 다시 읽어 처리
+
+CREATE TABLE IF NOT EXISTS review_image (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT       NOT NULL,
+    content_hash  CHAR(64)     NOT NULL, -- 원본 내용의 SHA-256 (같은 사진이면 축소본을 다시 만들지 않음)
+    original_key  VARCHAR(200) NOT NULL,
+    content_type  VARCHAR(100) NOT NULL,
+    size          BIGINT       NOT NULL,
+    width         INT          NOT NULL,
+    height        INT          NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    attempts      INT          NOT NULL,
+    thumbnail_key VARCHAR(200),
+    medium_key    VARCHAR(200),
+    last_error    VARCHAR(500),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_review_image_status_updated ON review_image (status, updated_at);
+CREATE INDEX idx_review_image_hash_status ON review_image (content_hash, status);
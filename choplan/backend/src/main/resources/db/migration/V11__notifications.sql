@@ -0,0 +1,28 @@
+-- 사용자 알림 (예약 상태 변경 시 예약 트랜잭션 안에서 기록)
+-- ID 는 pooled 테이블 생성기로 할당 (일괄 상태 변경 시 알림 INSERT 를 JDBC 배치로 묶기 위함, V4 참고)
+
+CREATE TABLE IF NOT EXISTS notification (
+    id             BIGINT       NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    type           VARCHAR(40)  NOT NULL,
+    title          VARCHAR(100) NOT NULL,
+    message        VARCHAR(500) NOT NULL,
+    reservation_id BIGINT,
+    is_read        BOOLEAN      NOT NULL,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 전체 목록 (최신순) / 읽지 않은 알림 목록, 모두 읽음 처리, 개수 재계산
+CREATE INDEX idx_notification_user ON notification (user_id, id);
+CREATE INDEX idx_notification_user_read ON notification (user_id, is_read, id);
+
+INSERT INTO id_generators (sequence_name, next_val) VALUES ('notification', 51);
+
+-- 사용자별 읽지 않은 알림 수 (알림 추가 / 읽음 / 삭제와 같은 트랜잭션에서 증감, 주기적으로 재계산)
+CREATE TABLE IF NOT EXISTS notification_counter (
+    user_id      BIGINT NOT NULL,
+    unread_count INT    NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (user_id)
+);
@@ -0,0 +1,11 @@
+-- 점주 사업자등록증 업로드 작업의 서류 내용을 공유 DB 에 보관
+-- 기존에는 요청을 받은 서버의 로컬 스풀 디렉터리에 두어 다른 서버(또는 교체된 컨테이너)가 작업을 선점하면 파일이 없어 실패했음
+-- 작업 행과 분리해 두어 대기 작업 폴링이 서류 내용을 읽지 않으며, 업로드가 끝나면 행을 지움
+
+CREATE TABLE IF NOT EXISTS document_upload_content (
+    upload_id BIGINT     NOT NULL,
+    content   MEDIUMBLOB NOT NULL,
+    PRIMARY KEY (upload_id)
+);
+
+ALTER TABLE document_upload_outbox DROP COLUMN spool_file;
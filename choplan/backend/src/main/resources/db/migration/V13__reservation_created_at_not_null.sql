@@ -0,0 +1,7 @@
+-- 예약 목록 키셋 페이지네이션이 (created_at, id) 순서에 의존하므로 created_at 을 NULL 없이 고정
+-- NULL 이 섞여 있으면 정렬 위치가 DB 마다 달라지고 커서로 표현할 수 없어 해당 행이 목록에서 빠짐
+-- 컬럼 정의 변경 구문(MODIFY / ALTER COLUMN)은 MySQL 과 테스트용 H2 가 서로 달라 양쪽에서 동작하는 CHECK 제약으로 막음
+
+UPDATE demo_reservations SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP(6)) WHERE created_at IS NULL;
+
+ALTER TABLE demo_reservations ADD CONSTRAINT chk_reservation_created_at_not_null CHECK (created_at IS NOT NULL);
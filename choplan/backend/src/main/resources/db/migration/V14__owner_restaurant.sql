@@ -0,0 +1,5 @@
+-- 점주가 운영하는 매장 ID (OWNER 전용)
+-- 매장 예약 이벤트 구독 시 본인 매장인지 확인하는 데 사용하며, 매장이 연결되지 않은 점주는 매장 이벤트를 구독할 수 없음
+-- 조회는 항상 user_id(기본 키)로 하므로 별도 인덱스 없음
+
+ALTER TABLE users ADD COLUMN restaurant_id BIGINT;
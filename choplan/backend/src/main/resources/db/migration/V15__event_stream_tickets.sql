@@ -0,0 +1,13 @@
+-- 실시간 이벤트(SSE) 구독 티켓
+-- EventSource 는 헤더를 지정할 수 없어 URL 로 자격 증명을 넘겨야 하므로, JWT 대신 수명이 짧은 일회용 티켓을 사용
+-- 티켓 원문 대신 SHA-256 해시만 저장하고, 발급한 서버와 구독을 받는 서버가 달라도 사용할 수 있도록 공유 DB 에 둠
+
+CREATE TABLE IF NOT EXISTS event_stream_tickets (
+    ticket_hash   CHAR(64) NOT NULL,
+    user_id       BIGINT   NOT NULL,
+    restaurant_id BIGINT,
+    expires_at    BIGINT   NOT NULL, -- epoch millis
+    PRIMARY KEY (ticket_hash)
+);
+
+CREATE INDEX idx_event_stream_tickets_expires_at ON event_stream_tickets (expires_at);
@@ -0,0 +1,8 @@
+-- 점주 사업자등록증 업로드 작업의 서류를 DB 대신 공유 저장소의 임시(staging) 객체로 보관
+-- V12 는 서류 내용을 MEDIUMBLOB 으로 DB 에 두어 큰 파일이 요청 메모리 / 트랜잭션 / 복제 로그를 모두 거쳤음
+-- 작업 행에는 임시 객체 키만 두고, 워커가 임시 객체를 스트리밍으로 읽어 최종 키로 옮긴 뒤 지움
+-- (이 마이그레이션 전에 남은 대기 작업은 임시 객체가 없으므로 재시도 없이 FAILED 로 처리됨)
+
+ALTER TABLE document_upload_outbox ADD COLUMN staging_key VARCHAR(500) NULL;
+
+DROP TABLE IF EXISTS document_upload_content;
@@ -0,0 +1,48 @@
+-- 기준 스키마: 기존 JPA 엔티티(Users, Reservation) 기준
+-- 이미 ddl-auto 로 생성된 DB 에서는 IF NOT EXISTS 로 건너뜀
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    email                     VARCHAR(150) NOT NULL,
+    password_hash             VARCHAR(255) NOT NULL,
+    real_name                 VARCHAR(50)  NOT NULL,
+    phone                     VARCHAR(20),
+    nickname                  VARCHAR(50),
+    business_registration_doc VARCHAR(500),
+    store_name                VARCHAR(100),
+    store_phone               VARCHAR(20),
+    road_address              VARCHAR(255),
+    detail_address            VARCHAR(255),
+    role                      VARCHAR(20)  NOT NULL,
+    customer_status           VARCHAR(20)  NOT NULL,
+    owner_status              VARCHAR(20)  NOT NULL,
+    created_at                DATETIME(6)  NOT NULL,
+    updated_at                DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_phone UNIQUE (phone)
+);
+
+CREATE TABLE IF NOT EXISTS demo_reservations (
+    id                 BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT        NOT NULL,
+    restaurant_id      BIGINT        NOT NULL,
+    restaurant_name    VARCHAR(255),
+    user_name          VARCHAR(255)  NOT NULL,
+    user_phone         VARCHAR(255)  NOT NULL,
+    user_email         VARCHAR(255),
+    reservation_date   DATE          NOT NULL,
+    reservation_time   TIME(6)       NOT NULL,
+    guests             INT           NOT NULL,
+    special_requests   VARCHAR(1000),
+    status             VARCHAR(20)   NOT NULL,
+    rejection_reason   VARCHAR(500),
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    visit_status       VARCHAR(20),
+    visit_confirmed_at DATETIME(6),
+    no_show_reason     VARCHAR(500),
+    blacklist_reason   VARCHAR(500),
+    is_blacklisted     BOOLEAN,
+    PRIMARY KEY (id)
+);
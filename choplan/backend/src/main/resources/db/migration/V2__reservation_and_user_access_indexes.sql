@@ -0,0 +1,13 @@
+-- 리포지토리 조회 조건 + 정렬(created_at DESC, id DESC)에 맞춘 복합 인덱스
+-- filesort 없이 인덱스 순서대로 읽고, 커서 페이지 조회도 인덱스 범위 스캔으로 처리
+
+CREATE INDEX idx_reservation_user_created ON demo_reservations (user_id, created_at, id);
+CREATE INDEX idx_reservation_restaurant_created ON demo_reservations (restaurant_id, created_at, id);
+CREATE INDEX idx_reservation_visit_status_created ON demo_reservations (visit_status, created_at, id);
+CREATE INDEX idx_reservation_blacklisted_created ON demo_reservations (is_blacklisted, created_at, id);
+CREATE INDEX idx_reservation_status_created ON demo_reservations (status, created_at, id);
+CREATE INDEX idx_reservation_created ON demo_reservations (created_at, id);
+
+-- 관리자 회원 목록 (역할 / 역할+상태별 조회)
+CREATE INDEX idx_users_role_customer_status ON users (role, customer_status);
+CREATE INDEX idx_users_role_owner_status ON users (role, owner_status);
@@ -0,0 +1,15 @@
+-- 예약 시간대별 좌석 재고 (restaurant_id, reservation_date, reservation_time 당 1행)
+-- 좌석 차감/반환은 조건부 UPDATE 한 번으로 처리하므로 여러 서버가 같은 DB 를 써도 초과 예약되지 않음
+
+CREATE TABLE IF NOT EXISTS reservation_slots (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    restaurant_id    BIGINT      NOT NULL,
+    reservation_date DATE        NOT NULL,
+    reservation_time TIME(6)     NOT NULL,
+    capacity         INT         NOT NULL,
+    remaining_seats  INT         NOT NULL,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slot UNIQUE (restaurant_id, reservation_date, reservation_time)
+);
@@ -0,0 +1,16 @@
+-- users / demo_reservations ID 를 IDENTITY 대신 pooled 테이블 생성기로 할당
+-- IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate 가 JDBC 배치를 끄고 건마다 왕복함
+-- next_val 은 마지막으로 할당된 블록의 최댓값 (allocationSize = 50, 엔티티 @TableGenerator 와 동일)
+-- 기존 행과 겹치지 않도록 현재 최대 ID + 블록 크기 + 1 에서 시작
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(user_id), 0) + 51 FROM users;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'demo_reservations', COALESCE(MAX(id), 0) + 51 FROM demo_reservations;
@@ -0,0 +1,10 @@
+-- 사용자별 토큰 무효화 시각 (이 시각 이전에 발급된 액세스 / 리프레시 토큰은 거부)
+-- 서버 시작 시 최근 항목을 메모리로 읽어오고, 여러 서버는 revoked_before 범위 조회로 변경분을 동기화
+
+CREATE TABLE IF NOT EXISTS token_revocations (
+    user_id        BIGINT NOT NULL,
+    revoked_before BIGINT NOT NULL, -- epoch millis
+    PRIMARY KEY (user_id)
+);
+
+CREATE INDEX idx_token_revocations_revoked_before ON token_revocations (revoked_before);
@@ -0,0 +1,9 @@
+-- 로그인 조회용 정규화 이메일 (trim + 소문자) 과 커버링 인덱스
+-- 대소문자 구분 없이 조회하면서도 LOWER(email) 같은 함수 조건 없이 인덱스만 읽고 끝남 (users 행 접근 없음)
+
+ALTER TABLE users ADD COLUMN email_normalized VARCHAR(150) NOT NULL DEFAULT '';
+
+UPDATE users SET email_normalized = LOWER(TRIM(email));
+
+CREATE UNIQUE INDEX uk_users_email_normalized ON users (email_normalized);
+CREATE INDEX idx_users_auth ON users (email_normalized, email, password_hash, role, customer_status, owner_status);
@@ -0,0 +1,21 @@
+-- 점주 사업자등록증 업로드 작업 (트랜잭셔널 아웃박스)
+-- 회원가입 트랜잭션에서 users 행(PENDING_DOCUMENT)과 함께 기록하고, 백그라운드 워커가 저장소에 올린 뒤 DONE 으로 표시
+-- 워커는 next_attempt_at(epoch millis)이 지난 PENDING 행을 선점하므로 서버가 재시작되어도 남은 작업을 이어서 처리
+
+CREATE TABLE IF NOT EXISTS document_upload_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    spool_file      VARCHAR(255) NOT NULL, -- 업로드 전까지 서류를 보관하는 스풀 디렉터리 내 파일명
+    object_key      VARCHAR(500) NOT NULL,
+    content_type    VARCHAR(100) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at BIGINT       NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_document_upload_outbox_status_next ON document_upload_outbox (status, next_attempt_at);
+CREATE INDEX idx_document_upload_outbox_user ON document_upload_outbox (user_id);
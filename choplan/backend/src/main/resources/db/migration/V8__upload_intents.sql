@@ -0,0 +1,19 @@
+-- 직접 업로드 요청 (클라이언트가 서명된 URL 로 저장소에 바로 올린 뒤 완료를 알림)
+-- 완료 시 실제 객체의 크기 / 콘텐츠 타입을 확인하고 나서야 users 등에 연결
+-- 만료될 때까지 완료되지 않은 요청은 주기적으로 EXPIRED 처리하고 올라온 객체를 삭제
+
+CREATE TABLE IF NOT EXISTS upload_intent (
+    id             VARCHAR(36)  NOT NULL, -- 클라이언트에 전달하는 추측 불가능한 식별자 (UUID)
+    user_id        BIGINT       NOT NULL,
+    purpose        VARCHAR(30)  NOT NULL,
+    object_key     VARCHAR(500) NOT NULL,
+    content_type   VARCHAR(100) NOT NULL,
+    content_length BIGINT       NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    expires_at     BIGINT       NOT NULL, -- epoch millis
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_upload_intent_status_expires ON upload_intent (status, expires_at);
@@ -0,0 +1,18 @@
+-- 내용 주소 기반 저장 객체 (키 = 용도별 접두사 / 내용의 SHA-256)
+-- 같은 내용은 한 번만 저장하고 ref_count 로 참조 수를 관리
+-- 참조가 0 이 된 시각(unreferenced_at, epoch millis)부터 유예 기간이 지나면 일괄 삭제
+-- 삭제 중인 행은 ref_count = -1 로 표시해 그 사이에 새 참조가 붙지 않게 함
+
+CREATE TABLE IF NOT EXISTS content_blob (
+    object_key      VARCHAR(200) NOT NULL,
+    content_hash    CHAR(64)     NOT NULL,
+    size            BIGINT       NOT NULL,
+    content_type    VARCHAR(100),
+    ref_count       INT          NOT NULL,
+    unreferenced_at BIGINT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (object_key)
+);
+
+CREATE INDEX idx_content_blob_ref_unreferenced ON content_blob (ref_count, unreferenced_at);
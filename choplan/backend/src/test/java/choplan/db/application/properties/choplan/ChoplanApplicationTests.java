@@ -2,8 +2,11 @@ package choplan.db.application.properties.choplan;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@ActiveProfiles("test")
+// 클라우드 자격 증명 / 환경 변수 없이 전체 컨텍스트를 띄우도록 로컬 파일 저장소 사용
+@SpringBootTest(properties = {"choplan.storage.type=local", "choplan.storage.local.root=build/test-storage"})
 class ChoplanApplicationTests {
 
 	@Test
@@ -0,0 +1,65 @@
+package choplan.db.application.properties.choplan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.service.ReservationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 서비스 타이머 / 요청별 Hibernate 지표가 실제로 기록되는지 검증
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"choplan.storage.type=local", "choplan.storage.local.root=build/test-storage"})
+class MetricsConfigTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RequestMetricsFilter requestMetricsFilter;
+
+    @Test
+    void serviceMethodsAreTimed() {
+        reservationService.getAllReservations(null, 10);
+
+        Timer timer = meterRegistry.find("choplan.service")
+                .tag("class", ReservationService.class.getName())
+                .tag("method", "getAllReservations")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void statementsAndEntityLoadsAreRecordedPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/metrics-test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/metrics-test");
+
+        requestMetricsFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> reservationRepository.findAll());
+
+        DistributionSummary statements = meterRegistry.find("hibernate.request.statements")
+                .tag("uri", "/metrics-test").summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find("hibernate.request.entity.loads").tag("uri", "/metrics-test").summary())
+                .isNotNull();
+    }
+}
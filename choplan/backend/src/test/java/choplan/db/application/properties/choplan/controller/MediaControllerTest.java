@@ -0,0 +1,113 @@
+package choplan.db.application.properties.choplan.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import choplan.db.application.properties.choplan.storage.MediaCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MediaControllerTest {
+
+    private static final String KEY = "review-images/" + "b".repeat(64) + ".png";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path root;
+
+    private MediaController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.resolve("storage").toString(), "/media");
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png");
+        controller = new MediaController(new MediaCache(storage, new SimpleMeterRegistry(),
+                root.resolve("cache").toString(), 1024 * 1024, 1024 * 1024));
+    }
+
+    @Test
+    void servesWholeObjectWithValidators() throws IOException {
+        MockHttpServletResponse response = serve(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + "b".repeat(64) + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+
+        MockHttpServletRequest conditional = get();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse notModified = serve(conditional);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void servesSingleByteRanges() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse partial = serve(request);
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getContentAsString()).isEqualTo("2345");
+        assertThat(partial.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+
+        MockHttpServletRequest suffix = get();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        assertThat(serve(suffix).getContentAsString()).isEqualTo("789");
+
+        MockHttpServletRequest outside = get();
+        outside.addHeader(HttpHeaders.RANGE, "bytes=20-");
+        MockHttpServletResponse unsatisfiable = serve(outside);
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+
+        // 다른 버전에 대한 구간 요청이면 전체를 보냄
+        MockHttpServletRequest stale = get();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+        assertThat(serve(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void handsCachedFileToContainerSendfile() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute(MediaController.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat((String) request.getAttribute(MediaController.SENDFILE_FILENAME))
+                .startsWith(root.resolve("cache").toAbsolutePath().toString());
+        assertThat(request.getAttribute(MediaController.SENDFILE_START)).isEqualTo(4L);
+        assertThat(request.getAttribute(MediaController.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    @Test
+    void missingObjectIsNotFound() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/review-images/missing.png");
+        assertThat(serve(request).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/media/" + KEY);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request, response);
+        return response;
+    }
+}
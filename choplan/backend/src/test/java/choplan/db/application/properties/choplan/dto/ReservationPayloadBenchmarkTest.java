@@ -0,0 +1,85 @@
+package choplan.db.application.properties.choplan.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import choplan.db.application.properties.choplan.entity.Reservation;
+
+/**
+ * 예약 목록 응답 크기 / 직렬화 시간 비교: 엔티티 vs ReservationSummary (./gradlew benchmark 로만 실행)
+ */
+@Tag("benchmark")
+class ReservationPayloadBenchmarkTest {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void listPayload() throws Exception {
+        List<Reservation> entities = new ArrayList<>();
+        List<ReservationSummary> summaries = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Reservation reservation = reservation(id);
+            entities.add(reservation);
+            summaries.add(new ReservationSummary(reservation.getId(), reservation.getUserId(),
+                    reservation.getRestaurantId(), reservation.getRestaurantName(), reservation.getUserName(),
+                    reservation.getUserPhone(), reservation.getReservationDate(), reservation.getReservationTime(),
+                    reservation.getGuests(), reservation.getStatus(), reservation.getVisitStatus(),
+                    reservation.getIsBlacklisted(), reservation.getCreatedAt()));
+        }
+
+        measure("entity", entities);
+        measure("summary", summaries);
+    }
+
+    private void measure(String name, Object page) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            objectMapper.writeValueAsBytes(page);
+        }
+        long started = System.nanoTime();
+        int bytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bytes = objectMapper.writeValueAsBytes(page).length;
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / MEASURED_ROUNDS;
+        System.out.printf("[benchmark] %s page (%d rows): %,d bytes, %.1f us/serialization%n",
+                name, PAGE_SIZE, bytes, micros);
+    }
+
+    private Reservation reservation(long id) {
+        return Reservation.builder()
+                .id(id)
+                .userId(id % 40)
+                .restaurantId(7L)
+                .restaurantName("초플랜 강남점")
+                .userName("예약자" + id)
+                .userPhone("01012345678")
+                .userEmail("user" + id + "@choplan.com")
+                .reservationDate(LocalDate.of(2030, 1, 1))
+                .reservationTime(LocalTime.of(19, 0))
+                .guests(4)
+                .specialRequests("창가 자리 부탁드립니다. 아이 의자 2개 필요하고 생일 케이크를 가져갈 예정입니다.".repeat(4))
+                .status(Reservation.ReservationStatus.APPROVED)
+                .rejectionReason(null)
+                .visitStatus(Reservation.VisitStatus.NO_SHOW)
+                .noShowReason("연락 없이 방문하지 않음")
+                .blacklistReason("반복 노쇼로 인한 블랙리스트 등록")
+                .isBlacklisted(true)
+                .visitConfirmedAt(LocalDateTime.of(2030, 1, 1, 19, 30))
+                .createdAt(LocalDateTime.of(2029, 12, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2029, 12, 2, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,259 @@
+package choplan.db.application.properties.choplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.ReviewImage;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.entity.UserRole;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검증
+ * - 모든 조회 메서드가 실행한 SQL 을 수집해 EXPLAIN 하고, 전체 테이블 스캔이 있으면 실패
+ * - 스키마는 Flyway 마이그레이션(db/migration)으로 생성되므로 인덱스 누락도 함께 검출됨
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "choplan.db.application.properties.choplan.repository.SqlCaptureInspector")
+class RepositoryQueryPlanTest {
+
+    private static final String FULL_SCAN_MARKER = ".tableScan";
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private EventStreamTicketRepository eventStreamTicketRepository;
+
+    @Autowired
+    private DocumentUploadRepository documentUploadRepository;
+
+    @Autowired
+    private UploadIntentRepository uploadIntentRepository;
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationCounterRepository notificationCounterRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptureInspector.drain();
+    }
+
+    @Test
+    void reservationQueriesUseIndexes() throws SQLException {
+        ScrollPosition next = ScrollPosition.forward(Map.of("createdAt", LocalDateTime.now(), "id", 1L));
+        Limit limit = Limit.of(20);
+
+        reservationRepository.findByUserId(1L);
+        reservationRepository.findByRestaurantId(1L);
+        reservationRepository.findByStatus(Reservation.ReservationStatus.PENDING);
+        reservationRepository.findByUserIdOrderByCreatedAtDesc(1L);
+        reservationRepository.findByRestaurantIdOrderByCreatedAtDesc(1L);
+        reservationRepository.findByVisitStatus(Reservation.VisitStatus.NO_SHOW);
+        reservationRepository.findByVisitStatusOrderByCreatedAtDesc(Reservation.VisitStatus.NO_SHOW);
+        reservationRepository.findByIsBlacklistedTrue();
+        reservationRepository.findByIsBlacklistedTrueOrderByCreatedAtDesc();
+        reservationRepository.findUserReservationsWithQuery(1L);
+
+        for (ScrollPosition position : List.of(ScrollPosition.keyset(), next)) {
+            reservationRepository.findByUserIdOrderByCreatedAtDescIdDesc(1L, position, limit);
+            reservationRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(1L, position, limit);
+            reservationRepository.findByVisitStatusOrderByCreatedAtDescIdDesc(Reservation.VisitStatus.NO_SHOW, position, limit);
+            reservationRepository.findByIsBlacklistedTrueOrderByCreatedAtDescIdDesc(position, limit);
+            reservationRepository.findAllByOrderByCreatedAtDescIdDesc(position, limit);
+        }
+
+        List<Reservation.ReservationStatus> statuses = List.of(Reservation.ReservationStatus.APPROVED);
+        List<Reservation.VisitStatus> visitStatuses = List.of(Reservation.VisitStatus.PENDING);
+        List<Long> ids = List.of(1L, 2L, 3L);
+        reservationRepository.findDetailById(1L);
+        reservationRepository.findStatesByIdIn(ids);
+        reservationRepository.transitionStatus(ids, statuses, Reservation.ReservationStatus.CANCELLED, null);
+        reservationRepository.markVisited(ids, statuses, visitStatuses);
+        reservationRepository.markNoShow(ids, statuses, visitStatuses, "사유");
+        reservationRepository.markBlacklisted(ids, statuses, visitStatuses, "사유");
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void bulkStateLookupLocksRows() {
+        reservationRepository.findStatesByIdIn(List.of(1L, 2L, 3L));
+
+        // 일괄 전이는 조회한 상태와 UPDATE 대상이 어긋나지 않도록 행을 잠가 조회해야 함
+        assertThat(SqlCaptureInspector.drain())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).containsIgnoringCase("for update"));
+    }
+
+    @Test
+    void userQueriesUseIndexes() throws SQLException {
+        userRepository.findByEmail("user@choplan.com");
+        userRepository.findAuthByEmailNormalized("user@choplan.com");
+        userRepository.existsByEmailNormalized("user@choplan.com");
+        userRepository.existsByUserIdAndRestaurantId(1L, 1L);
+        userRepository.findNormalizedEmailsIn(List.of("a@choplan.com", "b@choplan.com"));
+        userRepository.findAllByRole(UserRole.OWNER);
+        userRepository.findAllByRoleAndCustomerStatus(UserRole.CUSTOMER, CustomerStatus.ACTIVE);
+        userRepository.findAllByRoleAndOwnerStatus(UserRole.OWNER, OwnerStatus.PENDING);
+        userRepository.findNamesByUserIdIn(List.of(1L, 2L, 3L));
+        userRepository.findStatusByUserId(1L);
+        userRepository.updatePasswordHash(1L, "old", "new");
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void slotQueriesUseIndexes() throws SQLException {
+        LocalDate date = LocalDate.now();
+        LocalTime time = LocalTime.NOON;
+
+        slotRepository.existsByRestaurantIdAndReservationDateAndReservationTime(1L, date, time);
+        slotRepository.takeSeats(1L, date, time, 2);
+        slotRepository.releaseSeats(1L, date, time, 2);
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void tokenRevocationQueriesUseIndexes() throws SQLException {
+        tokenRevocationRepository.findById(1L);
+        tokenRevocationRepository.findByRevokedBeforeGreaterThanEqual(System.currentTimeMillis());
+        tokenRevocationRepository.deleteByRevokedBeforeLessThan(System.currentTimeMillis());
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void eventStreamTicketQueriesUseIndexes() throws SQLException {
+        eventStreamTicketRepository.findById("hash");
+        eventStreamTicketRepository.consume("hash");
+        eventStreamTicketRepository.deleteExpired(System.currentTimeMillis());
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void documentUploadQueriesUseIndexes() throws SQLException {
+        long now = System.currentTimeMillis();
+        documentUploadRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                DocumentUpload.Status.PENDING, now, Limit.of(8));
+        documentUploadRepository.claim(1L, DocumentUpload.Status.PENDING, now, now + 1000);
+        documentUploadRepository.findByUserIdIn(List.of(1L, 2L, 3L));
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void uploadIntentQueriesUseIndexes() throws SQLException {
+        uploadIntentRepository.findById("intent");
+        uploadIntentRepository.findByStatusAndExpiresAtLessThan(UploadIntent.Status.ISSUED,
+                System.currentTimeMillis(), Limit.of(100));
+        uploadIntentRepository.transition("intent", UploadIntent.Status.ISSUED, UploadIntent.Status.COMPLETED);
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void contentBlobQueriesUseIndexes() throws SQLException {
+        long now = System.currentTimeMillis();
+        contentBlobRepository.existsByObjectKeyAndRefCountGreaterThanEqual("business-docs/a.pdf", 0);
+        contentBlobRepository.incrementReference("business-docs/a.pdf");
+        contentBlobRepository.decrementReference("business-docs/a.pdf", now);
+        contentBlobRepository.findByRefCountAndUnreferencedAtLessThan(0, now, Limit.of(100));
+        contentBlobRepository.markDeleting("business-docs/a.pdf", now);
+        contentBlobRepository.deleteMarked("business-docs/a.pdf");
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void reviewImageQueriesUseIndexes() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        reviewImageRepository.findFirstByContentHashAndStatus("a".repeat(64), ReviewImage.Status.READY);
+        reviewImageRepository.findByStatusAndUpdatedAtBefore(ReviewImage.Status.PROCESSING, now, Limit.of(20));
+        reviewImageRepository.claim(1L, ReviewImage.Status.PROCESSING, now, now.plusSeconds(1));
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    @Test
+    void notificationQueriesUseIndexes() throws SQLException {
+        notificationRepository.findByUserIdOrderByIdDesc(1L, Limit.of(50));
+        notificationRepository.findByUserIdAndReadOrderByIdDesc(1L, false, Limit.of(50));
+        notificationRepository.markRead(1L, 1L);
+        notificationRepository.markAllRead(1L);
+        notificationRepository.deleteOwned(1L, 1L, false);
+        notificationCounterRepository.findUnreadCount(1L);
+        notificationCounterRepository.add(1L, 1);
+        notificationCounterRepository.findUserIdsAfter(0L, Limit.of(500));
+        notificationCounterRepository.reconcile(List.of(1L, 2L, 3L));
+
+        assertNoFullScan(SqlCaptureInspector.drain());
+    }
+
+    private void assertNoFullScan(List<String> statements) throws SQLException {
+        assertThat(statements).isNotEmpty();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                String plan = explain(statement, sql);
+                assertThat(plan)
+                        .as("전체 테이블 스캔 발생: %s", sql)
+                        .doesNotContain(FULL_SCAN_MARKER);
+            }
+        }
+    }
+
+    private String explain(Statement statement, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package choplan.db.application.properties.choplan.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 수집하는 테스트용 StatementInspector
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (CAPTURED) {
+            CAPTURED.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> drain() {
+        synchronized (CAPTURED) {
+            List<String> copy = new ArrayList<>(CAPTURED);
+            CAPTURED.clear();
+            return copy;
+        }
+    }
+}
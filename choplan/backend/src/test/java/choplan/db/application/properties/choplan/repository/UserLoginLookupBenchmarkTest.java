@@ -0,0 +1,123 @@
+package choplan.db.application.properties.choplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 로그인 계정 조회 지연 시간 측정 (./gradlew benchmark 로만 실행)
+ * - users 에 100만 건을 넣고 이메일 조회 방식별 1건당 평균 지연 시간을 출력 (행 수는 choplan.benchmark.users)
+ * - 100만 건은 인메모리 H2 힙에 올라가지 않으므로 build/benchmark 아래 파일 DB 사용 (실행마다 새 파일)
+ * - entity: findByEmail 전체 행 / lower(email): 함수 조건이라 인덱스를 못 타는 대소문자 무시 조회
+ * - projection: email_normalized 커버링 인덱스만 읽는 로그인 전용 조회
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:file:./build/benchmark/users-${random.uuid}")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserLoginLookupBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("choplan.benchmark.users", 1_000_000);
+    private static final long FIRST_ID = 10_000_000L;
+    private static final int INDEXED_LOOKUPS = 20_000;
+    private static final int SCAN_LOOKUPS = 5;
+    private static final int INSERT_CHUNK = 100_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // 점주 서류 / 주소 등 로그인과 무관한 컬럼까지 채워 실제 행 크기에 가깝게 만듦 (청크 단위 커밋)
+            for (int from = 1; from <= USERS; from += INSERT_CHUNK) {
+                int to = Math.min(from + INSERT_CHUNK - 1, USERS);
+                statement.executeUpdate("INSERT INTO users (user_id, email, email_normalized, password_hash, real_name, "
+                        + "phone, nickname, business_registration_doc, store_name, store_phone, road_address, "
+                        + "detail_address, role, customer_status, owner_status, created_at, updated_at) "
+                        + "SELECT " + FIRST_ID + " + X, 'User' || X || '@Choplan.com', 'user' || X || '@choplan.com', "
+                        + "'$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7Qa0pR5eKQ1tQ3E8cYkq6Sa', '회원' || X, "
+                        + "'010' || X, 'nick' || X, '/uploads/business/' || X || '.pdf', '매장' || X, '02' || X, "
+                        + "'서울특별시 중구 세종대로 ' || X, '상세 주소 ' || X, 'CUSTOMER', 'ACTIVE', 'PENDING', "
+                        + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(" + from + ", " + to + ")");
+            }
+            statement.execute("ANALYZE TABLE users");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void loginLookupLatency() throws SQLException {
+        measure("entity findByEmail", INDEXED_LOOKUPS, n -> {
+            assertThat(userRepository.findByEmail("User" + n + "@Choplan.com")).isPresent();
+            entityManager.clear();
+        });
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement lowerEmail = connection.prepareStatement(
+                     "SELECT * FROM users WHERE LOWER(email) = ?")) {
+            measure("entity lower(email)", SCAN_LOOKUPS, n -> {
+                try {
+                    lowerEmail.setString(1, "user" + n + "@choplan.com");
+                    try (ResultSet rs = lowerEmail.executeQuery()) {
+                        assertThat(rs.next()).isTrue();
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        measure("projection email_normalized", INDEXED_LOOKUPS, n ->
+                assertThat(userRepository.findAuthByEmailNormalized("user" + n + "@choplan.com")).isPresent());
+    }
+
+    private void measure(String name, int lookups, IntConsumer lookup) {
+        // 워밍업 (JIT / 쿼리 계획 캐시, 전체 스캔은 1회만)
+        for (int i = 0; i < Math.min(lookups / 5, 1_000); i++) {
+            lookup.accept(randomUser());
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            lookup.accept(randomUser());
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / lookups;
+        System.out.printf("[benchmark] %s: %,.1f us/lookup (%,d users, %,d lookups)%n",
+                name, micros, USERS, lookups);
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt(1, USERS + 1);
+    }
+}
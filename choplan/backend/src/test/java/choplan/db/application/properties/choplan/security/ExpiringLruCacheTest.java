@@ -0,0 +1,33 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    void expiredEntriesAreNotReturned() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(100);
+        cache.put("a", "value", 10);
+
+        assertThat(cache.get("a", 9)).isEqualTo("value");
+        assertThat(cache.get("a", 10)).isNull();
+        // 만료된 항목은 조회할 때 제거
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void sizeStaysBoundedAndRecentlyUsedEntriesSurvive() {
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(160);
+        cache.put(0, 0, Long.MAX_VALUE);
+
+        for (int i = 1; i < 10_000; i++) {
+            cache.get(0, 0);
+            cache.put(i, i, Long.MAX_VALUE);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(160);
+        assertThat(cache.get(0, 0)).isZero();
+    }
+}
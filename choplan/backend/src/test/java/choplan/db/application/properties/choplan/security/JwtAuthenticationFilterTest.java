@@ -0,0 +1,160 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.TokenRevocationRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.service.AdminService;
+import choplan.db.application.properties.choplan.service.AuthTokenService;
+import choplan.db.application.properties.choplan.service.PasswordService;
+import choplan.db.application.properties.choplan.service.TokenRevocationService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JWT 인증 필터가 요청마다 users 행을 조회하지 않고, 상태 변경은 즉시 반영하는지 검증
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JwtAuthenticationFilter.class, JwtTokenProvider.class, JwtKeyRing.class, UserStatusCache.class,
+        RevokedSubjects.class, InProcessRevocationChannel.class, TokenRevocationService.class,
+        AdminService.class, AuthTokenService.class, PasswordService.class, BCryptPasswordEncoder.class})
+// 상태 변경은 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private RevocationChannel revocationChannel;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Users customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.saveAndFlush(Users.builder()
+                .email("customer@choplan.com")
+                .passwordHash("hash")
+                .realName("고객")
+                .role(UserRole.CUSTOMER)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        tokenRevocationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void principalIsBuiltFromClaimsWithoutLoadingUser() throws Exception {
+        String token = jwtTokenProvider.createToken(customer);
+
+        for (int i = 0; i < 10; i++) {
+            Authentication authentication = authenticate(token);
+
+            assertThat(authentication).isNotNull();
+            CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+            assertThat(principal.getUserId()).isEqualTo(customer.getUserId());
+            assertThat(principal.getUsername()).isEqualTo("customer@choplan.com");
+            assertThat(principal.getStatus()).isEqualTo("ACTIVE");
+        }
+
+        // 최초 1회 상태 조회 이후에는 캐시 사용, 엔티티 로딩 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void suspendedUserIsLockedOutImmediately() throws Exception {
+        String token = jwtTokenProvider.createToken(customer);
+        assertThat(authenticate(token)).isNotNull();
+
+        adminService.updateCustomerStatus(customer.getUserId(), CustomerStatus.SUSPENDED);
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void revocationFromAnotherNodeRejectsOutstandingTokens() throws Exception {
+        String token = jwtTokenProvider.createToken(customer);
+        String refreshToken = jwtTokenProvider.createRefreshToken(customer);
+        assertThat(authenticate(token)).isNotNull();
+
+        // 다른 서버에서 정지 처리된 경우: 이 서버의 상태 캐시는 그대로지만 채널로 무효화가 전달됨
+        revocationChannel.publish(customer.getUserId(), System.currentTimeMillis());
+
+        assertThat(authenticate(token)).isNull();
+        assertThatThrownBy(() -> authTokenService.refresh(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refreshTokenOnlyWorksOnTheRefreshEndpoint() throws Exception {
+        String refreshToken = jwtTokenProvider.createRefreshToken(customer);
+
+        assertThat(authenticate(refreshToken)).isNull();
+
+        Map<?, ?> data = (Map<?, ?>) authTokenService.refresh(refreshToken).getData();
+        assertThat(authenticate((String) data.get("token"))).isNotNull();
+        assertThat(data.get("refreshToken")).isNotNull();
+
+        adminService.updateCustomerStatus(customer.getUserId(), CustomerStatus.SUSPENDED);
+        assertThatThrownBy(() -> authTokenService.refresh(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
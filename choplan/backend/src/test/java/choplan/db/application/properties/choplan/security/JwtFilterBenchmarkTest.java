@@ -0,0 +1,105 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.repository.UserStatusView;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 요청당 JWT 검증 비용 측정 (./gradlew benchmark 로만 실행)
+ * - legacy: 요청마다 파서를 새로 만들어 validateToken + getEmail 로 두 번 검증하던 방식
+ * - single-parse: 공유 파서로 한 번만 검증 (검증 캐시 비활성)
+ * - cached: 검증 캐시 적중
+ */
+@Tag("benchmark")
+class JwtFilterBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    @Test
+    void filterCostPerRequest() throws Exception {
+        Key legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        String legacyToken = Jwts.builder()
+                .setSubject("customer@choplan.com")
+                .claim("role", "CUSTOMER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(legacyKey)
+                .compact();
+        measure("legacy double parse", () -> {
+            Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken);
+            Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken).getBody().getSubject();
+        });
+
+        JwtTokenProvider uncached = new JwtTokenProvider(new JwtKeyRing("", "", "", true), 900, 1_209_600, 0);
+        String uncachedToken = uncached.createToken(customer());
+        measure("single parse", () -> uncached.verify(uncachedToken));
+
+        JwtTokenProvider cached = new JwtTokenProvider(new JwtKeyRing("", "", "", true), 900, 1_209_600, 10_000);
+        String cachedToken = cached.createToken(customer());
+        measure("cached verification", () -> cached.verify(cachedToken));
+
+        // 필터 전체 (토큰 추출 + 검증 + 상태 캐시 + SecurityContext 설정)
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(cached, statusCache(), new RevokedSubjects());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations");
+        request.addHeader("Authorization", "Bearer " + cachedToken);
+        measure("filter (cached)", () -> {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            SecurityContextHolder.clearContext();
+        });
+    }
+
+    private void measure(String name, Task task) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / MEASURED_ROUNDS;
+        System.out.printf("[benchmark] %s: %.2f us/request%n", name, micros);
+    }
+
+    private UserStatusCache statusCache() {
+        UserStatusView view = mock(UserStatusView.class);
+        when(view.getRole()).thenReturn(UserRole.CUSTOMER);
+        when(view.getCustomerStatus()).thenReturn(CustomerStatus.ACTIVE);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findStatusByUserId(anyLong())).thenReturn(Optional.of(view));
+        return new UserStatusCache(userRepository, 60, 10_000);
+    }
+
+    private Users customer() {
+        return Users.builder()
+                .userId(1L)
+                .email("customer@choplan.com")
+                .role(UserRole.CUSTOMER)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
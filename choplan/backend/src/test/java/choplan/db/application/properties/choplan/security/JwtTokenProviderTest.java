@@ -0,0 +1,98 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+
+class JwtTokenProviderTest {
+
+    private static final String KEY_2024 = "k2024:" + secret('a');
+    private static final String KEY_2025 = "k2025:" + secret('b');
+
+    private final JwtTokenProvider provider = provider(KEY_2024, "");
+
+    @Test
+    void verifyReturnsTypedClaims() {
+        VerifiedToken verified = provider.verify(provider.createToken(owner()));
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.email()).isEqualTo("owner@choplan.com");
+        assertThat(verified.role()).isEqualTo("OWNER");
+        assertThat(verified.status()).isEqualTo("APPROVED");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.isExpired(System.currentTimeMillis())).isFalse();
+        assertThat(provider.verify(provider.createRefreshToken(owner())).isRefreshToken()).isTrue();
+    }
+
+    @Test
+    void repeatedVerificationIsServedFromCache() {
+        String token = provider.createToken(owner());
+
+        assertThat(provider.verify(token)).isSameAs(provider.verify(token));
+    }
+
+    @Test
+    void tamperedOrForeignTokensAreRejected() {
+        String token = provider.createToken(owner());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(provider.verify(tampered)).isNull();
+        assertThat(provider.verify(provider("k2024:" + secret('z'), "").createToken(owner()))).isNull();
+        assertThat(provider.verify("not-a-token")).isNull();
+    }
+
+    @Test
+    void nodesSharingTheKeyRingAcceptEachOthersTokensDuringRotation() {
+        // 이전 키로 서명하던 노드와, 새 키를 활성화한 노드가 함께 운영되는 상황
+        JwtTokenProvider oldNode = provider(KEY_2024 + "," + KEY_2025, "k2024");
+        JwtTokenProvider newNode = provider(KEY_2024 + "," + KEY_2025, "k2025");
+
+        assertThat(newNode.verify(oldNode.createToken(owner()))).isNotNull();
+        assertThat(oldNode.verify(newNode.createToken(owner()))).isNotNull();
+
+        // 이전 키를 제거한 뒤에는 이전 키로 서명된 토큰이 거부됨
+        assertThat(provider(KEY_2025, "").verify(oldNode.createToken(owner()))).isNull();
+    }
+
+    @Test
+    void keyRingRejectsWeakOrAmbiguousConfiguration() {
+        assertThatThrownBy(() -> new JwtKeyRing("short:" + Base64.getEncoder().encodeToString(new byte[16]), "", "", false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(KEY_2024 + "," + KEY_2025, "", "", false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(KEY_2024, "", "missing", false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void missingKeyFailsOutsideDevAndTestProfiles() {
+        assertThatThrownBy(() -> new JwtKeyRing("", "", "", false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new JwtKeyRing("", "", "", true).getActiveKid()).startsWith("ephemeral-");
+    }
+
+    private static JwtTokenProvider provider(String keys, String activeKid) {
+        return new JwtTokenProvider(new JwtKeyRing(keys, "", activeKid, false), 900, 1_209_600, 100);
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+
+    private Users owner() {
+        return Users.builder()
+                .userId(7L)
+                .email("owner@choplan.com")
+                .role(UserRole.OWNER)
+                .ownerStatus(OwnerStatus.APPROVED)
+                .build();
+    }
+}
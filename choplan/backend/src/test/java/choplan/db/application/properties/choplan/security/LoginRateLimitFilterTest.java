@@ -0,0 +1,133 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class LoginRateLimitFilterTest {
+
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(10, 10, 3, 1, 1000);
+
+    @Test
+    void limitsAttemptsPerEmailAndPassesBodyThrough() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = login("10.0.0." + i, "User@Choplan.com");
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).contains("\"email\":\"User@Choplan.com\"");
+        }
+
+        // 대소문자만 다른 이메일도 같은 버킷, IP 가 달라도 거절
+        MockHttpServletResponse rejected = login("10.0.0.9", "user@choplan.com");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+    }
+
+    @Test
+    void limitsAttemptsPerIp() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(login("10.0.0.1", "user" + i + "@choplan.com").getStatus()).isEqualTo(200);
+        }
+        assertThat(login("10.0.0.1", "other@choplan.com").getStatus()).isEqualTo(429);
+        assertThat(login("10.0.0.2", "other@choplan.com").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void documentReissueSharesLoginLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("10.0.0.1", "owner@choplan.com").getStatus()).isEqualTo(200);
+        }
+        // 비밀번호를 확인하는 재발급 요청도 같은 이메일 버킷에서 거절
+        assertThat(post("/auth/owner/signup/document", "10.0.0.2", "owner@choplan.com").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void cachedBodyCanBeReadWithReadListener() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/customer/login");
+        request.setServletPath("/auth/customer/login");
+        request.setContent("{\"email\":\"user@choplan.com\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new NonBlockingEchoServlet()));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"email\":\"user@choplan.com\"}");
+    }
+
+    @Test
+    void otherEndpointsAreNotLimited() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations");
+            request.setServletPath("/api/reservations");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse login(String ip, String email) throws Exception {
+        return post("/auth/customer/login", ip, email);
+    }
+
+    private MockHttpServletResponse post(String path, String ip, String email) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+        return response;
+    }
+
+    // 컨트롤러 대신 본문을 그대로 돌려줌 (필터가 읽은 본문을 다시 읽을 수 있는지 확인)
+    private static class EchoServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.getWriter().write(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // 비동기 서블릿처럼 ReadListener 로 본문을 읽고 끝나면 그대로 돌려줌
+    private static class NonBlockingEchoServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            ServletInputStream input = request.getInputStream();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[8];
+                    while (input.isReady() && !input.isFinished()) {
+                        int n = input.read(buffer);
+                        if (n > 0) {
+                            body.write(buffer, 0, n);
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    response.getWriter().write(body.toString(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    response.setStatus(500);
+                }
+            });
+        }
+    }
+}
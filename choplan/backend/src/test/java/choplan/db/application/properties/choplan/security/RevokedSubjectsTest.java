@@ -0,0 +1,58 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RevokedSubjectsTest {
+
+    private final RevokedSubjects revokedSubjects = new RevokedSubjects();
+
+    @Test
+    void tokensIssuedUpToTheRevocationSecondAreRejected() {
+        revokedSubjects.revoke(7L, 10_500);
+
+        assertThat(revokedSubjects.isRevoked(7L, 9_000)).isTrue();
+        assertThat(revokedSubjects.isRevoked(7L, 10_000)).isTrue(); // iat 는 초 단위
+        assertThat(revokedSubjects.isRevoked(7L, 11_000)).isFalse();
+        assertThat(revokedSubjects.isRevoked(8L, 9_000)).isFalse();
+
+        // 더 이른 무효화 시각으로는 되돌릴 수 없음
+        revokedSubjects.revoke(7L, 5_000);
+        assertThat(revokedSubjects.isRevoked(7L, 10_000)).isTrue();
+    }
+
+    @Test
+    void growsAndPurgesWithoutLosingEntries() {
+        for (long userId = 1; userId <= 10_000; userId++) {
+            revokedSubjects.revoke(userId, userId * 1_000);
+        }
+        assertThat(revokedSubjects.size()).isEqualTo(10_000);
+        assertThat(revokedSubjects.isRevoked(9_999L, 9_999_000)).isTrue();
+
+        revokedSubjects.purgeBefore(5_001_000);
+
+        assertThat(revokedSubjects.size()).isEqualTo(5_000);
+        assertThat(revokedSubjects.isRevoked(5_000L, 0)).isFalse();
+        assertThat(revokedSubjects.isRevoked(5_001L, 0)).isTrue();
+    }
+
+    @Test
+    void bulkLoadKeepsLaterRevocations() {
+        revokedSubjects.revoke(1L, 20_000);
+        Map<Long, Long> loaded = new HashMap<>();
+        for (long userId = 1; userId <= 10_000; userId++) {
+            loaded.put(userId, 10_000L);
+        }
+
+        revokedSubjects.revokeAll(loaded);
+
+        assertThat(revokedSubjects.size()).isEqualTo(10_000);
+        assertThat(revokedSubjects.isRevoked(1L, 15_000)).isTrue();
+        assertThat(revokedSubjects.isRevoked(10_000L, 10_000)).isTrue();
+        assertThat(revokedSubjects.isRevoked(10_000L, 11_000)).isFalse();
+    }
+}
@@ -0,0 +1,41 @@
+package choplan.db.application.properties.choplan.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsOverTime() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 6, 100);
+        long now = 0;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", now)).isZero();
+        }
+        long wait = limiter.tryAcquire("a", now);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(MINUTE / 6);
+
+        // 분당 6개 → 10초마다 1개
+        assertThat(limiter.tryAcquire("a", now + wait)).isZero();
+        assertThat(limiter.tryAcquire("a", now + wait)).isPositive();
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("b", now)).isZero();
+    }
+
+    @Test
+    void keyCountStaysBounded() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 160);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip-" + i, 0);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(160);
+    }
+}
@@ -0,0 +1,83 @@
+package choplan.db.application.properties.choplan.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.config.JpaConfig;
+import choplan.db.application.properties.choplan.dto.ReservationImportRequest;
+import choplan.db.application.properties.choplan.dto.UserImportRequest;
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+
+/**
+ * 일괄 가져오기 INSERT 처리량 측정 (./gradlew benchmark 로만 실행)
+ * - 워밍업 후 MAX_IMPORT_SIZE 건씩 여러 번 가져와 초당 건수를 출력
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DataImportService.class, ReservationSlotService.class, JpaConfig.class})
+class BulkImportBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int ROWS = DataImportService.MAX_IMPORT_SIZE;
+
+    @Autowired
+    private DataImportService dataImportService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void reservationImportThroughput() {
+        List<ReservationImportRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(DataImportServiceTest.reservation("COMPLETED", 2));
+        }
+        measure("reservations", round -> dataImportService.importReservations(requests));
+    }
+
+    @Test
+    void userImportThroughput() {
+        measure("users", round -> {
+            List<UserImportRequest> requests = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                requests.add(DataImportServiceTest.user("user" + round + "-" + i + "@choplan.com"));
+            }
+            dataImportService.importUsers(requests);
+        });
+    }
+
+    private void measure(String name, Consumer<Integer> importRound) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            importRound.accept(round);
+        }
+        long started = System.nanoTime();
+        for (int round = WARMUP_ROUNDS; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            importRound.accept(round);
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("[benchmark] %s import: %,.0f rows/s (%d rows x %d rounds, %.2fs)%n",
+                name, ROWS * MEASURED_ROUNDS / seconds, ROWS, MEASURED_ROUNDS, seconds);
+    }
+}
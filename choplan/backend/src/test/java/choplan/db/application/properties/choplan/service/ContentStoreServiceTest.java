@@ -0,0 +1,171 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.entity.ContentBlob;
+import choplan.db.application.properties.choplan.repository.ContentBlobRepository;
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 내용 주소 기반 저장의 중복 제거 / 참조 수 / 가비지 컬렉션 검증
+ */
+@DataJpaTest(properties = "choplan.storage.content.gc-grace-ms=0")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ContentStoreService.class, FileStorageService.class, StorageMetrics.class,
+        ContentStoreServiceTest.LocalStorageConfig.class})
+class ContentStoreServiceTest {
+
+    @Autowired
+    private ContentStoreService contentStoreService;
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Autowired
+    private LocalObjectStorage storage;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        contentBlobRepository.deleteAll();
+    }
+
+    @Test
+    void sameContentIsStoredOnceUnderItsHash() throws IOException {
+        double deduplicatedBefore = deduplicated();
+        String first = contentStoreService.store("review-image", "review-images", ".png", file("같은 사진"));
+        String second = contentStoreService.store("review-image", "review-images", ".png", file("같은 사진"));
+        String other = contentStoreService.store("review-image", "review-images", ".png", file("다른 사진"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        String key = first.substring("/media/".length());
+        assertThat(ContentStoreService.hashOf(key)).hasSize(64);
+
+        ContentBlob blob = contentBlobRepository.findById(key).orElseThrow();
+        assertThat(blob.getRefCount()).isEqualTo(2);
+        assertThat(deduplicated() - deduplicatedBefore).isEqualTo(1);
+    }
+
+    @Test
+    void unreferencedObjectsAreCollectedUnlessReferencedAgain() throws IOException {
+        String kept = contentStoreService.store("review-image", "review-images", ".png", file("남는 사진"));
+        String dropped = contentStoreService.store("review-image", "review-images", ".png", file("지울 사진"));
+
+        release(kept);
+        release(dropped);
+        // 수집 전에 다시 참조되면 삭제 대상에서 빠짐
+        contentStoreService.store("review-image", "review-images", ".png", file("남는 사진"));
+
+        assertThat(contentStoreService.collectGarbage()).isEqualTo(1);
+
+        assertThat(storage.stat(key(dropped))).isEmpty();
+        assertThat(contentBlobRepository.findById(key(dropped))).isEmpty();
+        assertThat(storage.stat(key(kept))).isPresent();
+        assertThat(contentBlobRepository.findById(key(kept)).orElseThrow().getRefCount()).isEqualTo(1);
+
+        // 삭제된 내용을 다시 올리면 새로 저장됨
+        contentStoreService.store("review-image", "review-images", ".png", file("지울 사진"));
+        assertThat(storage.stat(key(dropped))).isPresent();
+    }
+
+    @Test
+    void concurrentFirstReferencesToSameContentBothSucceed() throws Exception {
+        String key = ContentStoreService.key("review-images", "a".repeat(64), ".png");
+        CountDownLatch firstReferenced = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 두 요청 모두 이번에 업로드했다고 보고 참조를 추가 (먼저 시작한 쪽은 커밋 전에 멈춤)
+            Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        contentStoreService.addReference(key, ContentStoreService.hashOf(key), 10, "image/png", true);
+                        firstReferenced.countDown();
+                        await(releaseFirst);
+                    }));
+            await(firstReferenced);
+            Future<?> second = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status ->
+                            contentStoreService.addReference(key, ContentStoreService.hashOf(key), 10, "image/png",
+                                    true)));
+            Thread.sleep(100);
+            releaseFirst.countDown();
+
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(contentBlobRepository.findById(key).orElseThrow().getRefCount()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double deduplicated() {
+        return meterRegistry.find(StorageMetrics.DEDUPLICATED_COUNTER).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+
+    private void release(String url) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                contentStoreService.releaseReplaced(url, null));
+    }
+
+    private static String key(String url) {
+        return url.substring("/media/".length());
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "photo.png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class LocalStorageConfig {
+
+        @Bean
+        LocalObjectStorage localObjectStorage() throws IOException {
+            return new LocalObjectStorage("build/test-storage", "/media");
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
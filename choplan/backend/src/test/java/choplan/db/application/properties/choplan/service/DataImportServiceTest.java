@@ -0,0 +1,175 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.config.JpaConfig;
+import choplan.db.application.properties.choplan.dto.ImportResult;
+import choplan.db.application.properties.choplan.dto.ReservationImportRequest;
+import choplan.db.application.properties.choplan.dto.UserImportRequest;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.repository.ReservationSlotRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 기존 시스템 데이터 일괄 가져오기 검증
+ * - INSERT 가 JDBC 배치로 묶이는지(건당 왕복이 없는지) 실행한 문장 수로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "reservation.slot.default-capacity=10"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DataImportService.class, ReservationSlotService.class, JpaConfig.class})
+class DataImportServiceTest {
+
+    static final String BCRYPT_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7Qa0pR5eKQ1tQ3E8cYkq6Sa";
+
+    @Autowired
+    private DataImportService dataImportService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        slotRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void reservationInsertsAreBatched() {
+        int count = 500;
+        List<ReservationImportRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(reservation("COMPLETED", 2));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ImportResult result = dataImportService.importReservations(requests);
+
+        assertThat(result.getImported()).isEqualTo(count);
+        assertThat(reservationRepository.count()).isEqualTo(count);
+        // 건당 INSERT 왕복이면 500회 이상, 배치 + ID 블록 할당이면 수십 회 이내
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(count / 10);
+    }
+
+    @Test
+    void importedReservationsKeepHistoryAndTakeSeats() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 9, 30);
+        ReservationImportRequest completed = reservation("COMPLETED", 8);
+        completed.setCreatedAt(createdAt);
+
+        dataImportService.importReservations(List.of(completed, reservation("APPROVED", 3), reservation(null, 4)));
+
+        assertThat(reservationRepository.findAll())
+                .extracting(Reservation::getCreatedAt)
+                .contains(createdAt);
+        // 완료된 예약은 좌석을 점유하지 않음 → 10 - (3 + 4)
+        assertThat(slotRepository.findAll()).singleElement()
+                .satisfies(slot -> assertThat(slot.getRemainingSeats()).isEqualTo(3));
+    }
+
+    @Test
+    void failedImportRollsBackEveryRow() {
+        assertThatThrownBy(() -> dataImportService.importReservations(
+                List.of(reservation("APPROVED", 2), reservation("UNKNOWN", 2))))
+                .hasMessageContaining("2번째");
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    void usersWithExistingEmailAreSkipped() {
+        dataImportService.importUsers(List.of(user("old@choplan.com")));
+
+        ImportResult result = dataImportService.importUsers(List.of(
+                user("old@choplan.com"), user("new@choplan.com"), user("new@choplan.com")));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getSkipped()).containsExactly("old@choplan.com", "new@choplan.com");
+        assertThat(userRepository.findByEmail("new@choplan.com"))
+                .get()
+                .extracting(Users::getPasswordHash)
+                .isEqualTo(BCRYPT_HASH);
+    }
+
+    @Test
+    void emailsDifferingOnlyByCaseAreDuplicates() {
+        dataImportService.importUsers(List.of(user("Mixed@Choplan.com")));
+
+        ImportResult result = dataImportService.importUsers(List.of(user("mixed@choplan.com")));
+
+        assertThat(result.getImported()).isZero();
+        // 로그인 조회는 입력 이메일을 정규화해 대소문자 / 앞뒤 공백과 무관하게 찾음
+        assertThat(userRepository.findAuthByEmailNormalized(Users.normalizeEmail(" MIXED@choplan.com ")))
+                .get()
+                .satisfies(view -> {
+                    assertThat(view.getEmail()).isEqualTo("Mixed@Choplan.com");
+                    assertThat(view.getPasswordHash()).isEqualTo(BCRYPT_HASH);
+                    assertThat(view.getRole()).isEqualTo(UserRole.CUSTOMER);
+                });
+    }
+
+    @Test
+    void plainPasswordIsRejected() {
+        UserImportRequest request = user("plain@choplan.com");
+        request.setPasswordHash("password1234");
+
+        assertThatThrownBy(() -> dataImportService.importUsers(List.of(request)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static ReservationImportRequest reservation(String status, int guests) {
+        ReservationImportRequest request = new ReservationImportRequest();
+        request.setUserId(1L);
+        request.setRestaurantId(3L);
+        request.setUserName("예약자");
+        request.setUserPhone("01012345678");
+        request.setReservationDate(LocalDate.of(2030, 1, 1));
+        request.setReservationTime(LocalTime.of(19, 0));
+        request.setGuests(guests);
+        request.setStatus(status);
+        return request;
+    }
+
+    static UserImportRequest user(String email) {
+        UserImportRequest request = new UserImportRequest();
+        request.setEmail(email);
+        request.setPasswordHash(BCRYPT_HASH);
+        request.setRealName("회원");
+        request.setRole(UserRole.CUSTOMER.name());
+        return request;
+    }
+}
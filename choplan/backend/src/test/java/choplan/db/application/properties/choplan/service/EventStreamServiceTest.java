@@ -0,0 +1,183 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import choplan.db.application.properties.choplan.dto.ReservationEvent;
+
+/**
+ * 실시간 이벤트 구독자 관리 / 전송 대상 검증
+ */
+class EventStreamServiceTest {
+
+    private final EventStreamService service = new EventStreamService(60_000L, 3, 2, 4, 2);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void reservationEventReachesCustomerAndRestaurantOnly() throws InterruptedException {
+        RecordingEmitter customer = new RecordingEmitter(1);
+        RecordingEmitter owner = new RecordingEmitter(1);
+        RecordingEmitter otherCustomer = new RecordingEmitter(0);
+        service.register(1L, null, customer);
+        service.register(2L, 10L, owner);
+        service.register(3L, null, otherCustomer);
+
+        service.onReservationEvent(new ReservationEvent(ReservationEvent.CREATED, 100L, 1L, 10L,
+                "PENDING", "PENDING", LocalDateTime.now()));
+
+        assertThat(customer.await()).isTrue();
+        assertThat(owner.await()).isTrue();
+        assertThat(otherCustomer.sent).isEmpty();
+    }
+
+    @Test
+    void oldestConnectionOfSameUserIsClosed() {
+        RecordingEmitter first = new RecordingEmitter(0);
+        service.register(1L, null, first);
+        service.register(1L, null, new RecordingEmitter(0));
+        service.register(1L, null, new RecordingEmitter(0));
+
+        assertThat(first.completed).isTrue();
+        assertThat(service.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subscribersBeyondLimitAreRejected() {
+        service.register(1L, null, new RecordingEmitter(0));
+        service.register(2L, null, new RecordingEmitter(0));
+        service.register(3L, null, new RecordingEmitter(0));
+
+        assertThatThrownBy(() -> service.register(4L, null, new RecordingEmitter(0)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(service.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentConnectionsOfSameUserStayWithinLimit() throws InterruptedException {
+        EventStreamService wide = new EventStreamService(60_000L, 1000, 2, 4, 2);
+        try {
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < 50; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        wide.register(1L, null, new RecordingEmitter(0));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(wide.getSubscriberCount()).isEqualTo(2);
+        } finally {
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void brokenConnectionIsDroppedOnHeartbeat() throws InterruptedException {
+        service.register(1L, 10L, new RecordingEmitter(0) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        });
+
+        service.heartbeat();
+
+        assertThat(awaitSubscriberCount(0)).isTrue();
+    }
+
+    @Test
+    void slowConnectionIsDroppedWithoutBlockingOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(0) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RecordingEmitter fast = new RecordingEmitter(10);
+        service.register(1L, 10L, slow);
+        service.register(2L, 10L, fast);
+
+        for (int i = 0; i < 10; i++) {
+            service.sendToRestaurant(10L, EventStreamService.RESERVATION_EVENT, "event" + i);
+            awaitSent(fast, i + 1);
+        }
+
+        // 느린 연결은 대기열(4건)이 가득 차면 끊기고, 다른 구독자는 모두 받음
+        assertThat(fast.await()).isTrue();
+        assertThat(slow.completed).isTrue();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private void awaitSent(RecordingEmitter emitter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private boolean awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getSubscriberCount() != expected) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private volatile boolean completed;
+
+        RecordingEmitter(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.add(builder.build());
+            latch.countDown();
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.EventStreamTicketRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+
+/**
+ * 실시간 이벤트 구독 티켓 발급 / 사용 검증
+ */
+@DataJpaTest
+@Import(EventStreamTicketService.class)
+class EventStreamTicketServiceTest {
+
+    @Autowired
+    private EventStreamTicketService ticketService;
+
+    @Autowired
+    private EventStreamTicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void ticketCanBeUsedOnlyOnce() {
+        String ticket = ticketService.issue(1L, UserRole.CUSTOMER, null);
+
+        EventStreamTicketService.Subscription subscription = ticketService.redeem(ticket);
+
+        assertThat(subscription.userId()).isEqualTo(1L);
+        assertThat(subscription.restaurantId()).isNull();
+        assertThatThrownBy(() -> ticketService.redeem(ticket))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ticketIsStoredOnlyAsHash() {
+        String ticket = ticketService.issue(1L, UserRole.CUSTOMER, null);
+
+        assertThat(ticketRepository.findAll()).singleElement()
+                .satisfies(stored -> assertThat(stored.getTicketHash()).hasSize(64).isNotEqualTo(ticket));
+    }
+
+    @Test
+    void ownerMaySubscribeOnlyToOwnRestaurant() {
+        Users owner = userRepository.save(Users.builder()
+                .email("owner@choplan.com")
+                .passwordHash("hash")
+                .realName("점주")
+                .role(UserRole.OWNER)
+                .restaurantId(10L)
+                .build());
+
+        String ticket = ticketService.issue(owner.getUserId(), UserRole.OWNER, 10L);
+
+        assertThat(ticketService.redeem(ticket).restaurantId()).isEqualTo(10L);
+        assertThatThrownBy(() -> ticketService.issue(owner.getUserId(), UserRole.OWNER, 11L))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> ticketService.issue(2L, UserRole.CUSTOMER, 10L))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(ticketService.issue(3L, UserRole.ADMIN, 11L)).isNotBlank();
+    }
+
+    @Test
+    void unknownTicketIsRejected() {
+        assertThatThrownBy(() -> ticketService.redeem("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ticketService.redeem(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
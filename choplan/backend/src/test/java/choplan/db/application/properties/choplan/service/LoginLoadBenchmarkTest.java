@@ -0,0 +1,127 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.exception.ServiceBusyException;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+
+/**
+ * 로그인 폭주 중 예약 요청 지연 시간 측정 (./gradlew benchmark 로만 실행)
+ * - 요청 스레드 풀(Tomcat 대용) 위에서 로그인 클라이언트와 가벼운 예약 요청을 동시에 실행
+ * - inline: 요청 스레드에서 직접 BCrypt 검증 / executor: PasswordService 로 검증
+ */
+@Tag("benchmark")
+class LoginLoadBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 32;
+    private static final int LOGIN_CLIENTS = 48;
+    private static final long DURATION_MS = 5_000;
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+    private final Users user = Users.builder()
+            .userId(1L)
+            .role(UserRole.CUSTOMER)
+            .passwordHash(encoder.encode("password1234"))
+            .build();
+
+    @Test
+    void loginThroughputVersusReservationLatency() throws Exception {
+        run("inline", user -> encoder.matches("password1234", user.getPasswordHash()));
+
+        PasswordService passwordService = new PasswordService(encoder, mock(UserRepository.class), 10, 0, 0, 3_000);
+        run("executor", user -> passwordService.matches(user, "password1234"));
+        passwordService.shutdown();
+    }
+
+    private void run(String name, Predicate<Users> login) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        ExecutorService clients = Executors.newFixedThreadPool(LOGIN_CLIENTS + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger logins = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> reservationLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            clients.execute(() -> {
+                while (running.get()) {
+                    try {
+                        requestThreads.submit(() -> login.test(user)).get();
+                        logins.incrementAndGet();
+                    } catch (Exception e) {
+                        if (e.getCause() instanceof ServiceBusyException) {
+                            rejected.incrementAndGet();
+                            sleepQuietly(50); // 503 을 받은 클라이언트의 재시도 간격
+                        }
+                    }
+                }
+            });
+        }
+        clients.execute(() -> {
+            while (running.get()) {
+                long submitted = System.nanoTime();
+                try {
+                    Future<?> reservation = requestThreads.submit(LoginLoadBenchmarkTest::reservationWork);
+                    reservation.get();
+                    reservationLatencies.add(System.nanoTime() - submitted);
+                } catch (Exception ignored) {
+                    return;
+                }
+                sleepQuietly(5);
+            }
+        });
+
+        Thread.sleep(DURATION_MS);
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.SECONDS);
+        requestThreads.shutdown();
+
+        List<Long> sorted = new ArrayList<>(reservationLatencies);
+        Collections.sort(sorted);
+        System.out.printf("[benchmark] %s: logins %.1f/s, rejected(503) %d, reservation p50 %.1f ms, p99 %.1f ms (n=%d)%n",
+                name, logins.get() * 1000.0 / DURATION_MS, rejected.get(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.size());
+    }
+
+    // 예약 조회 한 건 정도의 가벼운 CPU 작업
+    private static long reservationWork() {
+        long acc = 0;
+        for (int i = 0; i < 20_000; i++) {
+            acc += Long.rotateLeft(acc ^ i, 7);
+        }
+        return acc;
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
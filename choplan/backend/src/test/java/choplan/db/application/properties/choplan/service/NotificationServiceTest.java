@@ -0,0 +1,186 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.dto.NotificationEvent;
+import choplan.db.application.properties.choplan.dto.NotificationResponse;
+import choplan.db.application.properties.choplan.dto.ReservationRequest;
+import choplan.db.application.properties.choplan.entity.NotificationType;
+import choplan.db.application.properties.choplan.entity.ReservationTransition;
+import choplan.db.application.properties.choplan.repository.NotificationCounterRepository;
+import choplan.db.application.properties.choplan.repository.NotificationRepository;
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.repository.ReservationSlotRepository;
+
+/**
+ * 예약 상태 변경 알림과 읽지 않은 수 카운터 검증
+ * - 알림은 예약 트랜잭션 커밋 직전에 기록되므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({NotificationService.class, ReservationService.class, UserNameResolver.class, ReservationSlotService.class})
+@RecordApplicationEvents
+class NotificationServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationCounterRepository counterRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        counterRepository.deleteAll();
+        reservationRepository.deleteAll();
+        slotRepository.deleteAll();
+    }
+
+    @Test
+    void reservationStatusChangesNotifyTheGuest() {
+        Long approved = reservationService.createReservation(request()).getId();
+        Long rejected = reservationService.createReservation(request()).getId();
+        assertThat(notificationService.getUnreadCount(USER_ID)).isZero();
+
+        reservationService.approveReservation(approved);
+        reservationService.rejectReservation(rejected, "만석");
+        // 취소 요청은 예약자 본인이 한 것이므로 알리지 않음
+        reservationService.cancelReservation(approved);
+
+        List<NotificationResponse> notifications = notificationService.getNotifications(USER_ID, 50);
+        assertThat(notifications).extracting(NotificationResponse::type)
+                .containsExactly(NotificationType.RESERVATION_REJECTED.name(),
+                        NotificationType.RESERVATION_APPROVED.name());
+        assertThat(notifications.get(0).reservationId()).isEqualTo(rejected);
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(2);
+        assertThat(events.stream(NotificationEvent.class)
+                .filter(event -> NotificationEvent.CREATED.equals(event.getType()))).hasSize(2);
+    }
+
+    @Test
+    void bulkTransitionIncrementsCounterPerNotification() {
+        List<Long> ids = List.of(reservationService.createReservation(request()).getId(),
+                reservationService.createReservation(request()).getId(),
+                reservationService.createReservation(request()).getId());
+
+        reservationService.bulkTransition(ids, ReservationTransition.APPROVE, null);
+
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(3);
+        assertThat(counterRepository.findUnreadCount(USER_ID)).contains(3);
+    }
+
+    @Test
+    void deltasAreAppliedOncePerUserAtCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                notificationService.notify(USER_ID, NotificationType.REVIEW_REMINDER, null);
+            }
+            // 증감은 커밋 직전에 한 번에 반영하므로 트랜잭션 중에는 카운터 행이 아직 없음
+            assertThat(counterRepository.findUnreadCount(USER_ID)).isEmpty();
+        });
+        assertThat(counterRepository.findUnreadCount(USER_ID)).contains(3);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            notificationService.notify(USER_ID, NotificationType.REVIEW_REMINDER, null);
+            status.setRollbackOnly();
+        });
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void readAndDeleteAdjustTheCachedCount() {
+        for (int i = 0; i < 4; i++) {
+            notifyGuest();
+        }
+        List<NotificationResponse> unread = notificationService.getUnreadNotifications(USER_ID, 50);
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(4);
+
+        notificationService.markAsRead(USER_ID, unread.get(0).id());
+        notificationService.markAsRead(USER_ID, unread.get(0).id());
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(3);
+
+        // 읽은 알림을 지우면 그대로, 읽지 않은 알림을 지우면 감소
+        notificationService.delete(USER_ID, unread.get(0).id());
+        notificationService.delete(USER_ID, unread.get(1).id());
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(2);
+
+        assertThat(notificationService.markAllAsRead(USER_ID)).isEqualTo(2);
+        assertThat(notificationService.getUnreadCount(USER_ID)).isZero();
+        assertThat(notificationService.getUnreadNotifications(USER_ID, 50)).isEmpty();
+        assertThat(notificationService.getNotifications(USER_ID, 50)).hasSize(2)
+                .allMatch(NotificationResponse::isRead);
+
+        Long others = unread.get(2).id();
+        assertThatThrownBy(() -> notificationService.markAsRead(USER_ID + 1, others))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> notificationService.delete(USER_ID + 1, others))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reconcileCorrectsDriftedCounters() {
+        notifyGuest();
+        notifyGuest();
+        // 카운터만 어긋난 상태를 만듦
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> counterRepository.add(USER_ID, 5));
+        assertThat(counterRepository.findUnreadCount(USER_ID)).contains(7);
+
+        assertThat(notificationService.reconcileCounters()).isEqualTo(1);
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(2);
+        assertThat(notificationService.reconcileCounters()).isZero();
+    }
+
+    private void notifyGuest() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                notificationService.notify(USER_ID, NotificationType.REVIEW_REMINDER, null));
+    }
+
+    private ReservationRequest request() {
+        ReservationRequest request = new ReservationRequest();
+        request.setUserId(USER_ID);
+        request.setRestaurantId(5L);
+        request.setUserName("예약자");
+        request.setUserPhone("01012345678");
+        request.setReservationDate(LocalDate.of(2030, 1, 1));
+        request.setReservationTime(LocalTime.of(12, 0));
+        request.setGuests(2);
+        return request;
+    }
+}
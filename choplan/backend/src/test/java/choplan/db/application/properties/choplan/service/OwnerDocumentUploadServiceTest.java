@@ -0,0 +1,311 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.entity.DocumentUpload;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.ContentBlobRepository;
+import choplan.db.application.properties.choplan.repository.DocumentUploadRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import choplan.db.application.properties.choplan.storage.ObjectStorage;
+import choplan.db.application.properties.choplan.storage.PresignedUpload;
+import choplan.db.application.properties.choplan.storage.StoredObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 점주 사업자등록증 백그라운드 업로드 (아웃박스) 검증
+ * - 가입 트랜잭션이 커밋되어야 작업이 시작되므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest(properties = {
+        "choplan.storage.document-upload.max-attempts=2",
+        "choplan.storage.document-upload.retry-base-ms=0"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OwnerDocumentUploadService.class, FileStorageService.class, ContentStoreService.class, StorageMetrics.class,
+        OwnerDocumentUploadServiceTest.FlakyStorageConfig.class})
+class OwnerDocumentUploadServiceTest {
+
+    @Autowired
+    private OwnerDocumentUploadService uploadService;
+
+    @Autowired
+    private DocumentUploadRepository documentUploadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Autowired
+    private FlakyStorage storage;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        storage.failures.set(0);
+        storage.puts.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        documentUploadRepository.deleteAll();
+        contentBlobRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void documentIsUploadedAfterCommitAndOwnerAwaitsApproval() throws IOException {
+        Users owner = signup("owner1@choplan.com");
+
+        DocumentUpload upload = await(() -> documentUploadRepository.findAll().get(0),
+                current -> current.getStatus() == DocumentUpload.Status.DONE);
+
+        Users saved = userRepository.findById(owner.getUserId()).orElseThrow();
+        assertThat(saved.getOwnerStatus()).isEqualTo(OwnerStatus.PENDING);
+        assertThat(saved.getBusinessRegistrationDoc()).isEqualTo("/media/" + upload.getObjectKey());
+        // 업로드가 끝나면 임시 객체를 지움
+        assertThat(storage.stat(upload.getStagingKey())).isEmpty();
+    }
+
+    @Test
+    void failedUploadIsRetriedThenMarkedFailed() {
+        storage.failures.set(1);
+        Users owner = signup("owner2@choplan.com");
+
+        // 커밋 직후 첫 시도 실패 → 재시도 대기
+        await(() -> documentUploadRepository.findAll().get(0), current -> current.getAttempts() == 1);
+        uploadService.dispatch();
+        DocumentUpload retried = await(() -> documentUploadRepository.findAll().get(0),
+                current -> current.getStatus() == DocumentUpload.Status.DONE);
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertThat(userRepository.findById(owner.getUserId()).orElseThrow().getOwnerStatus())
+                .isEqualTo(OwnerStatus.PENDING);
+
+        storage.failures.set(Integer.MAX_VALUE);
+        Users other = signup("owner3@choplan.com");
+        await(() -> latestOf(other), current -> current.getAttempts() == 1);
+        uploadService.dispatch();
+        DocumentUpload failed = await(() -> latestOf(other),
+                current -> current.getStatus() == DocumentUpload.Status.FAILED);
+
+        assertThat(failed.getLastError()).contains("저장소 장애");
+        assertThat(userRepository.findById(other.getUserId()).orElseThrow().getOwnerStatus())
+                .isEqualTo(OwnerStatus.PENDING_DOCUMENT);
+    }
+
+    @Test
+    void sameDocumentIsTransferredOnceAndReferencedTwice() {
+        Users first = signup("owner5@choplan.com", "같은 사업자등록증");
+        await(() -> latestOf(first), current -> current.getStatus() == DocumentUpload.Status.DONE);
+        Users second = signup("owner6@choplan.com", "같은 사업자등록증");
+        await(() -> latestOf(second), current -> current.getStatus() == DocumentUpload.Status.DONE);
+
+        assertThat(storage.puts.get()).isEqualTo(1);
+        assertThat(userRepository.findById(second.getUserId()).orElseThrow().getBusinessRegistrationDoc())
+                .isEqualTo(userRepository.findById(first.getUserId()).orElseThrow().getBusinessRegistrationDoc());
+        assertThat(contentBlobRepository.findById(latestOf(first).getObjectKey()).orElseThrow().getRefCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void uploadDoesNotDependOnTheNodeThatAcceptedIt() throws IOException {
+        storage.failures.set(1);
+        Users owner = signup("owner7@choplan.com");
+        await(() -> latestOf(owner), current -> current.getAttempts() == 1);
+
+        // 재시도는 다른 서버가 선점할 수 있으므로 서류는 로컬 디스크가 아니라 공유 저장소의 임시 객체로 남아 있어야 함
+        String stagingKey = latestOf(owner).getStagingKey();
+        assertThat(stagingKey).startsWith(OwnerDocumentUploadService.STAGING_PREFIX);
+        assertThat(storage.stat(stagingKey)).isPresent();
+        uploadService.dispatch();
+        await(() -> latestOf(owner), current -> current.getStatus() == DocumentUpload.Status.DONE);
+        assertThat(storage.stat(stagingKey)).isEmpty();
+    }
+
+    @Test
+    void missingStagingObjectFailsWithoutRetry() throws IOException {
+        OwnerDocumentUploadService.StagedDocument staged = stage("owner8");
+        storage.delete(staged.stagingKey());
+        Users owner = new TransactionTemplate(transactionManager).execute(status -> {
+            Users saved = owner("owner8@choplan.com");
+            uploadService.enqueue(saved, staged);
+            return saved;
+        });
+
+        DocumentUpload failed = await(() -> latestOf(owner),
+                current -> current.getStatus() == DocumentUpload.Status.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackSignupLeavesNoTask() throws IOException {
+        OwnerDocumentUploadService.StagedDocument staged = stage("owner4");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            uploadService.enqueue(owner("owner4@choplan.com"), staged);
+            status.setRollbackOnly();
+        });
+        uploadService.discard(staged);
+
+        assertThat(documentUploadRepository.count()).isZero();
+        assertThat(storage.stat(staged.stagingKey())).isEmpty();
+    }
+
+    private Users signup(String email) {
+        return signup(email, email);
+    }
+
+    // 가입과 같은 순서: 트랜잭션 전에 임시 객체로 옮긴 뒤 계정과 작업을 함께 저장
+    private Users signup(String email, String document) {
+        OwnerDocumentUploadService.StagedDocument staged = stage(document);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Users owner = owner(email);
+            uploadService.enqueue(owner, staged);
+            return owner;
+        });
+    }
+
+    private Users owner(String email) {
+        return userRepository.save(Users.builder()
+                .email(email)
+                .passwordHash("hash")
+                .realName("점주")
+                .role(UserRole.OWNER)
+                .ownerStatus(OwnerStatus.PENDING_DOCUMENT)
+                .build());
+    }
+
+    // 내용이 같으면 저장 키도 같으므로 서류마다 내용을 다르게 함
+    private OwnerDocumentUploadService.StagedDocument stage(String document) {
+        try {
+            return uploadService.stage(new MockMultipartFile("businessRegistrationDoc", "doc.pdf",
+                    "application/pdf", ("%PDF-1.7 " + document).getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DocumentUpload latestOf(Users owner) {
+        return documentUploadRepository.findByUserIdIn(List.of(owner.getUserId())).get(0);
+    }
+
+    private DocumentUpload await(Supplier<DocumentUpload> query, Predicate<DocumentUpload> done) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        DocumentUpload current = query.get();
+        while (!done.test(current) && System.currentTimeMillis() < deadline) {
+            sleep();
+            current = query.get();
+        }
+        assertThat(done.test(current)).as("업로드 작업 상태: %s", current.getStatus()).isTrue();
+        return current;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 지정한 횟수만큼 실패한 뒤 로컬 디스크에 저장하는 저장소 (가입 요청의 임시 객체 저장은 실패 / 횟수에서 제외)
+     */
+    static class FlakyStorage implements ObjectStorage {
+
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger puts = new AtomicInteger();
+        private final LocalObjectStorage delegate;
+
+        FlakyStorage(LocalObjectStorage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getBackend() {
+            return "flaky";
+        }
+
+        @Override
+        public String put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+            if (key.startsWith(OwnerDocumentUploadService.STAGING_PREFIX)) {
+                return delegate.put(key, content, contentLength, contentType);
+            }
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IOException("저장소 장애");
+            }
+            puts.incrementAndGet();
+            return delegate.put(key, content, contentLength, contentType);
+        }
+
+        @Override
+        public String getUrl(String key) {
+            return delegate.getUrl(key);
+        }
+
+        @Override
+        public void delete(String key) throws IOException {
+            delegate.delete(key);
+        }
+
+        @Override
+        public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+            return delegate.presignPut(key, contentType, contentLength, ttl);
+        }
+
+        @Override
+        public Optional<StoredObject> stat(String key) throws IOException {
+            return delegate.stat(key);
+        }
+
+        @Override
+        public InputStream open(String key, long offset, long length) throws IOException {
+            return delegate.open(key, offset, length);
+        }
+    }
+
+    @TestConfiguration
+    static class FlakyStorageConfig {
+
+        @Bean
+        FlakyStorage flakyStorage() throws IOException {
+            return new FlakyStorage(new LocalObjectStorage("build/test-storage", "/media"));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
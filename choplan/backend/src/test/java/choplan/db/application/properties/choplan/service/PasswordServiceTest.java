@@ -0,0 +1,108 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.exception.ServiceBusyException;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+
+/**
+ * 비밀번호 해시 실행기의 대기열 제한(즉시 503)과 비용 변경 시 재해시 검증
+ * - 재해시는 실행기 스레드에서 커밋되므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PasswordServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private PasswordService passwordService;
+
+    @AfterEach
+    void tearDown() {
+        passwordService.shutdown();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        passwordService = new PasswordService(blockingEncoder(started, release), userRepository, 4, 1, 1, 10_000);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordService.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordService.encode("b"));
+        while (passwordService.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        long before = System.nanoTime();
+        assertThatThrownBy(() -> passwordService.encode("c")).isInstanceOf(ServiceBusyException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - before)).isLessThan(1_000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash-b");
+    }
+
+    @Test
+    void rehashesOnLoginWhenCostChanges() throws Exception {
+        String oldHash = new BCryptPasswordEncoder(4).encode("password1234");
+        Users user = userRepository.save(Users.builder()
+                .email("customer@choplan.com")
+                .passwordHash(oldHash)
+                .realName("고객")
+                .role(UserRole.CUSTOMER)
+                .build());
+        passwordService = new PasswordService(new BCryptPasswordEncoder(5), userRepository, 5, 1, 8, 10_000);
+
+        assertThat(passwordService.matches(user, "wrong-password")).isFalse();
+        assertThat(passwordService.matches(user, "password1234")).isTrue();
+
+        String newHash = oldHash;
+        for (int i = 0; i < 100 && newHash.equals(oldHash); i++) {
+            Thread.sleep(50);
+            newHash = userRepository.findById(user.getUserId()).orElseThrow().getPasswordHash();
+        }
+        assertThat(newHash).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("password1234", newHash)).isTrue();
+        assertThat(passwordService.needsRehash(newHash)).isFalse();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import choplan.db.application.properties.choplan.dto.BulkReservationResult;
+import choplan.db.application.properties.choplan.dto.CursorPage;
+import choplan.db.application.properties.choplan.dto.ReservationDetail;
+import choplan.db.application.properties.choplan.dto.ReservationSummary;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.ReservationTransition;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 예약 목록 조회 / 일괄 처리 시 예약 건수와 무관하게 쿼리 수가 일정한지 검증 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ReservationService.class, UserNameResolver.class, ReservationSlotService.class})
+class ReservationServiceQueryCountTest {
+
+    private static final long RESTAURANT_ID = 1L;
+    private static final int RESERVATION_COUNT = 50;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstReservationId;
+
+    @BeforeEach
+    void setUp() {
+        Users[] users = new Users[5];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = Users.builder()
+                    .email("user" + i + "@choplan.com")
+                    .passwordHash("hash")
+                    .realName("사용자" + i)
+                    .nickname("닉네임" + i)
+                    .role(UserRole.CUSTOMER)
+                    .build();
+            entityManager.persist(users[i]);
+        }
+
+        for (int i = 0; i < RESERVATION_COUNT; i++) {
+            Reservation reservation = Reservation.builder()
+                    .userId(users[i % users.length].getUserId())
+                    .restaurantId(RESTAURANT_ID)
+                    .userName("입력이름")
+                    .userPhone("01012345678")
+                    .reservationDate(LocalDate.now())
+                    .reservationTime(LocalTime.NOON)
+                    .guests(2)
+                    .visitStatus(Reservation.VisitStatus.NO_SHOW)
+                    .isBlacklisted(true)
+                    .build();
+            entityManager.persist(reservation);
+            if (firstReservationId == null) {
+                firstReservationId = reservation.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listEndpointsIssueConstantQueryCount() {
+        assertTwoQueries(() -> reservationService.getRestaurantReservations(RESTAURANT_ID, null, PAGE_SIZE));
+        assertTwoQueries(() -> reservationService.getOwnerReservations(1L, RESTAURANT_ID, null, PAGE_SIZE));
+        assertTwoQueries(() -> reservationService.getAllReservations(null, PAGE_SIZE));
+        assertTwoQueries(() -> reservationService.getReservationsByVisitStatus(
+                Reservation.VisitStatus.NO_SHOW, null, PAGE_SIZE));
+        assertTwoQueries(() -> reservationService.getBlacklistedReservations(null, PAGE_SIZE));
+    }
+
+    @Test
+    void cursorWalksAllReservationsWithoutGapsOrDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<ReservationSummary> page = reservationService.getAllReservations(cursor, 20);
+            page.getItems().forEach(r -> seen.add(r.id()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(RESERVATION_COUNT).doesNotHaveDuplicates();
+        // 같은 createdAt 이면 id 내림차순
+        assertThat(seen).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void bulkTransitionIssuesConstantQueryCount() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = firstReservationId; id < firstReservationId + RESERVATION_COUNT; id++) {
+            ids.add(id);
+        }
+        ids.add(-1L);
+
+        BulkReservationResult approved = reservationService.bulkTransition(ids, ReservationTransition.APPROVE, null);
+
+        assertThat(approved.getSucceeded()).isEqualTo(RESERVATION_COUNT);
+        assertThat(approved.getResults()).last()
+                .satisfies(item -> assertThat(item.isSuccess()).isFalse());
+        // 상태 조회 1회 + 조건부 UPDATE 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        BulkReservationResult again = reservationService.bulkTransition(ids, ReservationTransition.APPROVE, null);
+
+        assertThat(again.getSucceeded()).isZero();
+        assertThat(again.getResults()).first()
+                .satisfies(item -> assertThat(item.getStatus()).isEqualTo("APPROVED"));
+        // 전이 가능한 예약이 없으면 UPDATE 생략
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void singleTransitionReadsOnceAndUpdatesOnce() {
+        Reservation approved = reservationService.approveReservation(firstReservationId);
+
+        assertThat(approved.getStatus()).isEqualTo(Reservation.ReservationStatus.APPROVED);
+        // 예약 조회 1회 + 조건부 UPDATE 1회 (UPDATE 후 다시 조회하지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        Reservation cancelled = reservationService.cancelReservation(firstReservationId);
+
+        assertThat(cancelled.getStatus()).isEqualTo(Reservation.ReservationStatus.CANCELLED_PENDING);
+        // 취소 / 취소 요청 중 조회한 상태에 맞는 UPDATE 하나만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entityManager.find(Reservation.class, firstReservationId).getStatus())
+                .isEqualTo(Reservation.ReservationStatus.CANCELLED_PENDING);
+    }
+
+    @Test
+    void getReservationByIdResolvesNickname() {
+        ReservationDetail reservation = reservationService.getReservationById(firstReservationId);
+
+        assertThat(reservation.userName()).isEqualTo("닉네임0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void assertTwoQueries(Supplier<CursorPage<ReservationSummary>> call) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<ReservationSummary> reservations = call.get().getItems();
+
+        assertThat(reservations).hasSize(RESERVATION_COUNT);
+        assertThat(reservations).allSatisfy(r -> assertThat(r.userName()).startsWith("닉네임"));
+        // 예약 목록 1회 + 사용자 이름 IN 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
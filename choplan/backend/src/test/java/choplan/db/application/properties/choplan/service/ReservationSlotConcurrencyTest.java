@@ -0,0 +1,113 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.dto.ReservationRequest;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.repository.ReservationSlotRepository;
+
+/**
+ * 동시 예약 시 시간대 좌석 수를 넘겨 예약되지 않는지 검증
+ * - 각 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest(properties = "reservation.slot.default-capacity=10")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReservationService.class, UserNameResolver.class, ReservationSlotService.class})
+class ReservationSlotConcurrencyTest {
+
+    private static final long RESTAURANT_ID = 77L;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final LocalTime TIME = LocalTime.of(18, 0);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        slotRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentBookingsNeverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        Callable<Boolean> book = () -> {
+            try {
+                reservationService.createReservation(request(2));
+                return true;
+            } catch (IllegalStateException soldOut) {
+                return false;
+            }
+        };
+        for (int i = 0; i < 20; i++) {
+            results.add(executor.submit(book));
+        }
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // 좌석 10석 / 2인 예약 → 정확히 5건
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(reservationRepository.count()).isEqualTo(5);
+        assertThat(slotRepository.findAll()).singleElement()
+                .satisfies(slot -> assertThat(slot.getRemainingSeats()).isZero());
+    }
+
+    @Test
+    void cancellationReturnsSeats() {
+        Reservation first = reservationService.createReservation(request(6));
+        reservationService.createReservation(request(4));
+
+        assertThatThrownBy(() -> reservationService.createReservation(request(1)))
+                .isInstanceOf(IllegalStateException.class);
+
+        reservationService.cancelReservation(first.getId());
+
+        reservationService.createReservation(request(6));
+        assertThat(slotRepository.findAll()).singleElement()
+                .satisfies(slot -> assertThat(slot.getRemainingSeats()).isZero());
+    }
+
+    private ReservationRequest request(int guests) {
+        ReservationRequest request = new ReservationRequest();
+        request.setUserId(1L);
+        request.setRestaurantId(RESTAURANT_ID);
+        request.setUserName("예약자");
+        request.setUserPhone("01012345678");
+        request.setReservationDate(DATE);
+        request.setReservationTime(TIME);
+        request.setGuests(guests);
+        return request;
+    }
+}
@@ -0,0 +1,178 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.dto.ReservationEvent;
+import choplan.db.application.properties.choplan.dto.ReservationRequest;
+import choplan.db.application.properties.choplan.dto.VisitStatusRequest;
+import choplan.db.application.properties.choplan.entity.Reservation;
+import choplan.db.application.properties.choplan.entity.Reservation.ReservationStatus;
+import choplan.db.application.properties.choplan.entity.Reservation.VisitStatus;
+import choplan.db.application.properties.choplan.entity.ReservationTransition;
+import choplan.db.application.properties.choplan.repository.ReservationRepository;
+import choplan.db.application.properties.choplan.repository.ReservationSlotRepository;
+
+/**
+ * 예약 / 방문 상태 전이표 검증
+ */
+@DataJpaTest(properties = "reservation.slot.default-capacity=10")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReservationService.class, UserNameResolver.class, ReservationSlotService.class})
+@RecordApplicationEvents
+class ReservationTransitionTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        slotRepository.deleteAll();
+    }
+
+    @Test
+    void approveOnlyFromPending() {
+        Long id = reservationService.createReservation(request(2)).getId();
+
+        assertThat(reservationService.approveReservation(id).getStatus()).isEqualTo(ReservationStatus.APPROVED);
+        assertThatThrownBy(() -> reservationService.approveReservation(id))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void cancelApprovedReservationRequiresOwnerApproval() {
+        Long id = reservationService.createReservation(request(2)).getId();
+        reservationService.approveReservation(id);
+
+        assertThat(reservationService.cancelReservation(id).getStatus()).isEqualTo(ReservationStatus.CANCELLED_PENDING);
+        // 취소 요청 중에는 다시 승인할 수 없음
+        assertThatThrownBy(() -> reservationService.approveReservation(id))
+                .isInstanceOf(IllegalStateException.class);
+
+        Reservation rejected = reservationService.rejectCancellation(id, "당일 취소 불가");
+        assertThat(rejected.getStatus()).isEqualTo(ReservationStatus.APPROVED);
+        assertThat(rejected.getRejectionReason()).isEqualTo("당일 취소 불가");
+    }
+
+    @Test
+    void rejectAndApprovedCancellationReturnSeats() {
+        Long rejected = reservationService.createReservation(request(4)).getId();
+        Long cancelled = reservationService.createReservation(request(6)).getId();
+
+        reservationService.rejectReservation(rejected, "만석");
+        reservationService.approveReservation(cancelled);
+        reservationService.cancelReservation(cancelled);
+        reservationService.approveCancellation(cancelled);
+
+        assertThat(slotRepository.findAll()).singleElement()
+                .satisfies(slot -> assertThat(slot.getRemainingSeats()).isEqualTo(10));
+    }
+
+    @Test
+    void visitStatusFollowsTransitionTable() {
+        Long id = reservationService.createReservation(request(2)).getId();
+
+        // 승인 전에는 방문 상태를 기록할 수 없음
+        assertThatThrownBy(() -> reservationService.updateVisitStatus(visit(id, "NO_SHOW", null)))
+                .isInstanceOf(IllegalStateException.class);
+
+        reservationService.approveReservation(id);
+        Reservation visited = reservationService.updateVisitStatus(visit(id, "VISITED", null));
+
+        assertThat(visited.getVisitStatus()).isEqualTo(VisitStatus.VISITED);
+        assertThat(visited.getStatus()).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(visited.getVisitConfirmedAt()).isNotNull();
+        assertThatThrownBy(() -> reservationService.updateVisitStatus(visit(id, "NO_SHOW", "지각")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void blacklistKeepsReason() {
+        Long id = reservationService.createReservation(request(2)).getId();
+        reservationService.approveReservation(id);
+        reservationService.updateVisitStatus(visit(id, "NO_SHOW", "연락 두절"));
+
+        Reservation blacklisted = reservationService.updateVisitStatus(visit(id, "BLACKLISTED", "반복 노쇼"));
+
+        assertThat(blacklisted.getIsBlacklisted()).isTrue();
+        assertThat(blacklisted.getNoShowReason()).isEqualTo("연락 두절");
+        assertThat(blacklisted.getBlacklistReason()).isEqualTo("반복 노쇼");
+    }
+
+    @Test
+    void rejectRequiresReason() {
+        Long id = reservationService.createReservation(request(2)).getId();
+
+        assertThatThrownBy(() -> reservationService.rejectReservation(id, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationService.bulkTransition(List.of(id), ReservationTransition.REJECT, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reservationRepository.findById(id)).get()
+                .satisfies(reservation -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PENDING));
+    }
+
+    @Test
+    void unknownReservationIsReportedAsNotFound() {
+        assertThatThrownBy(() -> reservationService.approveReservation(-1L))
+                .hasMessage("예약을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void statusChangesArePublishedForPush() {
+        Long id = reservationService.createReservation(request(2)).getId();
+        reservationService.approveReservation(id);
+        reservationService.bulkUpdateVisitStatus(List.of(id), "VISITED", null);
+
+        assertThat(events.stream(ReservationEvent.class))
+                .extracting(ReservationEvent::getType, ReservationEvent::getStatus, ReservationEvent::getUserId)
+                .containsExactly(
+                        tuple(ReservationEvent.CREATED, "PENDING", 1L),
+                        tuple(ReservationEvent.STATUS_CHANGED, "APPROVED", 1L),
+                        tuple(ReservationEvent.VISIT_STATUS_CHANGED, "COMPLETED", 1L));
+    }
+
+    private ReservationRequest request(int guests) {
+        ReservationRequest request = new ReservationRequest();
+        request.setUserId(1L);
+        request.setRestaurantId(5L);
+        request.setUserName("예약자");
+        request.setUserPhone("01012345678");
+        request.setReservationDate(LocalDate.of(2030, 1, 1));
+        request.setReservationTime(LocalTime.of(12, 0));
+        request.setGuests(guests);
+        return request;
+    }
+
+    private VisitStatusRequest visit(Long id, String status, String reason) {
+        VisitStatusRequest request = new VisitStatusRequest();
+        request.setReservationId(id);
+        request.setVisitStatus(status);
+        request.setReason(reason);
+        return request;
+    }
+}
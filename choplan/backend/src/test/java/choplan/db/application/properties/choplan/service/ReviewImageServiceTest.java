@@ -0,0 +1,177 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.dto.ReviewImageResponse;
+import choplan.db.application.properties.choplan.entity.ReviewImage;
+import choplan.db.application.properties.choplan.repository.ContentBlobRepository;
+import choplan.db.application.properties.choplan.repository.ReviewImageRepository;
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 리뷰 이미지 검증 / 원본 저장 / 백그라운드 축소본 생성 검증
+ * - 축소본은 커밋된 행을 다른 스레드에서 읽으므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest(properties = {
+        "choplan.review-image.max-pixels=4000000",
+        "choplan.review-image.max-count=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReviewImageService.class, ContentStoreService.class, FileStorageService.class, StorageMetrics.class,
+        ReviewImageServiceTest.LocalStorageConfig.class})
+class ReviewImageServiceTest {
+
+    @Autowired
+    private ReviewImageService reviewImageService;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Autowired
+    private LocalObjectStorage storage;
+
+    @AfterEach
+    void tearDown() {
+        reviewImageRepository.deleteAll();
+        contentBlobRepository.deleteAll();
+    }
+
+    @Test
+    void originalIsStoredAndRenditionsAreGeneratedInBackground() throws IOException {
+        byte[] png = png(2000, 1500, Color.ORANGE);
+        ReviewImageResponse uploaded = reviewImageService.upload(1L, List.of(file("photo.png", png))).get(0);
+
+        assertThat(uploaded.url()).startsWith("/media/review-images/").endsWith(".png");
+        assertThat(uploaded.width()).isEqualTo(2000);
+        assertThat(uploaded.height()).isEqualTo(1500);
+
+        ReviewImage ready = awaitReady(uploaded.imageId());
+        BufferedImage thumbnail = read(ready.getThumbnailKey());
+        BufferedImage medium = read(ready.getMediumKey());
+        assertThat(thumbnail.getWidth()).isEqualTo(240);
+        assertThat(thumbnail.getHeight()).isEqualTo(180);
+        assertThat(medium.getWidth()).isEqualTo(960);
+        assertThat(reviewImageService.find(ready.getId()).thumbnailUrl())
+                .isEqualTo("/media/" + ready.getThumbnailKey());
+    }
+
+    @Test
+    void sameImageReusesExistingRenditions() throws IOException {
+        byte[] png = png(800, 600, Color.BLUE);
+        ReviewImage first = awaitReady(reviewImageService.upload(1L, List.of(file("a.png", png))).get(0).imageId());
+
+        ReviewImageResponse second = reviewImageService.upload(2L, List.of(file("b.png", png))).get(0);
+
+        assertThat(second.status()).isEqualTo("READY");
+        assertThat(second.url()).isEqualTo("/media/" + first.getOriginalKey());
+        assertThat(second.thumbnailUrl()).isEqualTo("/media/" + first.getThumbnailKey());
+    }
+
+    @Test
+    void invalidImagesAreRejectedBeforeAnythingIsStored() {
+        byte[] valid = png(100, 100, Color.GREEN);
+
+        assertThatThrownBy(() -> reviewImageService.upload(1L, List.of(file("ok.png", valid),
+                file("fake.png", "<html>not an image</html>".getBytes(StandardCharsets.UTF_8)))))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 헤더의 해상도만으로 거부 (max-pixels=4000000)
+        assertThatThrownBy(() -> reviewImageService.upload(1L, List.of(file("huge.png", png(2500, 2000, Color.RED)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2500x2000");
+        assertThatThrownBy(() -> reviewImageService.upload(1L,
+                List.of(file("1.png", valid), file("2.png", valid), file("3.png", valid))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(reviewImageRepository.count()).isZero();
+        assertThat(contentBlobRepository.count()).isZero();
+    }
+
+    private ReviewImage awaitReady(Long imageId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ReviewImage image = reviewImageRepository.findById(imageId).orElseThrow();
+        while (image.getStatus() == ReviewImage.Status.PROCESSING && System.currentTimeMillis() < deadline) {
+            sleep();
+            image = reviewImageRepository.findById(imageId).orElseThrow();
+        }
+        assertThat(image.getStatus()).as("실패 사유: %s", image.getLastError()).isEqualTo(ReviewImage.Status.READY);
+        return image;
+    }
+
+    private BufferedImage read(String key) throws IOException {
+        long size = storage.stat(key).orElseThrow().size();
+        try (InputStream in = storage.open(key, 0, size)) {
+            return ImageIO.read(in);
+        }
+    }
+
+    private static byte[] png(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.drawLine(0, 0, width - 1, height - 1);
+        graphics.dispose();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/png", content);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class LocalStorageConfig {
+
+        @Bean
+        LocalObjectStorage localObjectStorage() throws IOException {
+            return new LocalObjectStorage("build/test-storage", "/media");
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
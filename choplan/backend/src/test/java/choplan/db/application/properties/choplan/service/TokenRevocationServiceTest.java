@@ -0,0 +1,111 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import choplan.db.application.properties.choplan.entity.CustomerStatus;
+import choplan.db.application.properties.choplan.entity.TokenRevocation;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.TokenRevocationRepository;
+import choplan.db.application.properties.choplan.security.InProcessRevocationChannel;
+import choplan.db.application.properties.choplan.security.JwtKeyRing;
+import choplan.db.application.properties.choplan.security.JwtTokenProvider;
+import choplan.db.application.properties.choplan.security.RevokedSubjects;
+import choplan.db.application.properties.choplan.security.UserStatusCache;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({TokenRevocationService.class, RevokedSubjects.class, UserStatusCache.class,
+        InProcessRevocationChannel.class, JwtTokenProvider.class, JwtKeyRing.class})
+// 무효화는 커밋 후에 반영되므로 테스트 트랜잭션 없이 직접 커밋 / 롤백
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private RevokedSubjects revokedSubjects;
+
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRevocationRepository.deleteAll();
+    }
+
+    @Test
+    void onlyDeactivationRevokesTokens() {
+        long issuedAt = System.currentTimeMillis() - 2_000;
+
+        changeStatus(customer(1L, CustomerStatus.ACTIVE));
+        assertThat(revokedSubjects.isRevoked(1L, issuedAt)).isFalse();
+        assertThat(tokenRevocationRepository.findById(1L)).isEmpty();
+
+        changeStatus(customer(1L, CustomerStatus.SUSPENDED));
+        assertThat(revokedSubjects.isRevoked(1L, issuedAt)).isTrue();
+        assertThat(tokenRevocationRepository.findById(1L)).isPresent();
+    }
+
+    @Test
+    void rolledBackStatusChangeDoesNotRevokeTokens() {
+        long issuedAt = System.currentTimeMillis() - 2_000;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenRevocationService.onStatusChanged(customer(2L, CustomerStatus.SUSPENDED));
+            // 커밋 전에는 메모리에 반영하지 않음
+            assertThat(revokedSubjects.isRevoked(2L, issuedAt)).isFalse();
+            status.setRollbackOnly();
+        });
+
+        assertThat(revokedSubjects.isRevoked(2L, issuedAt)).isFalse();
+        assertThat(tokenRevocationRepository.findById(2L)).isEmpty();
+    }
+
+    @Test
+    void revocationsAreReloadedAtStartup() {
+        long now = System.currentTimeMillis();
+        tokenRevocationRepository.save(new TokenRevocation(5L, now));
+        // 리프레시 토큰 유효 기간보다 오래된 항목은 읽지 않음
+        tokenRevocationRepository.save(new TokenRevocation(6L, now - 30L * 24 * 60 * 60 * 1000));
+
+        RevokedSubjects restarted = new RevokedSubjects();
+        new TokenRevocationService(tokenRevocationRepository, restarted, userStatusCache,
+                new InProcessRevocationChannel(), event -> { }, jwtTokenProvider).load();
+
+        assertThat(restarted.isRevoked(5L, now - 2_000)).isTrue();
+        assertThat(restarted.size()).isEqualTo(1);
+    }
+
+    private void changeStatus(Users user) {
+        transactionTemplate.executeWithoutResult(status -> tokenRevocationService.onStatusChanged(user));
+    }
+
+    private Users customer(Long userId, CustomerStatus status) {
+        return Users.builder()
+                .userId(userId)
+                .role(UserRole.CUSTOMER)
+                .customerStatus(status)
+                .build();
+    }
+}
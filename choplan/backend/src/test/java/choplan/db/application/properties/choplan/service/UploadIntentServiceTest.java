@@ -0,0 +1,192 @@
+package choplan.db.application.properties.choplan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import choplan.db.application.properties.choplan.dto.UploadIntentResponse;
+import choplan.db.application.properties.choplan.entity.OwnerStatus;
+import choplan.db.application.properties.choplan.entity.UploadIntent;
+import choplan.db.application.properties.choplan.entity.UserRole;
+import choplan.db.application.properties.choplan.entity.Users;
+import choplan.db.application.properties.choplan.repository.UploadIntentRepository;
+import choplan.db.application.properties.choplan.repository.UserRepository;
+import choplan.db.application.properties.choplan.storage.LocalObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 직접 업로드 (서명된 URL 발급 → 클라이언트 업로드 → 완료 검증) 흐름 검증
+ * - 로컬 저장소의 서명 URL 로 클라이언트 업로드를 흉내 냄
+ */
+@DataJpaTest(properties = "choplan.storage.upload-intent.expiry-grace-ms=0")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UploadIntentService.class, ContentStoreService.class, FileStorageService.class, StorageMetrics.class,
+        UploadIntentServiceTest.LocalStorageConfig.class})
+class UploadIntentServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.7\n%사업자등록증".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private UploadIntentService uploadIntentService;
+
+    @Autowired
+    private UploadIntentRepository uploadIntentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocalObjectStorage storage;
+
+    @AfterEach
+    void tearDown() {
+        uploadIntentRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void completedBusinessDocumentIsAttachedToOwner() throws IOException {
+        Users owner = owner("direct1@choplan.com");
+        UploadIntentResponse intent = uploadIntentService.issue(owner.getUserId(), UploadIntent.Purpose.BUSINESS_DOC,
+                "application/pdf", (long) PDF.length);
+        assertThat(intent.headers()).containsEntry("Content-Type", "application/pdf");
+
+        upload(intent, "application/pdf", PDF);
+        String url = uploadIntentService.completeBusinessDocument(intent.intentId());
+
+        assertThat(url).isEqualTo("/media/" + intent.objectKey());
+        Users saved = userRepository.findById(owner.getUserId()).orElseThrow();
+        assertThat(saved.getOwnerStatus()).isEqualTo(OwnerStatus.PENDING);
+        assertThat(saved.getBusinessRegistrationDoc()).isEqualTo(url);
+        // 완료 요청을 다시 보내도 같은 결과
+        assertThat(uploadIntentService.completeBusinessDocument(intent.intentId())).isEqualTo(url);
+        assertThat(uploadIntentRepository.findById(intent.intentId()).orElseThrow().getStatus())
+                .isEqualTo(UploadIntent.Status.COMPLETED);
+    }
+
+    @Test
+    void uploadThatIsNotWhatWasDeclaredIsDeletedAndCanBeRetried() throws IOException {
+        Users owner = owner("direct2@choplan.com");
+        UploadIntentResponse intent = uploadIntentService.issue(owner.getUserId(), UploadIntent.Purpose.BUSINESS_DOC,
+                "application/pdf", (long) PDF.length);
+
+        // 확장자 / 헤더만 PDF 인 다른 파일
+        byte[] disguised = Arrays.copyOf("MZ not a pdf".getBytes(StandardCharsets.US_ASCII), PDF.length);
+        upload(intent, "application/pdf", disguised);
+        assertThatThrownBy(() -> uploadIntentService.completeBusinessDocument(intent.intentId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("application/pdf");
+        assertThat(storage.stat(intent.objectKey())).isEmpty();
+        assertThat(userRepository.findById(owner.getUserId()).orElseThrow().getOwnerStatus())
+                .isEqualTo(OwnerStatus.PENDING_DOCUMENT);
+
+        upload(intent, "application/pdf", PDF);
+        assertThat(uploadIntentService.completeBusinessDocument(intent.intentId())).endsWith(intent.objectKey());
+    }
+
+    @Test
+    void intentIsValidatedOnIssueAndScopedToItsOwner() throws IOException {
+        Users customer = userRepository.save(Users.builder()
+                .email("reviewer@choplan.com")
+                .passwordHash("hash")
+                .realName("리뷰어")
+                .role(UserRole.CUSTOMER)
+                .build());
+
+        assertThatThrownBy(() -> uploadIntentService.issue(customer.getUserId(), UploadIntent.Purpose.REVIEW_IMAGE,
+                "image/svg+xml", 100L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadIntentService.issue(customer.getUserId(), UploadIntent.Purpose.REVIEW_IMAGE,
+                "image/png", 6L * 1024 * 1024)).isInstanceOf(IllegalArgumentException.class);
+
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+        UploadIntentResponse intent = uploadIntentService.issue(customer.getUserId(),
+                UploadIntent.Purpose.REVIEW_IMAGE, "image/png", (long) png.length);
+        upload(intent, "image/png", png);
+
+        // 다른 사용자 / 로그인 전 점주용 완료 경로로는 완료할 수 없음
+        assertThatThrownBy(() -> uploadIntentService.complete(intent.intentId(), customer.getUserId() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadIntentService.completeBusinessDocument(intent.intentId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(uploadIntentService.complete(intent.intentId(), customer.getUserId()))
+                .startsWith("/media/review-images/").endsWith(".png");
+    }
+
+    @Test
+    void expiredIntentIsSweptAndItsObjectDeleted() throws IOException {
+        Users owner = owner("direct3@choplan.com");
+        UploadIntentResponse intent = uploadIntentService.issue(owner.getUserId(), UploadIntent.Purpose.BUSINESS_DOC,
+                "application/pdf", (long) PDF.length);
+        upload(intent, "application/pdf", PDF);
+
+        UploadIntent stored = uploadIntentRepository.findById(intent.intentId()).orElseThrow();
+        stored.setExpiresAt(System.currentTimeMillis() - 1);
+        uploadIntentRepository.save(stored);
+
+        uploadIntentService.expireStale();
+
+        assertThat(uploadIntentRepository.findById(intent.intentId()).orElseThrow().getStatus())
+                .isEqualTo(UploadIntent.Status.EXPIRED);
+        assertThat(storage.stat(intent.objectKey())).isEmpty();
+        assertThatThrownBy(() -> uploadIntentService.completeBusinessDocument(intent.intentId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료");
+    }
+
+    private Users owner(String email) {
+        return userRepository.save(Users.builder()
+                .email(email)
+                .passwordHash("hash")
+                .realName("점주")
+                .role(UserRole.OWNER)
+                .ownerStatus(OwnerStatus.PENDING_DOCUMENT)
+                .build());
+    }
+
+    // 클라이언트가 발급받은 URL 로 PUT 하는 것과 같음 (LocalUploadController)
+    private void upload(UploadIntentResponse intent, String contentType, byte[] content) throws IOException {
+        String query = intent.uploadUrl().substring(intent.uploadUrl().indexOf('?') + 1);
+        long expires = 0;
+        String signature = null;
+        for (String pair : query.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts[0].equals("expires")) {
+                expires = Long.parseLong(parts[1]);
+            } else if (parts[0].equals("signature")) {
+                signature = parts[1];
+            }
+        }
+        storage.putPresigned(intent.objectKey(), contentType, content.length, expires, signature,
+                new ByteArrayInputStream(content));
+    }
+
+    @TestConfiguration
+    static class LocalStorageConfig {
+
+        @Bean
+        LocalObjectStorage localObjectStorage() throws IOException {
+            return new LocalObjectStorage("build/test-storage", "/media", "/storage/local-upload", "test-secret");
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
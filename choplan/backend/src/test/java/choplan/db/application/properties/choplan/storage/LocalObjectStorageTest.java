@@ -0,0 +1,116 @@
+package choplan.db.application.properties.choplan.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import choplan.db.application.properties.choplan.service.FileStorageService;
+import choplan.db.application.properties.choplan.service.StorageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void putStoresContentUnderKeyAndDeleteRemovesIt() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "/media/");
+        byte[] content = "사업자등록증".getBytes(StandardCharsets.UTF_8);
+
+        String url = storage.put("business-docs/a.pdf", new ByteArrayInputStream(content), content.length,
+                "application/pdf");
+
+        assertThat(url).isEqualTo("/media/business-docs/a.pdf");
+        assertThat(root.resolve("business-docs/a.pdf")).hasBinaryContent(content);
+        // 임시 파일이 남지 않아야 함
+        assertThat(Files.list(root.resolve("business-docs"))).hasSize(1);
+
+        storage.delete("business-docs/a.pdf");
+        storage.delete("business-docs/a.pdf");
+        assertThat(root.resolve("business-docs/a.pdf")).doesNotExist();
+    }
+
+    @Test
+    void truncatedUploadAndPathTraversalAreRejected() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "/media");
+
+        assertThatThrownBy(() -> storage.put("short.pdf", new ByteArrayInputStream(new byte[3]), 10, "application/pdf"))
+                .isInstanceOf(IOException.class);
+        assertThat(root.resolve("short.pdf")).doesNotExist();
+
+        assertThatThrownBy(() -> storage.put("../escape.pdf", new ByteArrayInputStream(new byte[1]), 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fileStorageServiceRecordsUploadsWithBackendTag() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FileStorageService service = new FileStorageService(
+                new LocalObjectStorage(root.toString(), "/media"), new StorageMetrics(registry),
+                new StaticListableBeanFactory().getBeanProvider(MediaCache.class));
+
+        Path spooled = Files.write(Files.createTempFile(root, "spool", ".pdf"), new byte[1024]);
+
+        String url = service.upload("business-doc", "business-docs/doc.pdf", spooled, "application/pdf");
+
+        assertThat(url).isEqualTo("/media/business-docs/doc.pdf");
+        assertThat(service.keyOf(url)).isEqualTo("business-docs/doc.pdf");
+        assertThat(service.keyOf("https://example.com/doc.pdf")).isNull();
+        assertThat(registry.get(StorageMetrics.UPLOAD_TIMER)
+                .tag("backend", "local").tag("purpose", "business-doc").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void presignedUploadOnlyAcceptsSignedTypeAndSize() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "/media", "/storage/local-upload", "secret");
+        byte[] content = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+
+        PresignedUpload upload = storage.presignPut("business-docs/b.pdf", "application/pdf", content.length,
+                Duration.ofMinutes(10));
+        assertThat(upload.url()).startsWith("/storage/local-upload/business-docs/b.pdf?expires=");
+        assertThat(upload.headers()).containsEntry("Content-Length", String.valueOf(content.length));
+        long expires = Long.parseLong(queryParam(upload.url(), "expires"));
+        String signature = queryParam(upload.url(), "signature");
+
+        // 서명과 다른 형식 / 크기, 만료된 URL 은 거절
+        assertThatThrownBy(() -> storage.putPresigned("business-docs/b.pdf", "image/png", content.length, expires,
+                signature, new ByteArrayInputStream(content))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.putPresigned("business-docs/b.pdf", "application/pdf", 1, expires,
+                signature, new ByteArrayInputStream(content))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.putPresigned("business-docs/b.pdf", "application/pdf", content.length,
+                Instant.now().getEpochSecond() - 1, signature, new ByteArrayInputStream(content)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(storage.stat("business-docs/b.pdf")).isEmpty();
+
+        storage.putPresigned("business-docs/b.pdf", "application/pdf", content.length, expires, signature,
+                new ByteArrayInputStream(content));
+
+        assertThat(storage.stat("business-docs/b.pdf")).contains(new StoredObject(content.length, null));
+        try (InputStream in = storage.open("business-docs/b.pdf", 1, 3)) {
+            assertThat(in.readAllBytes()).isEqualTo("PDF".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static String queryParam(String url, String name) {
+        for (String pair : url.substring(url.indexOf('?') + 1).split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
@@ -0,0 +1,131 @@
+package choplan.db.application.properties.choplan.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import choplan.db.application.properties.choplan.storage.MediaCache.CachedMedia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MediaCacheTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @TempDir
+    Path root;
+
+    @Test
+    void leastRecentlyUsedObjectsAreEvictedWithinBudget() throws IOException {
+        CountingStorage storage = storage();
+        storage.put("review-images/a.jpg", new byte[400]);
+        storage.put("review-images/b.jpg", new byte[400]);
+        storage.put("review-images/c.jpg", new byte[400]);
+        MediaCache cache = cache(storage, 1000, 1000);
+
+        Path a = cache.find("review-images/a.jpg").orElseThrow().file();
+        Path b = cache.find("review-images/b.jpg").orElseThrow().file();
+        cache.find("review-images/a.jpg");
+        cache.find("review-images/c.jpg");
+
+        // b 가 가장 오래 사용하지 않은 항목
+        assertThat(b).doesNotExist();
+        assertThat(a).exists();
+        assertThat(cache.getTotalBytes()).isEqualTo(800);
+        assertThat(storage.opens.get()).isEqualTo(3);
+
+        cache.find("review-images/b.jpg");
+        assertThat(storage.opens.get()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentMissesDownloadOnce() throws Exception {
+        CountingStorage storage = storage();
+        storage.put("review-images/" + HASH + ".jpg", new byte[10_000]);
+        storage.delay = new CountDownLatch(1);
+        MediaCache cache = cache(storage, 1_000_000, 1_000_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<CachedMedia>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.find("review-images/" + HASH + ".jpg").orElseThrow()));
+        }
+        Thread.sleep(100);
+        storage.delay.countDown();
+        for (Future<CachedMedia> result : results) {
+            CachedMedia media = result.get();
+            assertThat(Files.size(media.file())).isEqualTo(10_000);
+            assertThat(media.eTag()).isEqualTo("\"" + HASH + "\"");
+            assertThat(media.contentType()).isEqualTo("image/jpeg");
+        }
+        executor.shutdown();
+
+        assertThat(storage.opens.get()).isEqualTo(1);
+    }
+
+    @Test
+    void largeObjectsBypassCacheAndMissingObjectsAreEmpty() throws IOException {
+        CountingStorage storage = storage();
+        storage.put("business-docs/big.pdf", new byte[2000]);
+        MediaCache cache = cache(storage, 10_000, 1000);
+
+        CachedMedia big = cache.find("business-docs/big.pdf").orElseThrow();
+
+        assertThat(big.file()).isNull();
+        assertThat(big.size()).isEqualTo(2000);
+        assertThat(cache.getTotalBytes()).isZero();
+        assertThat(cache.find("business-docs/missing.pdf")).isEmpty();
+    }
+
+    private CountingStorage storage() throws IOException {
+        return new CountingStorage(root.resolve("storage"));
+    }
+
+    private MediaCache cache(ObjectStorage storage, long maxBytes, long maxObjectBytes) throws IOException {
+        return new MediaCache(storage, new SimpleMeterRegistry(), root.resolve("cache").toString(), maxBytes,
+                maxObjectBytes);
+    }
+
+    /**
+     * 저장소에서 읽은 횟수를 세는 로컬 저장소 (delay 가 있으면 풀릴 때까지 읽기를 지연)
+     */
+    private static final class CountingStorage extends LocalObjectStorage {
+
+        final AtomicInteger opens = new AtomicInteger();
+        volatile CountDownLatch delay;
+
+        CountingStorage(Path root) throws IOException {
+            super(root.toString(), "/media");
+        }
+
+        void put(String key, byte[] content) throws IOException {
+            put(key, new ByteArrayInputStream(content), content.length, null);
+        }
+
+        @Override
+        public InputStream open(String key, long offset, long length) throws IOException {
+            opens.incrementAndGet();
+            if (delay != null) {
+                try {
+                    delay.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.open(key, offset, length);
+        }
+    }
+}
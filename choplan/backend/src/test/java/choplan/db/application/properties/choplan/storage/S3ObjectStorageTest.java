@@ -0,0 +1,124 @@
+package choplan.db.application.properties.choplan.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+class S3ObjectStorageTest {
+
+    private static final int PART = S3ObjectStorage.MIN_PART_SIZE;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3ObjectStorage storage = new S3ObjectStorage(s3Client, mock(S3Presigner.class), "bucket", "ap-northeast-2", PART, PART);
+    private final List<Long> uploadedPartSizes = new ArrayList<>();
+
+    @Test
+    void smallObjectIsStreamedInSinglePut() throws IOException {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        String url = storage.put("docs/a.pdf", new GeneratedInputStream(1024), 1024, "application/pdf");
+
+        assertThat(url).isEqualTo("https://bucket.s3.ap-northeast-2.amazonaws.com/docs/a.pdf");
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void largeObjectIsUploadedInFixedSizeParts() throws IOException {
+        stubMultipart();
+        long size = PART * 2L + 123;
+
+        storage.put("docs/big.pdf", new GeneratedInputStream(size), size, "application/pdf");
+
+        assertThat(uploadedPartSizes).containsExactly((long) PART, (long) PART, 123L);
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(part -> part.partNumber() + ":" + part.eTag())
+                .containsExactly("1:etag-1", "2:etag-2", "3:etag-3");
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() {
+        stubMultipart();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("slow down").build());
+
+        assertThatThrownBy(() -> storage.put("docs/big.pdf", new GeneratedInputStream(PART * 2L), -1, null))
+                .isInstanceOf(S3Exception.class);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private void stubMultipart() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                uploadedPartSizes.add(in.transferTo(OutputStream.nullOutputStream()));
+            }
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+    }
+
+    /**
+     * 힙에 내용을 올리지 않고 지정한 길이만큼 바이트를 만들어내는 스트림
+     */
+    static final class GeneratedInputStream extends InputStream {
+
+        private long remaining;
+
+        GeneratedInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'x';
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(buffer, offset, offset + count, (byte) 'x');
+            remaining -= count;
+            return count;
+        }
+    }
+}
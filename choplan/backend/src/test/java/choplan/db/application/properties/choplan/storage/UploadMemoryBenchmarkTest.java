@@ -0,0 +1,159 @@
+package choplan.db.application.properties.choplan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import choplan.db.application.properties.choplan.storage.S3ObjectStorageTest.GeneratedInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 동시 대용량 업로드의 힙 사용량 측정 (./gradlew benchmark 로만 실행)
+ * - 20MB PDF 업로드 16건을 동시에 실행하고 업로드 1건당 힙 할당량과 OOM 건수를 출력
+ * - buffered: 기존 방식(getBytes 후 RequestBody.fromBytes) / streaming: S3ObjectStorage
+ * - S3 대신 본문을 읽어 버리기만 하는 클라이언트를 사용해 저장소 구현의 메모리 사용만 비교
+ */
+@Tag("benchmark")
+class UploadMemoryBenchmarkTest {
+
+    private static final int CONCURRENT_UPLOADS = 16;
+    private static final long FILE_SIZE = 20L * 1024 * 1024;
+    private static final int ROUNDS = 3;
+
+    private final S3Client s3Client = new DrainingS3Client();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void concurrentLargeUploadHeapUsage() throws Exception {
+        run("buffered", () -> {
+            try (InputStream in = new GeneratedInputStream(FILE_SIZE)) {
+                byte[] content = in.readAllBytes();
+                s3Client.putObject(PutObjectRequest.builder().bucket("b").key("doc.pdf").build(),
+                        RequestBody.fromBytes(content));
+            }
+        });
+
+        S3ObjectStorage storage = new S3ObjectStorage(s3Client, null, "b", "ap-northeast-2", 16L * 1024 * 1024,
+                8 * 1024 * 1024);
+        run("streaming", () -> {
+            try (InputStream in = new GeneratedInputStream(FILE_SIZE)) {
+                storage.put("doc.pdf", in, FILE_SIZE, "application/pdf");
+            }
+        });
+    }
+
+    private void run(String name, Upload upload) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        AtomicLong allocated = new AtomicLong();
+        AtomicLong outOfMemory = new AtomicLong();
+        System.gc();
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Future<?>> uploads = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                uploads.add(executor.submit(() -> {
+                    long before = threads.getCurrentThreadAllocatedBytes();
+                    try {
+                        upload.run();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (OutOfMemoryError e) {
+                        // 버퍼링 방식은 기본 테스트 힙(512MB)에서 실제로 OOM 이 나므로 실패 건수로 기록
+                        outOfMemory.incrementAndGet();
+                    }
+                    allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+                    return null;
+                }));
+            }
+            for (Future<?> future : uploads) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        int count = CONCURRENT_UPLOADS * ROUNDS;
+        System.out.printf("[benchmark] %s: %,.1f MB allocated/upload, %d/%d uploads failed with OutOfMemoryError "
+                        + "(%d x 20MB concurrent, %d rounds, %.2fs)%n",
+                name, allocated.get() / (double) count / (1024 * 1024), outOfMemory.get(), count,
+                CONCURRENT_UPLOADS, ROUNDS, seconds);
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        void run() throws IOException;
+    }
+
+    /**
+     * 요청 본문을 끝까지 읽어 버리기만 하는 S3 클라이언트 (네트워크 없이 본문 생성 비용만 남김)
+     */
+    private static final class DrainingS3Client implements S3Client {
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            drain(body);
+            return PutObjectResponse.builder().eTag("etag").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            return CreateMultipartUploadResponse.builder().uploadId("upload").build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            drain(body);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void drain(RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -15,12 +15,27 @@ export const authAPI = {
   resendVerificationEmail: (email) => axios.post(`${API_BASE_URL}/auth/resend-verification`, { email }),
 };
 
+// 예약 목록은 커서 단위로 나눠 내려오므로 X-Next-Cursor 헤더가 없을 때까지 이어 받아 한 배열로 합침
+const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+const getAllPages = async (url) => {
+  const items = [];
+  let cursor;
+  let response;
+  do {
+    response = await axios.get(url, { params: cursor ? { cursor } : {} });
+    items.push(...response.data);
+    cursor = response.headers[NEXT_CURSOR_HEADER];
+  } while (cursor);
+  return { ...response, data: items };
+};
+
 // Reservation API (실제 API 호출)
 export const reservationAPI = {
   create: (data) => axios.post(`${API_BASE_URL}/reservations`, data),
-  getUserReservations: (userId) => axios.get(`${API_BASE_URL}/reservations/user/${userId}`),
-  getRestaurantReservations: (restaurantId) => axios.get(`${API_BASE_URL}/reservations/restaurant/${restaurantId}`),
-  getAllReservations: () => axios.get(`${API_BASE_URL}/reservations`),
+  getUserReservations: (userId) => getAllPages(`${API_BASE_URL}/reservations/user/${userId}`),
+  getRestaurantReservations: (restaurantId) => getAllPages(`${API_BASE_URL}/reservations/restaurant/${restaurantId}`),
+  getAllReservations: () => axios.get(`${API_BASE_URL}/reservations/all`, { params: { stream: true } }), // 전체 목록을 한 번에 스트리밍
   approve: (id) => axios.put(`${API_BASE_URL}/reservations/${id}/approve`),
   reject: (id, reason) => axios.put(`${API_BASE_URL}/reservations/${id}/reject`, { reason }),
   cancel: (id) => axios.put(`${API_BASE_URL}/reservations/${id}/cancel`),